@@ -0,0 +1,27 @@
+package engine;
+
+import entity.BulletStoreBenchmark;
+import entity.collision.CollisionEngineBenchmark;
+import entity.collision.CollisionMaskBenchmark;
+import entity.collision.PackedBoundsBenchmark;
+
+/**
+ * Runs the timing benchmarks, which the unit tests leave out so they stay
+ * quiet and do not depend on how loaded the machine is.
+ * <p>
+ * Started with {@code gradlew benchmark}. Each benchmark prints a table of
+ * its measurements and asserts nothing about them.
+ * </p>
+ */
+public final class Benchmarks {
+
+    private Benchmarks() {
+    }
+
+    public static void main(final String[] args) {
+        BulletStoreBenchmark.run();
+        CollisionMaskBenchmark.run();
+        CollisionEngineBenchmark.run();
+        PackedBoundsBenchmark.run();
+    }
+}
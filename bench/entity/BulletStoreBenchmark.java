@@ -0,0 +1,37 @@
+package entity;
+
+import java.util.Random;
+
+/**
+ * Times the upkeep of a bullet store, moving and culling every bullet once
+ * per tick, for growing numbers of bullets.
+ */
+public final class BulletStoreBenchmark {
+
+    private static final int TICKS = 300;
+    /** Ticks run before timing, so the JIT has compiled the loops. */
+    private static final int WARMUP_TICKS = 100;
+
+    private BulletStoreBenchmark() {
+    }
+
+    public static void run() {
+        Random random = new Random(7);
+        System.out.println("bullets | us/tick (update + cull)");
+        for (int count : new int[] {1000, 10000, 50000}) {
+            BulletStore store = new BulletStore();
+            long nanos = 0;
+            for (int tick = 0; tick < TICKS; tick++) {
+                // Refill what left the field, as steady fire would.
+                while (store.size() < count)
+                    store.add(random.nextInt(1228), 40 + random.nextInt(600), random.nextBoolean() ? -5 : 5);
+                long start = System.nanoTime();
+                store.update();
+                store.cull(Integer.MIN_VALUE, 40, Integer.MAX_VALUE, 700);
+                if (tick >= WARMUP_TICKS)
+                    nanos += System.nanoTime() - start;
+            }
+            System.out.printf("%7d | %d%n", count, nanos / (TICKS - WARMUP_TICKS) / 1000);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package entity.collision;
+
+import entity.Entity;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares the cost per tick of every broadphase over moving scenes of
+ * growing size. JMH is not part of the build, so each measurement is a plain
+ * timed loop with a warm-up.
+ */
+public final class CollisionEngineBenchmark {
+
+    private static final int WIDTH = 1228;
+    private static final int HEIGHT = 700;
+    /** Ticks timed per engine and scene, after as many warm-up ticks. */
+    private static final int TICKS = 150;
+
+    private CollisionEngineBenchmark() {
+    }
+
+    /** Entity on a given layer that moves by a fixed step every tick. */
+    private static final class Mover extends Entity {
+        private final CollisionLayer layer;
+        private final int stepY;
+
+        Mover(final int x, final int y, final int w, final int h, final CollisionLayer layer, final int stepY) {
+            super(x, y, w, h, Color.WHITE);
+            this.layer = layer;
+            this.stepY = stepY;
+        }
+
+        @Override
+        public CollisionLayer getCollisionLayer() {
+            return layer;
+        }
+    }
+
+    /** A formation, two players and a stream of bullets, like a wave. */
+    private static final class Scene {
+        private final Random random;
+        private final List<Entity> entities = new ArrayList<>();
+        private final int bullets;
+        private int tick;
+
+        Scene(final int columns, final int rows, final int bulletCount, final long seed) {
+            this.random = new Random(seed);
+            entities.add(new Mover(300, 620, 26, 16, CollisionLayer.PLAYER, 0));
+            entities.add(new Mover(700, 620, 26, 16, CollisionLayer.PLAYER, 0));
+            for (int c = 0; c < columns; c++)
+                for (int r = 0; r < rows; r++)
+                    entities.add(new Mover(20 + c * 40, 100 + r * 40, 24, 16, CollisionLayer.ENEMY, 0));
+            this.bullets = entities.size();
+            for (int i = 0; i < bulletCount; i++)
+                entities.add(newBullet());
+        }
+
+        private Mover newBullet() {
+            boolean player = random.nextBoolean();
+            return new Mover(random.nextInt(WIDTH), 60 + random.nextInt(HEIGHT - 60), 6, 10,
+                    player ? CollisionLayer.PLAYER_BULLET : CollisionLayer.ENEMY_BULLET, player ? -5 : 5);
+        }
+
+        /** Moves everything and replaces the bullets that left the field. */
+        void step() {
+            tick++;
+            int formationStep = tick % 10 != 0 ? 0 : (tick / 40) % 2 == 0 ? 8 : -8;
+            for (int i = 2; i < bullets; i++)
+                entities.get(i).setPositionX(entities.get(i).getPositionX() + formationStep);
+            entities.get(0).setPositionX(300 + (tick * 3) % 400);
+            for (int i = bullets; i < entities.size(); i++) {
+                Mover bullet = (Mover) entities.get(i);
+                bullet.setPositionY(bullet.getPositionY() + bullet.stepY);
+                if (bullet.getPositionY() < 40 || bullet.getPositionY() > HEIGHT)
+                    entities.set(i, newBullet());
+            }
+        }
+    }
+
+    public static void run() {
+        int[][] scenarios = {{5, 4, 50}, {8, 5, 500}, {10, 6, 2000}, {16, 8, 5000}};
+        System.out.println("formation | bullets | engine          | us/tick | pair tests/tick");
+        for (int[] scenario : scenarios) {
+            for (CollisionEngine.Type type : CollisionEngine.Type.values()) {
+                if (type == CollisionEngine.Type.BRUTE_FORCE && scenario[2] > 2000)
+                    continue;
+                CollisionEngine engine = type.create(WIDTH, HEIGHT);
+                Scene scene = new Scene(scenario[0], scenario[1], scenario[2], 42);
+                long nanos = 0;
+                for (int tick = 0; tick < TICKS * 2; tick++) {
+                    List<Entity> entities = scene.entities;
+                    if (tick == TICKS)
+                        engine.resetPairTests();
+                    long start = System.nanoTime();
+                    engine.build(entities);
+                    for (int i = 0; i < entities.size(); i++) {
+                        int candidates = engine.queryCandidates(i);
+                        for (int k = 0; k < candidates; k++)
+                            Collisions.overlaps(entities.get(i), entities.get(engine.getCandidate(k)));
+                    }
+                    // The first half is warm-up.
+                    if (tick >= TICKS)
+                        nanos += System.nanoTime() - start;
+                    scene.step();
+                }
+                System.out.printf("%6dx%-2d | %7d | %-15s | %7d | %15d%n", scenario[0], scenario[1], scenario[2],
+                        type, nanos / TICKS / 1000, engine.getPairTests() / TICKS);
+            }
+        }
+    }
+}
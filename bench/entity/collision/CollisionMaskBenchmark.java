@@ -0,0 +1,68 @@
+package entity.collision;
+
+import entity.Entity;
+
+import java.awt.Color;
+import java.util.Random;
+
+/**
+ * Compares the throughput of box-only collision tests with box tests
+ * followed by a sprite mask test, for bullets around a hollow boss.
+ */
+public final class CollisionMaskBenchmark {
+
+    private static final int ROUNDS = 400;
+
+    private CollisionMaskBenchmark() {
+    }
+
+    /** Ring-shaped sprite, as large as the final boss, hollow in the middle. */
+    private static boolean[][] ring(final int w, final int h) {
+        boolean[][] sprite = new boolean[w][h];
+        for (int x = 0; x < w; x++)
+            for (int y = 0; y < h; y++)
+                sprite[x][y] = x < 3 || y < 3 || x >= w - 3 || y >= h - 3;
+        return sprite;
+    }
+
+    public static void run() {
+        CollisionMask boss = CollisionMask.fromSprite(ring(50, 40), CollisionMask.SCALE);
+        CollisionMask shot = CollisionMask.fromSprite(new boolean[][] {
+                {false, true, true, true, false}, {true, true, true, true, true}, {false, true, true, true, false}},
+                CollisionMask.SCALE);
+        Random random = new Random(3);
+        Entity bossBounds = new Entity(200, 100, 100, 80, Color.RED);
+        Entity[] bullets = new Entity[4096];
+        for (int i = 0; i < bullets.length; i++)
+            bullets[i] = new Entity(190 + random.nextInt(120), 90 + random.nextInt(100), 6, 10, Color.WHITE);
+
+        int boxHits = 0;
+        int maskHits = 0;
+        // Warm up both paths before timing.
+        for (int r = 0; r < ROUNDS / 4; r++)
+            for (Entity bullet : bullets) {
+                if (Collisions.overlaps(bossBounds, bullet)) boxHits++;
+                if (Collisions.overlaps(bossBounds, bullet)
+                        && CollisionMask.overlap(bossBounds, boss, bullet, shot)) maskHits++;
+            }
+
+        long start = System.nanoTime();
+        for (int r = 0; r < ROUNDS; r++)
+            for (Entity bullet : bullets)
+                if (Collisions.overlaps(bossBounds, bullet)) boxHits++;
+        long boxNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int r = 0; r < ROUNDS; r++)
+            for (Entity bullet : bullets)
+                if (Collisions.overlaps(bossBounds, bullet)
+                        && CollisionMask.overlap(bossBounds, boss, bullet, shot)) maskHits++;
+        long maskNanos = System.nanoTime() - start;
+
+        long tests = (long) ROUNDS * bullets.length;
+        int total = ROUNDS + ROUNDS / 4;
+        System.out.println("narrowphase   | tests/ms | hits per round");
+        System.out.printf("box only      | %8d | %14d%n", tests * 1_000_000 / Math.max(1, boxNanos), boxHits / total);
+        System.out.printf("box plus mask | %8d | %14d%n", tests * 1_000_000 / Math.max(1, maskNanos), maskHits / total);
+    }
+}
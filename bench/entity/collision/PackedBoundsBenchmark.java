@@ -0,0 +1,75 @@
+package entity.collision;
+
+import entity.Entity;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares the scalar and SIMD packed box tests on bullet-hell scenes, every
+ * ship and enemy tested against every boss bullet kept as arrays, the way a
+ * bullet store keeps them.
+ */
+public final class PackedBoundsBenchmark {
+
+    /** Ships and enemies listed before the boss bullets. */
+    private static final int PROBES = 62;
+    private static final int ROUNDS = 60;
+    /** Rounds run before timing, so the JIT has compiled both paths. */
+    private static final int WARMUP_ROUNDS = 20;
+
+    private PackedBoundsBenchmark() {
+    }
+
+    /** Two ships, a formation, then boss bullets crowding the lower field. */
+    private static List<Entity> bulletHell(final int bossBullets, final long seed) {
+        Random random = new Random(seed);
+        List<Entity> entities = new ArrayList<>();
+        entities.add(new Entity(300, 620, 26, 16, Color.GREEN));
+        entities.add(new Entity(700, 620, 26, 16, Color.GREEN));
+        for (int c = 0; c < 10; c++)
+            for (int r = 0; r < 6; r++)
+                entities.add(new Entity(20 + c * 40, 100 + r * 40, 24, 16, Color.WHITE));
+        for (int i = 0; i < bossBullets; i++)
+            entities.add(new Entity(random.nextInt(1228), 80 + random.nextInt(620), 6, 10, Color.YELLOW));
+        return entities;
+    }
+
+    public static void run() {
+        PackedBounds scalar = new PackedBounds();
+        PackedBounds best = PackedBounds.create();
+        System.out.println("boss bullets | scalar tests/us | " + (best.isVectorized() ? "vector" : "scalar (no vector module)")
+                + " tests/us");
+        for (int count : new int[] {1000, 5000, 20000}) {
+            List<Entity> entities = bulletHell(count, count);
+            int[] x = new int[count], y = new int[count], w = new int[count], h = new int[count];
+            for (int k = 0; k < count; k++) {
+                Entity bullet = entities.get(PROBES + k);
+                x[k] = bullet.getPositionX();
+                y[k] = bullet.getPositionY();
+                w[k] = bullet.getWidth();
+                h[k] = bullet.getHeight();
+            }
+            int[] hits = new int[count];
+            scalar.pack(entities);
+            best.pack(entities);
+
+            long[] nanos = new long[2];
+            PackedBounds[] paths = {scalar, best};
+            for (int p = 0; p < 2; p++) {
+                for (int round = 0; round < ROUNDS; round++) {
+                    long start = System.nanoTime();
+                    for (int probe = 0; probe < PROBES; probe++)
+                        paths[p].filterBoxes(probe, x, y, w, h, count, hits);
+                    if (round >= WARMUP_ROUNDS)
+                        nanos[p] += System.nanoTime() - start;
+                }
+            }
+            long tests = (long) (ROUNDS - WARMUP_ROUNDS) * PROBES * count;
+            System.out.printf("%12d | %15d | %15d%n", count,
+                    tests * 1000 / Math.max(1, nanos[0]), tests * 1000 / Math.max(1, nanos[1]));
+        }
+    }
+}
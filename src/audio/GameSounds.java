@@ -0,0 +1,42 @@
+package audio;
+
+import engine.event.GameEvent;
+import engine.event.GameEventListener;
+
+/**
+ * Plays the sound effects of gameplay events, once the update that raised
+ * them is over.
+ */
+public final class GameSounds implements GameEventListener {
+
+    /** Stores the single instance of the listener. */
+    private static final GameSounds INSTANCE = new GameSounds();
+
+    private GameSounds() {
+    }
+
+    /**
+     * Provides the global access point to the listener.
+     *
+     * @return The singleton instance of GameSounds.
+     */
+    public static GameSounds getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void onGameEvent(GameEvent event, int player, int value) {
+        switch (event) {
+            case SHOT_FIRED:
+                SoundManager.stop("sfx/laser.wav");
+                SoundManager.play("sfx/laser.wav");
+                break;
+            case SHIP_HIT:
+                SoundManager.stop("sfx/impact.wav");
+                SoundManager.play("sfx/impact.wav");
+                break;
+            default:
+                break;
+        }
+    }
+}
@@ -4,15 +4,18 @@ import javax.sound.sampled.*;
 import java.io.BufferedInputStream;
 import java.io.InputStream;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class SoundManager {
     private static final Map<String, Clip> CACHE = new ConcurrentHashMap<>();
+    /** Clips that failed to load, so they are not loaded again on every play. */
+    private static final Set<String> FAILED = ConcurrentHashMap.newKeySet();
     private static volatile boolean muted = false;  // global state of sound
     private static volatile String currentLooping = null;
 
     public static void play(String resourcePath) {
-        if (muted) return;  // no sound played
+        if (muted || FAILED.contains(resourcePath)) return;  // no sound played
         try {
             Clip c = CACHE.computeIfAbsent(resourcePath, SoundManager::loadClip);
             if (c == null) return;
@@ -36,13 +39,14 @@ public class SoundManager {
             }
         } catch (Exception e) {
             System.err.println("[Sound] Load failed: " + p + " -> " + e);
+            FAILED.add(path);
             return null;
         }
     }
 
 
     public static void playLoop(String resourcePath) {
-        if (muted) return;  // no sound played
+        if (muted || FAILED.contains(resourcePath)) return;  // no sound played
         try {
             Clip c = CACHE.computeIfAbsent(resourcePath, SoundManager::loadClip);
             if (c == null) return;
@@ -4,10 +4,13 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
+import engine.event.GameEvent;
+import engine.event.GameEventListener;
+
 /**
  * Manages all game achievements (including their state, unlocking logic, and persistence).
  */
-public class AchievementManager {
+public class AchievementManager implements GameEventListener {
     /** Stores the single instance of the AchievementManager. */
     private static AchievementManager instance;
     /** List of all achievements in the game. */
@@ -80,6 +83,31 @@ public class AchievementManager {
         }
     }
 
+    /**
+     * Updates achievements from the gameplay events of an update, drained
+     * by the model's event bus after the collision pass.
+     */
+    @Override
+    public void onGameEvent(GameEvent event, int player, int value) {
+        switch (event) {
+            case ENEMY_DESTROYED:
+                onEnemyDefeated();
+                break;
+            case SHOT_FIRED:
+                onShotFired();
+                break;
+            case BOSS_PHASE_CHANGED:
+                if (value == GameEvent.BOSS_DEFEATED)
+                    unlockAchievement("Boss Slayer");
+                break;
+            case TIME_ELAPSED:
+                onTimeElapsedSeconds(value);
+                break;
+            default:
+                break;
+        }
+    }
+
     /**
      * Handles game events when an enemy is defeated.
      * Checks for and unlocks achievements related to enemy kills and accuracy.
@@ -1,34 +1,135 @@
 package engine;
 
 import java.awt.Color;
+import java.awt.Font;
 import java.awt.Graphics;
+import java.awt.GraphicsConfiguration;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
 import java.awt.image.BufferedImage;
 
+/**
+ * Surface every frame is drawn on before it is shown in the window.
+ * <p>
+ * When the frame has a page flipping {@link BufferStrategy}, each frame is
+ * drawn on the strategy's back page and shown with
+ * {@link BufferStrategy#show()}. Every frame is drawn whole, so a frame
+ * whose page was lost or restored while it was drawn is simply not shown,
+ * and the next one draws over the restored page.
+ * </p>
+ * <p>
+ * Otherwise, frames are drawn into an image that is copied onto the
+ * window. The image and its graphics context are kept from frame to frame
+ * and only created again when the drawn size changes; each frame starts by
+ * filling the image black and resetting the context's color and font, as a
+ * new context would have them.
+ * </p>
+ */
 public final class BackBuffer {
 
     private final Frame frame;
     private BufferedImage buffer;
     private Graphics graphics;
     private Graphics backGraphics;
+    /** Position of the image in the window, past its borders. */
+    private int left, top;
+    /** Font of a new graphics context, restored every frame. */
+    private Font defaultFont;
+    /** Times the image was created, for diagnostics. */
+    private int allocations;
+    /** Page flipping strategy of the frame, or null when drawing into the image. */
+    private final BufferStrategy strategy;
+    /** Frames not shown because their page was lost, for diagnostics. */
+    private long lostFrames;
 
     public BackBuffer(Frame frame) {
         this.frame = frame;
+        this.strategy = frame.getRenderStrategy();
     }
 
     public void initDraw(final int screenWidth, final int screenHeight) {
-        buffer = new BufferedImage(screenWidth, screenHeight, BufferedImage.TYPE_INT_RGB);
-        graphics = frame.getGraphics();
-        backGraphics = buffer.getGraphics();
+        if (strategy != null) {
+            backGraphics = strategy.getDrawGraphics();
+            backGraphics.setColor(Color.BLACK);
+            backGraphics.fillRect(0, 0, screenWidth, screenHeight);
+            return;
+        }
+        if (buffer == null || buffer.getWidth() != screenWidth || buffer.getHeight() != screenHeight) {
+            allocate(screenWidth, screenHeight);
+        }
 
+        backGraphics.setPaintMode();
+        backGraphics.setFont(defaultFont);
         backGraphics.setColor(Color.BLACK);
         backGraphics.fillRect(0, 0, screenWidth, screenHeight);
     }
 
+    /**
+     * Creates the image and graphics contexts for a size, releasing the old
+     * ones.
+     */
+    private void allocate(final int screenWidth, final int screenHeight) {
+        if (backGraphics != null) {
+            backGraphics.dispose();
+        }
+        if (graphics != null) {
+            graphics.dispose();
+        }
+
+        GraphicsConfiguration configuration = frame.getGraphicsConfiguration();
+        buffer = configuration != null
+                ? configuration.createCompatibleImage(screenWidth, screenHeight)
+                : new BufferedImage(screenWidth, screenHeight, BufferedImage.TYPE_INT_RGB);
+        graphics = frame.getGraphics();
+        left = frame.getInsets().left;
+        top = frame.getInsets().top;
+        backGraphics = buffer.getGraphics();
+        defaultFont = backGraphics.getFont();
+        allocations++;
+    }
+
     public void end() {
-        graphics.drawImage(buffer, frame.getInsets().left, frame.getInsets().top, frame);
+        FrameProfiler profiler = FrameProfiler.getInstance();
+        long start = profiler.begin();
+        if (strategy != null) {
+            flip();
+        } else {
+            graphics.drawImage(buffer, left, top, frame);
+        }
+        profiler.end(FrameProfiler.Phase.PRESENT, start);
+    }
+
+    /**
+     * Shows the drawn page, unless it was restored while the frame was being
+     * drawn on it and holds an incomplete frame.
+     */
+    private void flip() {
+        backGraphics.dispose();
+        if (strategy.contentsRestored()) {
+            lostFrames++;
+            return;
+        }
+        strategy.show();
+        if (strategy.contentsLost()) {
+            lostFrames++;
+        }
+        // Hands the page to the display now instead of when the toolkit flushes.
+        Toolkit.getDefaultToolkit().sync();
     }
 
     public Graphics getGraphics() {
         return backGraphics;
     }
+
+    public int getAllocations() {
+        return allocations;
+    }
+
+    public long getLostFrames() {
+        return lostFrames;
+    }
+
+    public boolean isPageFlipping() {
+        return strategy != null;
+    }
 }
@@ -2,12 +2,26 @@ package engine;
 
 /**
  * Imposes a cooldown period between two actions.
+ * <p>
+ * The cooldown measures time on the {@link GameClock} that was current when
+ * it was created, so cooldowns of a game level follow its updates.
+ * </p>
+ * <p>
+ * On a {@link TickClock}, the cooldown is a timer of the clock's
+ * {@link Scheduler}, armed by {@link #reset()}, and checking it reads a
+ * flag instead of the clock. On any other clock it compares times.
+ * </p>
  * 
  * @author <a href="mailto:RobertoIA1987@gmail.com">Roberto Izquierdo Amo</a>
  * 
  */
 public class Cooldown {
 
+	/** Beginning time of a cooldown that was never reset. */
+	private static final long NEVER = Long.MIN_VALUE;
+
+	/** Clock the cooldown is measured on. */
+	private GameClock clock;
 	/** Cooldown duration. */
 	private int milliseconds;
 	/** Maximum difference between durations. */
@@ -16,6 +30,10 @@ public class Cooldown {
 	private int duration;
 	/** Beginning time. */
 	private long time;
+	/** Clock the cooldown is scheduled on, null if it compares times. */
+	private TickClock tickClock;
+	/** Timer armed while the cooldown runs, if it is scheduled. */
+	private Scheduler.Timer timer;
 
 	/**
 	 * Constructor, established the time until the action can be performed
@@ -25,10 +43,24 @@ public class Cooldown {
 	 *            Time until cooldown period is finished.
 	 */
 	public Cooldown(final int milliseconds) {
+		this(milliseconds, GameClock.current());
+	}
+
+	/**
+	 * Constructor, established the time until the action can be performed
+	 * again, measured on the given clock.
+	 *
+	 * @param milliseconds
+	 *            Time until cooldown period is finished.
+	 * @param clock
+	 *            Clock the cooldown is measured on.
+	 */
+	public Cooldown(final int milliseconds, final GameClock clock) {
+		bind(clock);
 		this.milliseconds = milliseconds;
 		this.variance = 0;
 		this.duration = milliseconds;
-		this.time = 0;
+		this.time = NEVER;
 	}
 
 	/**
@@ -41,9 +73,41 @@ public class Cooldown {
 	 *            Variance in the cooldown period.
 	 */
 	protected Cooldown(final int milliseconds, final int variance) {
+		bind(GameClock.current());
 		this.milliseconds = milliseconds;
 		this.variance = variance;
-		this.time = 0;
+		this.time = NEVER;
+	}
+
+	/**
+	 * Moves the cooldown to the current clock, for objects that outlive a
+	 * game level, like pooled entities. The cooldown is left finished, as if
+	 * it had never been reset.
+	 */
+	public final void rebind() {
+		GameClock current = GameClock.current();
+		if (current == this.clock) {
+			if (this.timer != null)
+				this.tickClock.getScheduler().cancel(this.timer);
+		} else {
+			bind(current);
+		}
+		this.time = NEVER;
+	}
+
+	/**
+	 * Sets the clock the cooldown is measured on, disarming the timer of the
+	 * previous one.
+	 */
+	private void bind(final GameClock clock) {
+		if (this.timer != null)
+			this.tickClock.getScheduler().cancel(this.timer);
+		this.clock = clock;
+		this.tickClock = clock instanceof TickClock ? (TickClock) clock : null;
+		if (this.tickClock == null)
+			this.timer = null;
+		else if (this.timer == null)
+			this.timer = new Scheduler.Timer();
 	}
 
 	/**
@@ -52,21 +116,31 @@ public class Cooldown {
 	 * @return Cooldown state.
 	 */
 	public final boolean checkFinished() {
-		if ((this.time == 0)
-				|| this.time + this.duration < System.currentTimeMillis())
-			return true;
-		return false;
+		if (this.timer != null)
+			return !this.timer.isPending();
+		return this.time == NEVER || this.time + this.duration < this.clock.millis();
 	}
 
 	/**
 	 * Restarts the cooldown.
 	 */
 	public final void reset() {
-		this.time = System.currentTimeMillis();
+		this.time = this.clock.millis();
 		if (this.variance != 0)
 			this.duration = (this.milliseconds - this.variance)
 					+ (int) (Math.random()
 							* (this.milliseconds + this.variance));
+		schedule();
+	}
+
+	/**
+	 * Arms the timer for the end of the current run, if the cooldown is
+	 * scheduled.
+	 */
+	private void schedule() {
+		if (this.timer != null)
+			this.tickClock.getScheduler().scheduleAt(this.timer,
+					this.tickClock.tickAfter(this.time + this.duration));
 	}
 
 	/**
@@ -78,5 +152,7 @@ public class Cooldown {
 	public final void setMilliseconds(final int milliseconds) {
 		this.milliseconds = milliseconds;
 		this.duration = milliseconds;
+		if (this.timer != null && this.timer.isPending())
+			schedule();
 	}
 }
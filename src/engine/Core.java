@@ -81,7 +81,7 @@ public final class Core {
 
         DrawManager.getInstance().setScale(scaleX, scaleY);
 
-		frame = new Frame(FRAME_WIDTH_TOTAL, FRAME_HEIGHT_TOTAL);
+		frame = new Frame(FRAME_WIDTH_TOTAL, FRAME_HEIGHT_TOTAL, GameConstant.BUFFER_PAGES);
 		DrawManager.getInstance().setFrame(frame);
 		FRAME_WIDTH = frame.getWidth();
 		FRAME_HEIGHT = frame.getHeight();
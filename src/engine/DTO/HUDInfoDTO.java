@@ -3,24 +3,31 @@ package engine.DTO;
 public final class HUDInfoDTO {
 
     /** screen info */
-    private final int width;
-    private final int height;
+    private int width;
+    private int height;
 
     /** player info */
-    private final int scoreP1;
-    private final int scoreP2;
-    private final int livesP1;
-    private final int livesP2;
-    private final int level;
+    private int scoreP1;
+    private int scoreP2;
+    private int livesP1;
+    private int livesP2;
+    private int level;
 
     /** item and gameState */
-    private final int coin;
-    private final long elapsedTimeMillis;
-    private final String levelName;
+    private int coin;
+    private long elapsedTimeMillis;
+    private String levelName;
 
     /** popup */
-    private final String achievementText;
-    private final String healthPopupText;
+    private String achievementText;
+    private String healthPopupText;
+
+    /**
+     * Creates an empty DTO, filled later through {@link #update}, so a screen
+     * can keep one instance for its whole lifetime.
+     */
+    public HUDInfoDTO() {
+    }
 
     public HUDInfoDTO(
             int width,
@@ -36,6 +43,30 @@ public final class HUDInfoDTO {
             String achievementText,
             String healthPopupText) {
 
+        update(width, height, scoreP1, scoreP2, coin, livesP1, livesP2, level,
+                elapsedTimeMillis, levelName, achievementText, healthPopupText);
+    }
+
+    /**
+     * Overwrites every value of the DTO, instead of creating a new one each
+     * frame.
+     *
+     * @return This DTO.
+     */
+    public HUDInfoDTO update(
+            int width,
+            int height,
+            int scoreP1,
+            int scoreP2,
+            int coin,
+            int livesP1,
+            int livesP2,
+            int level,
+            long elapsedTimeMillis,
+            String levelName,
+            String achievementText,
+            String healthPopupText) {
+
         this.width = width;
         this.height = height;
         this.scoreP1 = scoreP1;
@@ -48,6 +79,7 @@ public final class HUDInfoDTO {
         this.levelName = levelName;
         this.achievementText = achievementText;
         this.healthPopupText = healthPopupText;
+        return this;
     }
 
     public int getWidth() {
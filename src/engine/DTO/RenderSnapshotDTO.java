@@ -0,0 +1,313 @@
+package engine.DTO;
+
+import java.awt.Color;
+import java.util.Arrays;
+
+import engine.DrawManager.SpriteType;
+import engine.ItemHUDManager;
+import entity.DropItem;
+
+/**
+ * Everything the game view draws for one update, copied out of the model.
+ * <p>
+ * The simulation fills a snapshot at the end of each update and hands it to
+ * the renderer through an {@link engine.TripleBuffer}. The renderer never
+ * touches the model, so it can draw one update while the next one is being
+ * simulated. Snapshots are reused: {@link #clear()} empties one without
+ * releasing its arrays, which only grow.
+ * </p>
+ * <p>
+ * Drawn entities are stored as parallel arrays, one row per sprite, laser
+ * beam or dash path. Every row keeps its position before and after the
+ * update, so the renderer can draw it in between.
+ * </p>
+ */
+public final class RenderSnapshotDTO {
+
+    /** What a row of the snapshot draws. */
+    public enum Kind {
+        /** Sprite of an entity. */
+        SPRITE,
+        /** Dropped item, drawn from its item type. */
+        ITEM,
+        /** Laser beam from the target point through the laser position. */
+        LASER,
+        /** Dashed path from the position to the target point. */
+        DASH_PATH
+    }
+
+    /** Kind of each row. */
+    private Kind[] kind;
+    /** Position in the x-axis before the update. */
+    private int[] previousX;
+    /** Position in the y-axis before the update. */
+    private int[] previousY;
+    /** Position in the x-axis after the update. */
+    private int[] x;
+    /** Position in the y-axis after the update. */
+    private int[] y;
+    /** Target point in the x-axis, for lasers and dash paths. */
+    private int[] targetX;
+    /** Target point in the y-axis, for lasers and dash paths. */
+    private int[] targetY;
+    /** Sprite of each row. */
+    private SpriteType[] sprite;
+    /** Color of each row. */
+    private Color[] color;
+    /** Item type of item rows. */
+    private DropItem.ItemType[] itemType;
+    /** Number of rows. */
+    private int size;
+
+    /** Bullet positions after the update, and their speed. */
+    private int[] bulletX, bulletY, bulletDx, bulletDy;
+    /** Bullet sprites. */
+    private SpriteType[] bulletSprite;
+    /** Bullet colors. */
+    private Color[] bulletColor;
+    /** Number of bullets. */
+    private int bullets;
+
+    /** Dropped items shown in the HUD, oldest first. */
+    private final DropItem.ItemType[] hudItems = new DropItem.ItemType[ItemHUDManager.MAX_DYNAMIC_ITEMS];
+    /** Number of dropped items shown in the HUD. */
+    private int hudItemCount;
+    /** If each shop item shown in the HUD is active. */
+    private final boolean[] shopItemActive = new boolean[ItemHUDManager.SHOP_ITEM_COUNT];
+    /** Level of each shop item shown in the HUD. */
+    private final int[] shopItemLevel = new int[ItemHUDManager.SHOP_ITEM_COUNT];
+
+    /** HUD values of the update. */
+    private final HUDInfoDTO hud = new HUDInfoDTO();
+    /** If the achievement popup is shown. */
+    private boolean achievementPopup;
+    /** If the health popup is shown. */
+    private boolean healthPopup;
+    /** Seconds left in the countdown, or -1 once play has started. */
+    private int countdown = -1;
+    /** If a bonus life was awarded, shown by the countdown. */
+    private boolean bonusLife;
+    /** Number of the update the snapshot shows, 0 for a snapshot never filled. */
+    private long tick;
+    /** {@link System#nanoTime()} when the snapshot was published. */
+    private long publishedNanos;
+
+    /**
+     * Constructor, creates an empty snapshot.
+     */
+    public RenderSnapshotDTO() {
+        allocateRows(64);
+        allocateBullets(64);
+    }
+
+    /**
+     * Empties the snapshot, keeping its arrays.
+     */
+    public void clear() {
+        Arrays.fill(this.sprite, 0, this.size, null);
+        Arrays.fill(this.color, 0, this.size, null);
+        Arrays.fill(this.itemType, 0, this.size, null);
+        Arrays.fill(this.bulletSprite, 0, this.bullets, null);
+        Arrays.fill(this.bulletColor, 0, this.bullets, null);
+        Arrays.fill(this.hudItems, 0, this.hudItemCount, null);
+        this.size = 0;
+        this.bullets = 0;
+        this.hudItemCount = 0;
+        this.achievementPopup = false;
+        this.healthPopup = false;
+        this.countdown = -1;
+    }
+
+    /**
+     * Adds a sprite drawn between two positions.
+     */
+    public void addSprite(final SpriteType sprite, final Color color, final int previousX,
+                          final int previousY, final int x, final int y) {
+        int row = addRow(Kind.SPRITE, previousX, previousY, x, y);
+        this.sprite[row] = sprite;
+        this.color[row] = color;
+    }
+
+    /**
+     * Adds a dropped item drawn between two positions.
+     */
+    public void addItem(final DropItem.ItemType type, final int previousX, final int previousY,
+                        final int x, final int y) {
+        int row = addRow(Kind.ITEM, previousX, previousY, x, y);
+        this.itemType[row] = type;
+    }
+
+    /**
+     * Adds a laser beam or a dash path, which do not move between updates.
+     */
+    public void addLine(final Kind kind, final Color color, final int x, final int y,
+                        final int targetX, final int targetY) {
+        int row = addRow(kind, x, y, x, y);
+        this.color[row] = color;
+        this.targetX[row] = targetX;
+        this.targetY[row] = targetY;
+    }
+
+    /**
+     * Adds a bullet, drawn behind its position by its speed.
+     */
+    public void addBullet(final SpriteType sprite, final Color color, final int x, final int y,
+                          final int dx, final int dy) {
+        if (this.bullets == this.bulletX.length)
+            allocateBullets(this.bullets * 2);
+        int k = this.bullets++;
+        this.bulletX[k] = x;
+        this.bulletY[k] = y;
+        this.bulletDx[k] = dx;
+        this.bulletDy[k] = dy;
+        this.bulletSprite[k] = sprite;
+        this.bulletColor[k] = color;
+    }
+
+    /**
+     * Adds a dropped item shown in the HUD; items past the HUD's squares are
+     * ignored.
+     */
+    public void addHudItem(final DropItem.ItemType type) {
+        if (this.hudItemCount < this.hudItems.length)
+            this.hudItems[this.hudItemCount++] = type;
+    }
+
+    /**
+     * Sets the state of a shop item shown in the HUD.
+     *
+     * @param index
+     *            Square of the shop item.
+     * @param active
+     *            If the item is active.
+     * @param level
+     *            Level of the item.
+     */
+    public void setShopItem(final int index, final boolean active, final int level) {
+        this.shopItemActive[index] = active;
+        this.shopItemLevel[index] = level;
+    }
+
+    /**
+     * Sets the popups and countdown of the update.
+     *
+     * @param achievementPopup
+     *            If the achievement popup is shown.
+     * @param healthPopup
+     *            If the health popup is shown.
+     * @param countdown
+     *            Seconds left in the countdown, or -1 once play has started.
+     * @param bonusLife
+     *            If a bonus life was awarded.
+     */
+    public void setOverlays(final boolean achievementPopup, final boolean healthPopup,
+                            final int countdown, final boolean bonusLife) {
+        this.achievementPopup = achievementPopup;
+        this.healthPopup = healthPopup;
+        this.countdown = countdown;
+        this.bonusLife = bonusLife;
+    }
+
+    /**
+     * Stamps the snapshot before it is handed to the renderer.
+     *
+     * @param tick
+     *            Number of the update the snapshot shows.
+     * @param publishedNanos
+     *            {@link System#nanoTime()} of the hand-off.
+     */
+    public void stamp(final long tick, final long publishedNanos) {
+        this.tick = tick;
+        this.publishedNanos = publishedNanos;
+    }
+
+    /**
+     * Appends a row.
+     */
+    private int addRow(final Kind kind, final int previousX, final int previousY,
+                       final int x, final int y) {
+        if (this.size == this.x.length)
+            allocateRows(this.size * 2);
+        int row = this.size++;
+        this.kind[row] = kind;
+        this.previousX[row] = previousX;
+        this.previousY[row] = previousY;
+        this.x[row] = x;
+        this.y[row] = y;
+        return row;
+    }
+
+    /**
+     * Grows the row arrays to the given capacity.
+     */
+    private void allocateRows(final int capacity) {
+        this.kind = this.kind == null ? new Kind[capacity] : Arrays.copyOf(this.kind, capacity);
+        this.previousX = grow(this.previousX, capacity);
+        this.previousY = grow(this.previousY, capacity);
+        this.x = grow(this.x, capacity);
+        this.y = grow(this.y, capacity);
+        this.targetX = grow(this.targetX, capacity);
+        this.targetY = grow(this.targetY, capacity);
+        this.sprite = this.sprite == null ? new SpriteType[capacity] : Arrays.copyOf(this.sprite, capacity);
+        this.color = this.color == null ? new Color[capacity] : Arrays.copyOf(this.color, capacity);
+        this.itemType = this.itemType == null ? new DropItem.ItemType[capacity]
+                : Arrays.copyOf(this.itemType, capacity);
+    }
+
+    /**
+     * Grows the bullet arrays to the given capacity.
+     */
+    private void allocateBullets(final int capacity) {
+        this.bulletX = grow(this.bulletX, capacity);
+        this.bulletY = grow(this.bulletY, capacity);
+        this.bulletDx = grow(this.bulletDx, capacity);
+        this.bulletDy = grow(this.bulletDy, capacity);
+        this.bulletSprite = this.bulletSprite == null ? new SpriteType[capacity]
+                : Arrays.copyOf(this.bulletSprite, capacity);
+        this.bulletColor = this.bulletColor == null ? new Color[capacity]
+                : Arrays.copyOf(this.bulletColor, capacity);
+    }
+
+    /**
+     * Copies an array into a longer one.
+     */
+    private static int[] grow(final int[] array, final int capacity) {
+        return array == null ? new int[capacity] : Arrays.copyOf(array, capacity);
+    }
+
+    /* Per-row getters, used by the view. */
+    public int size() { return size; }
+    public Kind getKind(final int row) { return kind[row]; }
+    public int getPreviousX(final int row) { return previousX[row]; }
+    public int getPreviousY(final int row) { return previousY[row]; }
+    public int getX(final int row) { return x[row]; }
+    public int getY(final int row) { return y[row]; }
+    public int getTargetX(final int row) { return targetX[row]; }
+    public int getTargetY(final int row) { return targetY[row]; }
+    public SpriteType getSprite(final int row) { return sprite[row]; }
+    public Color getColor(final int row) { return color[row]; }
+    public DropItem.ItemType getItemType(final int row) { return itemType[row]; }
+
+    /* Per-bullet getters, used by the view. */
+    public int getBulletCount() { return bullets; }
+    public int getBulletX(final int k) { return bulletX[k]; }
+    public int getBulletY(final int k) { return bulletY[k]; }
+    public int getBulletDx(final int k) { return bulletDx[k]; }
+    public int getBulletDy(final int k) { return bulletDy[k]; }
+    public SpriteType getBulletSprite(final int k) { return bulletSprite[k]; }
+    public Color getBulletColor(final int k) { return bulletColor[k]; }
+
+    /* HUD item getters, used by the view. */
+    public int getHudItemCount() { return hudItemCount; }
+    public DropItem.ItemType getHudItem(final int k) { return hudItems[k]; }
+    public boolean isShopItemActive(final int k) { return shopItemActive[k]; }
+    public int getShopItemLevel(final int k) { return shopItemLevel[k]; }
+
+    public HUDInfoDTO getHud() { return hud; }
+    public boolean isAchievementPopup() { return achievementPopup; }
+    public boolean isHealthPopup() { return healthPopup; }
+    public int getCountdown() { return countdown; }
+    public boolean isBonusLife() { return bonusLife; }
+    public long getTick() { return tick; }
+    public long getPublishedNanos() { return publishedNanos; }
+}
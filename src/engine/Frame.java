@@ -1,6 +1,9 @@
 package engine;
 
+import java.awt.Canvas;
+import java.awt.Color;
 import java.awt.Insets;
+import java.awt.image.BufferStrategy;
 
 import javax.swing.JFrame;
 
@@ -21,9 +24,13 @@ public class Frame extends JFrame {
 	private int height;
 	/** Screen currently shown. */
 	private Screen currentScreen;
+	/** Canvas frames are flipped onto, or null when drawing through an image. */
+	private Canvas canvas;
+	/** Page flipping strategy of the canvas, or null when drawing through an image. */
+	private BufferStrategy renderStrategy;
 
 	/**
-	 * Initializes the new frame.
+	 * Initializes the new frame, drawn by copying an image onto it.
 	 * 
 	 * @param width
 	 *            Frame width.
@@ -31,13 +38,44 @@ public class Frame extends JFrame {
 	 *            Frame height.
 	 */
 	public Frame(final int width, final int height) {
+		this(width, height, 0);
+	}
+
+	/**
+	 * Initializes the new frame. With pages, frames are drawn on a canvas
+	 * filling the window through a page flipping buffer strategy, and AWT
+	 * no longer repaints the window; if the strategy cannot be created, the
+	 * frame falls back to copying an image onto the window.
+	 *
+	 * @param width
+	 *            Frame width.
+	 * @param height
+	 *            Frame height.
+	 * @param pages
+	 *            Pages of the buffer strategy, 2 or 3, or 0 to copy an
+	 *            image onto the window instead.
+	 */
+	public Frame(final int width, final int height, final int pages) {
 		setSize(width, height);
 		setResizable(false);
 		setDefaultCloseOperation(EXIT_ON_CLOSE);
 
+		if (pages > 0) {
+			this.canvas = new Canvas();
+			this.canvas.setBackground(Color.BLACK);
+			this.canvas.setIgnoreRepaint(true);
+			// Key events keep going to the frame.
+			this.canvas.setFocusable(false);
+			getContentPane().add(this.canvas);
+			setIgnoreRepaint(true);
+		}
+
 		setLocationRelativeTo(null);
 		setVisible(true);
 
+		if (this.canvas != null)
+			createRenderStrategy(pages);
+
 		Insets insets = getInsets();
 
 		this.width = width - insets.left - insets.right;
@@ -47,6 +85,33 @@ public class Frame extends JFrame {
 		addKeyListener(Core.getInputManager());
 	}
 
+	/**
+	 * Creates the page flipping strategy of the canvas, or removes the
+	 * canvas if it cannot be created.
+	 */
+	private void createRenderStrategy(final int pages) {
+		try {
+			this.canvas.createBufferStrategy(pages);
+			this.renderStrategy = this.canvas.getBufferStrategy();
+		} catch (RuntimeException e) {
+			Core.getLogger().warning("Page flipping unavailable, drawing through an image: " + e);
+			getContentPane().remove(this.canvas);
+			this.canvas = null;
+			setIgnoreRepaint(false);
+			validate();
+		}
+	}
+
+	/**
+	 * Getter for the page flipping strategy frames are drawn with.
+	 *
+	 * @return Buffer strategy of the canvas, or null if frames are drawn by
+	 *         copying an image onto the window.
+	 */
+	public final BufferStrategy getRenderStrategy() {
+		return this.renderStrategy;
+	}
+
 	/**
 	 * Sets current screen.
 	 * 
@@ -0,0 +1,209 @@
+package engine;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Keeps frames on an absolute schedule, with sub-millisecond precision.
+ * <p>
+ * Frame {@code n} is due at {@code start + n * period}, in
+ * {@link System#nanoTime()} time, so a late frame does not push back the
+ * ones after it. Only when the schedule falls more than a whole period
+ * behind does it restart from the current time, instead of drawing a burst
+ * of frames to catch up.
+ * </p>
+ * <p>
+ * Waiting parks the thread until {@value #SPIN_NANOS} ns before the
+ * deadline, which {@link LockSupport#parkNanos(long)} may overshoot by up
+ * to a scheduler quantum, then spins for the rest.
+ * </p>
+ * <p>
+ * The pacer records how far each frame landed from its period over the
+ * last {@value #WINDOW} frames, in a histogram of {@value #BIN_NANOS} ns
+ * bins, and reports its percentiles for diagnostics without allocating.
+ * </p>
+ */
+public final class FramePacer {
+
+	/** Time before a deadline spent spinning instead of parked. */
+	public static final long SPIN_NANOS = 300_000L;
+	/** Number of frames the statistics cover. */
+	public static final int WINDOW = 240;
+	/** Width of a histogram bin. */
+	public static final long BIN_NANOS = 100_000L;
+	/** Number of histogram bins; the last one takes every larger jitter. */
+	private static final int BINS = 500;
+
+	/** Nanoseconds between two frames. */
+	private final long period;
+	/** When the next frame is due. */
+	private long nextFrame;
+	/** When the last frame was done, or 0 before the first one. */
+	private long lastFrame;
+	/** Times the schedule was restarted after falling behind. */
+	private long resyncs;
+
+	/** Jitter of the frames of the window, oldest overwritten first. */
+	private final long[] jitters = new long[WINDOW];
+	/** Next slot of {@link #jitters} to write. */
+	private int cursor;
+	/** Number of frames recorded, up to {@link #WINDOW}. */
+	private int recorded;
+	/** Frames of the window in each jitter bin. */
+	private final int[] histogram = new int[BINS];
+
+	/**
+	 * Constructor, sets the frame rate and starts the schedule with a frame
+	 * due now.
+	 *
+	 * @param framesPerSecond
+	 *            Frames per second.
+	 */
+	public FramePacer(final int framesPerSecond) {
+		if (framesPerSecond <= 0)
+			throw new IllegalArgumentException("Frame rate must be positive: " + framesPerSecond);
+		this.period = TimeUnit.SECONDS.toNanos(1) / framesPerSecond;
+		reset();
+	}
+
+	/**
+	 * Restarts the schedule with a frame due now, and clears the statistics.
+	 */
+	public void reset() {
+		this.nextFrame = System.nanoTime();
+		this.lastFrame = 0;
+		this.resyncs = 0;
+		this.cursor = 0;
+		this.recorded = 0;
+		Arrays.fill(this.histogram, 0);
+	}
+
+	/**
+	 * Checks if the next frame is due.
+	 *
+	 * @param now
+	 *            Current {@link System#nanoTime()}.
+	 * @return True if the frame should be drawn now.
+	 */
+	public boolean isFrameDue(final long now) {
+		return now - this.nextFrame >= 0;
+	}
+
+	/**
+	 * Records a frame as done and schedules the next one, one period after
+	 * the time the done frame was due.
+	 *
+	 * @param now
+	 *            Current {@link System#nanoTime()}.
+	 */
+	public void frameDone(final long now) {
+		if (this.lastFrame != 0)
+			record(Math.abs(now - this.lastFrame - this.period));
+		this.lastFrame = now;
+
+		this.nextFrame += this.period;
+		if (now - this.nextFrame >= this.period) {
+			this.nextFrame = now + this.period;
+			this.resyncs++;
+		}
+	}
+
+	/**
+	 * Waits until the next frame is due.
+	 *
+	 * @return False if the thread was interrupted while waiting.
+	 */
+	public boolean awaitFrame() {
+		return awaitUntil(this.nextFrame);
+	}
+
+	/**
+	 * Waits until a deadline, parking first and spinning for the last
+	 * {@value #SPIN_NANOS} ns.
+	 *
+	 * @param deadline
+	 *            {@link System#nanoTime()} to wait for.
+	 * @return False if the thread was interrupted while waiting.
+	 */
+	public static boolean awaitUntil(final long deadline) {
+		long remaining = deadline - System.nanoTime();
+		while (remaining > SPIN_NANOS) {
+			LockSupport.parkNanos(remaining - SPIN_NANOS);
+			if (Thread.interrupted())
+				return false;
+			remaining = deadline - System.nanoTime();
+		}
+		while (deadline - System.nanoTime() > 0)
+			Thread.onSpinWait();
+		return true;
+	}
+
+	/**
+	 * Adds a jitter to the window, dropping the oldest one once it is full.
+	 */
+	private void record(final long jitter) {
+		if (this.recorded == WINDOW)
+			this.histogram[bin(this.jitters[this.cursor])]--;
+		else
+			this.recorded++;
+		this.jitters[this.cursor] = jitter;
+		this.histogram[bin(jitter)]++;
+		this.cursor = (this.cursor + 1) % WINDOW;
+	}
+
+	/**
+	 * Bin of a jitter.
+	 */
+	private static int bin(final long jitter) {
+		return (int) Math.min(BINS - 1, jitter / BIN_NANOS);
+	}
+
+	/**
+	 * Getter for a percentile of the jitter over the window: how far frame
+	 * intervals were from the period.
+	 *
+	 * @param percentile
+	 *            Percentile, from 0 to 100.
+	 * @return Upper bound of the bin holding the percentile, in
+	 *         nanoseconds, or 0 before two frames have been done.
+	 */
+	public long getJitterPercentile(final double percentile) {
+		if (this.recorded == 0)
+			return 0;
+		int rank = (int) Math.ceil(this.recorded * percentile / 100.0);
+		int count = 0;
+		for (int bin = 0; bin < BINS; bin++) {
+			count += this.histogram[bin];
+			if (count >= rank && count > 0)
+				return (bin + 1) * BIN_NANOS;
+		}
+		return BINS * BIN_NANOS;
+	}
+
+	/**
+	 * Getter for the largest jitter over the window.
+	 *
+	 * @return Largest jitter, in nanoseconds.
+	 */
+	public long getMaxJitter() {
+		long max = 0;
+		for (int k = 0; k < this.recorded; k++)
+			max = Math.max(max, this.jitters[k]);
+		return max;
+	}
+
+	public long getJitterP50() { return getJitterPercentile(50); }
+	public long getJitterP99() { return getJitterPercentile(99); }
+	public long getPeriod() { return this.period; }
+	public long getNextFrame() { return this.nextFrame; }
+	public long getResyncs() { return this.resyncs; }
+	public int getRecorded() { return this.recorded; }
+
+	@Override
+	public String toString() {
+		return String.format("period=%.3fms jitter p50<=%.1fms p99<=%.1fms max=%.3fms resyncs=%d",
+				this.period / 1e6, getJitterP50() / 1e6, getJitterP99() / 1e6,
+				getMaxJitter() / 1e6, this.resyncs);
+	}
+}
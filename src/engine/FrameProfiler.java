@@ -0,0 +1,263 @@
+package engine;
+
+import java.util.Arrays;
+
+/**
+ * Times the phases of a game frame for the profiler overlay.
+ * <p>
+ * Every phase keeps its last {@value #WINDOW} durations, from
+ * {@link System#nanoTime()}, in a fixed ring; the overlay sorts a copy into
+ * a scratch array to read percentiles, so neither timing nor reporting
+ * allocates. While the profiler is disabled, {@link #begin()} returns 0 and
+ * phases are not timed at all.
+ * </p>
+ * <p>
+ * Update phases are recorded by the simulation and drawing phases by
+ * whichever thread draws, while the overlay reads all of them without
+ * locking. A sample being overwritten while the overlay reads it only skews
+ * one frame of diagnostics.
+ * </p>
+ */
+public final class FrameProfiler {
+
+	/** Phases of a frame that are timed. */
+	public enum Phase {
+		/** Player input handling. */
+		INPUT("input"),
+		/** Update of every entity. */
+		ENTITIES("entities"),
+		/** Collision pass. */
+		COLLISIONS("collisions"),
+		/** Removal of destroyed entities. */
+		CLEANUP("cleanup"),
+		/** Drawing of the frame into the back buffer. */
+		RENDER("render"),
+		/** Copy of the back buffer to the screen. */
+		PRESENT("present");
+
+		/** Name shown by the overlay. */
+		private final String label;
+
+		Phase(final String label) {
+			this.label = label;
+		}
+
+		public String getLabel() {
+			return this.label;
+		}
+	}
+
+	/** Live counts shown by the overlay. */
+	public enum Counter {
+		/** Entities in the collision pass. */
+		ENTITIES("entities"),
+		/** Bullets of the ships. */
+		BULLETS("bullets"),
+		/** Bullets of the boss. */
+		BOSS_BULLETS("boss bullets"),
+		/** Dropped items on screen. */
+		DROP_ITEMS("drop items"),
+		/** Idle objects in the item pool. */
+		ITEM_POOL("item pool"),
+		/** Idle objects in the laser pool. */
+		LASER_POOL("laser pool"),
+		/** Idle objects in the bonus ship pool. */
+		SHIP_POOL("ship pool");
+
+		/** Name shown by the overlay. */
+		private final String label;
+
+		Counter(final String label) {
+			this.label = label;
+		}
+
+		public String getLabel() {
+			return this.label;
+		}
+	}
+
+	/** Number of frames each phase keeps. */
+	public static final int WINDOW = 120;
+
+	/** Phases, cached since {@code values()} copies its array. */
+	private static final Phase[] PHASES = Phase.values();
+	/** Counters, cached since {@code values()} copies its array. */
+	private static final Counter[] COUNTERS = Counter.values();
+	/** Singleton instance, created once the arrays above exist. */
+	private static final FrameProfiler INSTANCE = new FrameProfiler();
+
+	/** Durations of each phase, oldest overwritten first. */
+	private final long[][] samples = new long[PHASES.length][WINDOW];
+	/** Next slot of each phase's ring to write. */
+	private final int[] cursor = new int[PHASES.length];
+	/** Durations recorded in each phase's ring, up to {@link #WINDOW}. */
+	private final int[] recorded = new int[PHASES.length];
+	/** Current value of each counter. */
+	private final int[] counts = new int[COUNTERS.length];
+	/** Sorted copy of a ring, used to read percentiles. */
+	private final long[] scratch = new long[WINDOW];
+	/** If phases are timed and the overlay is drawn. */
+	private volatile boolean enabled;
+
+	private FrameProfiler() {
+	}
+
+	/**
+	 * Getter for the profiler instance.
+	 *
+	 * @return Shared profiler.
+	 */
+	public static FrameProfiler getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Starts timing a phase.
+	 *
+	 * @return Start time to pass to {@link #end} or {@link #lap}, or 0 if
+	 *         the profiler is disabled.
+	 */
+	public long begin() {
+		return this.enabled ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Records the duration of a phase.
+	 *
+	 * @param phase
+	 *            Phase that ended.
+	 * @param start
+	 *            Value returned by {@link #begin()}; nothing is recorded
+	 *            for 0.
+	 */
+	public void end(final Phase phase, final long start) {
+		if (start != 0)
+			record(phase, System.nanoTime() - start);
+	}
+
+	/**
+	 * Records the duration of a phase that is directly followed by another
+	 * one.
+	 *
+	 * @param phase
+	 *            Phase that ended.
+	 * @param start
+	 *            Start time of the phase; nothing is recorded for 0.
+	 * @return Start time of the next phase, or 0 if nothing was recorded.
+	 */
+	public long lap(final Phase phase, final long start) {
+		if (start == 0)
+			return 0;
+		long now = System.nanoTime();
+		record(phase, now - start);
+		return now;
+	}
+
+	/**
+	 * Adds a duration to a phase's ring.
+	 */
+	private void record(final Phase phase, final long nanos) {
+		int p = phase.ordinal();
+		this.samples[p][this.cursor[p]] = nanos;
+		this.cursor[p] = (this.cursor[p] + 1) % WINDOW;
+		if (this.recorded[p] < WINDOW)
+			this.recorded[p]++;
+	}
+
+	/**
+	 * Sets a live count.
+	 *
+	 * @param counter
+	 *            Count to set.
+	 * @param value
+	 *            Current value.
+	 */
+	public void setCount(final Counter counter, final int value) {
+		this.counts[counter.ordinal()] = value;
+	}
+
+	/**
+	 * Getter for a live count.
+	 *
+	 * @param counter
+	 *            Count to read.
+	 * @return Last value set.
+	 */
+	public int getCount(final Counter counter) {
+		return this.counts[counter.ordinal()];
+	}
+
+	/**
+	 * Getter for a percentile of a phase's duration over its window. Only
+	 * called by the thread drawing the overlay.
+	 *
+	 * @param phase
+	 *            Phase to read.
+	 * @param percentile
+	 *            Percentile, from 0 to 100.
+	 * @return Duration in nanoseconds, or 0 before the phase was timed.
+	 */
+	public long getPercentile(final Phase phase, final double percentile) {
+		int n = this.recorded[phase.ordinal()];
+		if (n == 0)
+			return 0;
+		System.arraycopy(this.samples[phase.ordinal()], 0, this.scratch, 0, n);
+		Arrays.sort(this.scratch, 0, n);
+		int rank = (int) Math.ceil(n * percentile / 100.0);
+		return this.scratch[Math.max(0, Math.min(n, rank) - 1)];
+	}
+
+	public long getP50(final Phase phase) { return getPercentile(phase, 50); }
+	public long getP95(final Phase phase) { return getPercentile(phase, 95); }
+	public long getMax(final Phase phase) { return getPercentile(phase, 100); }
+	public int getRecorded(final Phase phase) { return this.recorded[phase.ordinal()]; }
+
+	/**
+	 * Checks if the profiler is enabled.
+	 *
+	 * @return True if phases are timed and the overlay is drawn.
+	 */
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	/**
+	 * Enables or disables the profiler. Disabling it clears the recorded
+	 * durations, so the overlay starts from fresh samples when enabled again.
+	 *
+	 * @param enabled
+	 *            If phases are timed and the overlay is drawn.
+	 */
+	public void setEnabled(final boolean enabled) {
+		if (!enabled) {
+			Arrays.fill(this.recorded, 0);
+			Arrays.fill(this.cursor, 0);
+		}
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Switches the profiler on or off.
+	 */
+	public void toggle() {
+		setEnabled(!this.enabled);
+	}
+
+	/**
+	 * Getter for the phases, without copying the array.
+	 *
+	 * @return Every phase; not to be modified.
+	 */
+	public static Phase[] phases() {
+		return PHASES;
+	}
+
+	/**
+	 * Getter for the counters, without copying the array.
+	 *
+	 * @return Every counter; not to be modified.
+	 */
+	public static Counter[] counters() {
+		return COUNTERS;
+	}
+}
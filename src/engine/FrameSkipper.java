@@ -0,0 +1,117 @@
+package engine;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides when to skip drawing a frame so the simulation can catch up.
+ * <p>
+ * When the updates fall behind real time, drawing a frame only delays them
+ * further and the game slows down. Skipping the frame gives its time to the
+ * updates instead, so game time keeps its rate. At most a given number of
+ * frames are skipped in a row, and never so many that frames are drawn less
+ * often than a minimum rate; past that, the frame is drawn and the time the
+ * updates could not make up is dropped.
+ * </p>
+ */
+public final class FrameSkipper {
+
+	/** Most frames skipped in a row, 0 to never skip. */
+	private final int maxSkipped;
+	/** Longest time allowed between two drawn frames. */
+	private final long maxInterval;
+
+	/** Frames skipped since the last drawn one. */
+	private int skippedInARow;
+	/** When the last frame was drawn. */
+	private long lastRendered;
+	/** Frames drawn. */
+	private long rendered;
+	/** Frames skipped. */
+	private long skipped;
+	/** Frames drawn while behind, because no more could be skipped. */
+	private long forced;
+
+	/**
+	 * Constructor, sets the limits of the skipping.
+	 *
+	 * @param maxSkipped
+	 *            Most frames skipped in a row, 0 to never skip.
+	 * @param minRenderRate
+	 *            Frames per second drawn at least, whatever the load.
+	 */
+	public FrameSkipper(final int maxSkipped, final int minRenderRate) {
+		if (maxSkipped < 0)
+			throw new IllegalArgumentException("Skipped frames cannot be negative: " + maxSkipped);
+		if (minRenderRate <= 0)
+			throw new IllegalArgumentException("Minimum render rate must be positive: " + minRenderRate);
+		this.maxSkipped = maxSkipped;
+		this.maxInterval = TimeUnit.SECONDS.toNanos(1) / minRenderRate;
+		reset(System.nanoTime());
+	}
+
+	/**
+	 * Clears the counters, as if a frame had just been drawn.
+	 *
+	 * @param now
+	 *            Current {@link System#nanoTime()}.
+	 */
+	public void reset(final long now) {
+		this.skippedInARow = 0;
+		this.lastRendered = now;
+		this.rendered = 0;
+		this.skipped = 0;
+		this.forced = 0;
+	}
+
+	/**
+	 * Checks if a due frame should be skipped, and counts it if so.
+	 *
+	 * @param behind
+	 *            If the updates are behind real time.
+	 * @param now
+	 *            Current {@link System#nanoTime()}.
+	 * @return True if the frame should not be drawn.
+	 */
+	public boolean shouldSkip(final boolean behind, final long now) {
+		if (!behind)
+			return false;
+		if (this.skippedInARow >= this.maxSkipped || now - this.lastRendered >= this.maxInterval) {
+			this.forced++;
+			return false;
+		}
+		this.skippedInARow++;
+		this.skipped++;
+		return true;
+	}
+
+	/**
+	 * Records a frame as drawn.
+	 *
+	 * @param now
+	 *            Current {@link System#nanoTime()}.
+	 */
+	public void frameRendered(final long now) {
+		this.skippedInARow = 0;
+		this.lastRendered = now;
+		this.rendered++;
+	}
+
+	/**
+	 * Checks if frames are ever skipped.
+	 *
+	 * @return False if the skipper draws every frame.
+	 */
+	public boolean isEnabled() {
+		return this.maxSkipped > 0;
+	}
+
+	public int getMaxSkipped() { return this.maxSkipped; }
+	public long getRendered() { return this.rendered; }
+	public long getSkipped() { return this.skipped; }
+	public long getForced() { return this.forced; }
+
+	@Override
+	public String toString() {
+		return String.format("rendered=%d skipped=%d forced=%d", this.rendered, this.skipped, this.forced);
+	}
+}
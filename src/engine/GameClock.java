@@ -0,0 +1,60 @@
+package engine;
+
+/**
+ * Source of the time gameplay runs on, in milliseconds.
+ * <p>
+ * Menus run on {@link #WALL}, real time. A game level runs on the
+ * {@link TickClock} of its model, which only moves when the model is
+ * updated: pausing the updates pauses every timer, and a headless run can
+ * go through hours of play as fast as the updates can be computed.
+ * </p>
+ * <p>
+ * Timers that are created without a clock, like {@link Cooldown} and
+ * {@link GameTimer}, take the current clock set with {@link #use}, the
+ * same way entities find the shared entity registry.
+ * </p>
+ */
+public interface GameClock {
+
+	/** Real time, from {@link System#currentTimeMillis()}. */
+	GameClock WALL = System::currentTimeMillis;
+
+	/**
+	 * Getter for the current time.
+	 *
+	 * @return Time in milliseconds. Only differences between two readings
+	 *         of the same clock are meaningful.
+	 */
+	long millis();
+
+	/**
+	 * Getter for the clock new timers use.
+	 *
+	 * @return Current clock, {@link #WALL} unless a game level is running.
+	 */
+	static GameClock current() {
+		return Holder.current;
+	}
+
+	/**
+	 * Sets the clock new timers use.
+	 *
+	 * @param clock
+	 *            Clock to use, or null for {@link #WALL}.
+	 */
+	static void use(final GameClock clock) {
+		Holder.current = clock == null ? WALL : clock;
+	}
+
+	/**
+	 * Keeps the current clock, which an interface cannot hold in a
+	 * mutable field.
+	 */
+	final class Holder {
+		/** Clock new timers use. */
+		private static volatile GameClock current = WALL;
+
+		private Holder() {
+		}
+	}
+}
@@ -1,16 +1,23 @@
 package engine;
 
 /**
- * Implements a simple game timer to measure elapsed time.
+ * Implements a simple game timer to measure elapsed time, on the
+ * {@link GameClock} that was current when it was created.
  * @author Amartsogt / CHO
  */
 public class GameTimer {
 
+    private final GameClock clock;
     private long startTime;
     private long stopTime;
     private boolean running;
     
     public GameTimer() {
+        this(GameClock.current());
+    }
+
+    public GameTimer(final GameClock clock) {
+        this.clock = clock;
         this.startTime = 0L;
         this.stopTime = 0L;
         this.running = false;
@@ -20,7 +27,7 @@ public class GameTimer {
      * Starts the timer.
      */
     public void start() {
-        this.startTime = System.nanoTime();
+        this.startTime = this.clock.millis();
         this.running = true;
         this.stopTime = 0L;
     }
@@ -30,7 +37,7 @@ public class GameTimer {
      */
     public void stop() {
         if (this.running) {
-            this.stopTime = System.nanoTime();
+            this.stopTime = this.clock.millis();
             this.running = false;
         }
     }
@@ -39,8 +46,8 @@ public class GameTimer {
      * @return Elapsed time in milliseconds.
      */
     public long getElapsedTime() {
-        final long endTime = this.running ? System.nanoTime() : this.stopTime;
-        return (endTime - this.startTime) / 1000000;
+        final long endTime = this.running ? this.clock.millis() : this.stopTime;
+        return endTime - this.startTime;
     }
 
     /**
@@ -4,6 +4,9 @@ import java.awt.*;
 import java.util.ArrayList;
 import java.util.List;
 
+import engine.DTO.RenderSnapshotDTO;
+import engine.event.GameEvent;
+import engine.event.GameEventListener;
 import entity.ShopItem;
 import entity.DropItem;
 
@@ -16,7 +19,7 @@ import entity.DropItem;
  *
  * @author Team 8 - HUD Implementation
  */
-public class ItemHUDManager {
+public class ItemHUDManager implements GameEventListener {
 
     /** Singleton instance */
     private static ItemHUDManager instance;
@@ -38,7 +41,25 @@ public class ItemHUDManager {
     private List<DroppedItemInfo> activeDroppedItems;
 
     /** Maximum number of dynamic items that can be displayed */
-    private static final int MAX_DYNAMIC_ITEMS = 6;
+    public static final int MAX_DYNAMIC_ITEMS = 6;
+
+    /** Shop items in order: MultiShot, RapidFire, Penetration, BulletSpeed, ShipSpeed */
+    private static final ShopItemType[] SHOP_ITEMS = {
+        ShopItemType.MULTI_SHOT,
+        ShopItemType.RAPID_FIRE,
+        ShopItemType.PENETRATION,
+        ShopItemType.BULLET_SPEED,
+        ShopItemType.SHIP_SPEED
+    };
+
+    /** Number of fixed shop item squares */
+    public static final int SHOP_ITEM_COUNT = SHOP_ITEMS.length;
+
+    /** Level indicators, built once instead of every frame. */
+    private static final String[] LEVEL_LABELS = {"0", "1", "2", "3", "4", "5", "6", "7", "8", "9"};
+
+    /** Item types by ordinal, as carried by {@link GameEvent#ITEM_COLLECTED}. */
+    private static final DropItem.ItemType[] ITEM_TYPES = DropItem.ItemType.values();
 
     /** Duration to show dropped items (in milliseconds) */
     private static final long DROPPED_ITEM_DISPLAY_DURATION = 10000; // 10 seconds
@@ -53,11 +74,11 @@ public class ItemHUDManager {
 
         public DroppedItemInfo(DropItem.ItemType itemType) {
             this.itemType = itemType;
-            this.displayStartTime = System.currentTimeMillis();
+            this.displayStartTime = GameClock.current().millis();
         }
 
         public boolean isExpired() {
-            return System.currentTimeMillis() - displayStartTime > DROPPED_ITEM_DISPLAY_DURATION;
+            return GameClock.current().millis() - displayStartTime > DROPPED_ITEM_DISPLAY_DURATION;
         }
     }
 
@@ -92,6 +113,16 @@ public class ItemHUDManager {
         this.startX = screenWidth - totalFixedWidth - 20; // 20px margin from right edge
     }
 
+    /**
+     * Shows the items collected during an update, drained by the model's
+     * event bus after the collision pass.
+     */
+    @Override
+    public void onGameEvent(GameEvent event, int player, int value) {
+        if (event == GameEvent.ITEM_COLLECTED)
+            addDroppedItem(ITEM_TYPES[value]);
+    }
+
     /**
      * Add a dropped item to be displayed
      */
@@ -109,6 +140,14 @@ public class ItemHUDManager {
         }
     }
 
+    /**
+     * Remove every dropped item. Called when a level starts, since items are
+     * timed on the clock of the level they were collected in.
+     */
+    public void clearDroppedItems() {
+        activeDroppedItems.clear();
+    }
+
     /**
      * Remove expired dropped items
      */
@@ -117,36 +156,41 @@ public class ItemHUDManager {
     }
 
     /**
-     * Draw all items on the HUD
+     * Copy the items to display into a snapshot. Called by the game thread,
+     * which is the only one touching the list of dropped items.
      */
-    public void drawItems(Graphics graphics) {
+    public void captureItems(RenderSnapshotDTO snapshot) {
         cleanupExpiredItems();
 
+        for (int i = 0; i < activeDroppedItems.size(); i++) {
+            snapshot.addHudItem(activeDroppedItems.get(i).itemType);
+        }
+        for (int i = 0; i < SHOP_ITEM_COUNT; i++) {
+            snapshot.setShopItem(i, isShopItemActive(SHOP_ITEMS[i]), getShopItemLevel(SHOP_ITEMS[i]));
+        }
+    }
+
+    /**
+     * Draw all items on the HUD, as copied into a snapshot
+     */
+    public void drawItems(Graphics graphics, RenderSnapshotDTO snapshot) {
         // Draw fixed shop items (bottom row)
-        drawFixedShopItems(graphics);
+        drawFixedShopItems(graphics, snapshot);
 
         // Draw dynamic dropped items (top row)
-        drawDynamicDroppedItems(graphics);
+        drawDynamicDroppedItems(graphics, snapshot);
     }
 
     /**
      * Draw the 5 fixed shop items
      */
-    private void drawFixedShopItems(Graphics graphics) {
+    private void drawFixedShopItems(Graphics graphics, RenderSnapshotDTO snapshot) {
         int x = startX;
         int y = fixedItemsY;
 
-        // Shop items in order: MultiShot, RapidFire, Penetration, BulletSpeed, ShipSpeed
-        ShopItemType[] shopItems = {
-            ShopItemType.MULTI_SHOT,
-            ShopItemType.RAPID_FIRE,
-            ShopItemType.PENETRATION,
-            ShopItemType.BULLET_SPEED,
-            ShopItemType.SHIP_SPEED
-        };
-
-        for (ShopItemType itemType : shopItems) {
-            drawShopItemSquare(graphics, x, y, itemType);
+        for (int i = 0; i < SHOP_ITEM_COUNT; i++) {
+            drawShopItemSquare(graphics, x, y, SHOP_ITEMS[i],
+                    snapshot.isShopItemActive(i), snapshot.getShopItemLevel(i));
             x += ITEM_SQUARE_SIZE + SQUARE_SPACING;
         }
     }
@@ -154,15 +198,14 @@ public class ItemHUDManager {
     /**
      * Draw the 6 dynamic dropped items
      */
-    private void drawDynamicDroppedItems(Graphics graphics) {
+    private void drawDynamicDroppedItems(Graphics graphics, RenderSnapshotDTO snapshot) {
         int x = startX;
         int y = dynamicItemsY;
 
         // Draw up to 6 dynamic items
         for (int i = 0; i < MAX_DYNAMIC_ITEMS; i++) {
-            if (i < activeDroppedItems.size()) {
-                DroppedItemInfo itemInfo = activeDroppedItems.get(i);
-                drawDroppedItemSquare(graphics, x, y, itemInfo.itemType);
+            if (i < snapshot.getHudItemCount()) {
+                drawDroppedItemSquare(graphics, x, y, snapshot.getHudItem(i));
             } else {
                 // Draw empty square
                 drawEmptySquare(graphics, x, y);
@@ -174,10 +217,8 @@ public class ItemHUDManager {
     /**
      * Draw a shop item square
      */
-    private void drawShopItemSquare(Graphics graphics, int x, int y, ShopItemType itemType) {
-        boolean isActive = isShopItemActive(itemType);
-        int level = getShopItemLevel(itemType);
-
+    private void drawShopItemSquare(Graphics graphics, int x, int y, ShopItemType itemType,
+                                    boolean isActive, int level) {
         // Draw square background
         Color bgColor = isActive ? Color.GREEN : Color.DARK_GRAY;
         graphics.setColor(bgColor);
@@ -194,7 +235,8 @@ public class ItemHUDManager {
         // Draw level indicator
         if (level > 0) {
             graphics.setColor(Color.YELLOW);
-            graphics.drawString(String.valueOf(level), x + ITEM_SQUARE_SIZE - 6, y + ITEM_SQUARE_SIZE - 3);
+            String levelLabel = level < LEVEL_LABELS.length ? LEVEL_LABELS[level] : String.valueOf(level);
+            graphics.drawString(levelLabel, x + ITEM_SQUARE_SIZE - 6, y + ITEM_SQUARE_SIZE - 3);
         }
     }
 
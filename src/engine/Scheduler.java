@@ -0,0 +1,278 @@
+package engine;
+
+/**
+ * Hierarchical timer wheel counting game updates.
+ * <p>
+ * Timers wait in the slot of the update they are due in, so advancing the
+ * wheel only looks at the timers that are due, however many are waiting.
+ * The wheel has {@value #LEVELS} levels of {@value #SLOTS} slots: level
+ * {@code n} holds the timers due within {@code SLOTS^(n+1)} updates, and
+ * each of its slots is moved down to the level below when the updates
+ * reach it. Timers due even later wait in an overflow list.
+ * </p>
+ * <p>
+ * Timers are linked into the slots through their own fields, so scheduling,
+ * cancelling and firing them never allocates. A timer can be armed again
+ * from its own action.
+ * </p>
+ */
+public final class Scheduler {
+
+	/** Bits of the update number each level covers. */
+	private static final int SLOT_BITS = 6;
+	/** Slots per level. */
+	public static final int SLOTS = 1 << SLOT_BITS;
+	/** Slot index mask. */
+	private static final int SLOT_MASK = SLOTS - 1;
+	/** Levels of the wheel. */
+	public static final int LEVELS = 4;
+	/** Delay from which timers wait in the overflow list. */
+	private static final long SPAN = 1L << (SLOT_BITS * LEVELS);
+
+	/** First timer of each slot, per level. */
+	private final Timer[][] slots = new Timer[LEVELS][SLOTS];
+	/** Timers due after the span of the wheel. */
+	private Timer overflow;
+	/** Updates counted so far. */
+	private long tick;
+	/** Number of armed timers. */
+	private int pending;
+	/** Number of timers fired so far. */
+	private long fired;
+
+	/**
+	 * Arms a timer to fire after a number of updates. A timer that was
+	 * already armed is moved.
+	 *
+	 * @param timer
+	 *            Timer to arm.
+	 * @param delay
+	 *            Updates until it fires; delays below 1 fire on the next
+	 *            update.
+	 */
+	public void schedule(final Timer timer, final long delay) {
+		scheduleAt(timer, this.tick + Math.max(1, delay));
+	}
+
+	/**
+	 * Arms a timer to fire on a given update. A timer that was already
+	 * armed is moved.
+	 *
+	 * @param timer
+	 *            Timer to arm.
+	 * @param deadline
+	 *            Update it fires on; past updates fire on the next one.
+	 */
+	public void scheduleAt(final Timer timer, final long deadline) {
+		if (timer.scheduler != null)
+			timer.scheduler.cancel(timer);
+		timer.scheduler = this;
+		timer.deadline = Math.max(this.tick + 1, deadline);
+		this.pending++;
+		place(timer);
+	}
+
+	/**
+	 * Disarms a timer, which then does not fire.
+	 *
+	 * @param timer
+	 *            Timer to disarm; nothing happens if it is not armed here.
+	 */
+	public void cancel(final Timer timer) {
+		if (timer.scheduler != this)
+			return;
+		unlink(timer);
+		timer.scheduler = null;
+		this.pending--;
+	}
+
+	/**
+	 * Moves the wheel forward by one update and fires the timers due on it,
+	 * in no particular order.
+	 */
+	public void advance() {
+		this.tick++;
+		cascade(1);
+
+		Timer timer = this.slots[0][(int) (this.tick & SLOT_MASK)];
+		this.slots[0][(int) (this.tick & SLOT_MASK)] = null;
+		while (timer != null) {
+			Timer next = timer.next;
+			timer.previous = null;
+			timer.next = null;
+			timer.scheduler = null;
+			this.pending--;
+			this.fired++;
+			timer.fire();
+			timer = next;
+		}
+	}
+
+	/**
+	 * Moves the current slot of a level down to the levels below, once the
+	 * slots of the level below have all been gone through. Higher levels go
+	 * first, so their timers reach the bottom in the same update.
+	 */
+	private void cascade(final int level) {
+		int below = (int) ((this.tick >> (SLOT_BITS * (level - 1))) & SLOT_MASK);
+		if (below != 0)
+			return;
+		if (level == LEVELS) {
+			Timer timer = this.overflow;
+			this.overflow = null;
+			replace(timer);
+			return;
+		}
+		cascade(level + 1);
+		int index = (int) ((this.tick >> (SLOT_BITS * level)) & SLOT_MASK);
+		Timer timer = this.slots[level][index];
+		this.slots[level][index] = null;
+		replace(timer);
+	}
+
+	/**
+	 * Places again a list of timers detached from a slot.
+	 */
+	private void replace(Timer timer) {
+		while (timer != null) {
+			Timer next = timer.next;
+			timer.previous = null;
+			timer.next = null;
+			place(timer);
+			timer = next;
+		}
+	}
+
+	/**
+	 * Links a timer into the slot of its deadline, on the lowest level that
+	 * reaches it.
+	 */
+	private void place(final Timer timer) {
+		long delay = timer.deadline - this.tick;
+		if (delay >= SPAN) {
+			timer.level = LEVELS;
+			timer.next = this.overflow;
+			if (this.overflow != null)
+				this.overflow.previous = timer;
+			this.overflow = timer;
+			return;
+		}
+		int level = 0;
+		while (delay >= 1L << (SLOT_BITS * (level + 1)))
+			level++;
+		int index = (int) ((timer.deadline >> (SLOT_BITS * level)) & SLOT_MASK);
+		timer.level = level;
+		timer.slot = index;
+		timer.next = this.slots[level][index];
+		if (timer.next != null)
+			timer.next.previous = timer;
+		this.slots[level][index] = timer;
+	}
+
+	/**
+	 * Takes a timer out of its slot.
+	 */
+	private void unlink(final Timer timer) {
+		if (timer.previous != null)
+			timer.previous.next = timer.next;
+		else if (timer.level == LEVELS)
+			this.overflow = timer.next;
+		else
+			this.slots[timer.level][timer.slot] = timer.next;
+		if (timer.next != null)
+			timer.next.previous = timer.previous;
+		timer.previous = null;
+		timer.next = null;
+	}
+
+	/**
+	 * Getter for the number of updates counted so far.
+	 *
+	 * @return Current update.
+	 */
+	public long getTick() {
+		return this.tick;
+	}
+
+	/**
+	 * Getter for the number of armed timers.
+	 *
+	 * @return Timers waiting to fire.
+	 */
+	public int getPending() {
+		return this.pending;
+	}
+
+	/**
+	 * Getter for the number of timers fired so far.
+	 *
+	 * @return Timers fired.
+	 */
+	public long getFired() {
+		return this.fired;
+	}
+
+	/**
+	 * Deadline kept in a {@link Scheduler}, reused every time it is armed.
+	 * <p>
+	 * A timer runs its action when it fires, if it has one; a timer without
+	 * one is simply polled with {@link #isPending()}.
+	 * </p>
+	 */
+	public static class Timer {
+
+		/** Action run when the timer fires, may be null. */
+		private final Runnable action;
+		/** Scheduler the timer is armed in, null when it is not. */
+		private Scheduler scheduler;
+		/** Update the timer fires on. */
+		private long deadline;
+		/** Level and slot of the wheel holding the timer. */
+		private int level, slot;
+		/** Neighbours in the slot. */
+		private Timer previous, next;
+
+		/**
+		 * Constructor, creates a timer without an action.
+		 */
+		public Timer() {
+			this(null);
+		}
+
+		/**
+		 * Constructor, creates a timer running an action when it fires.
+		 *
+		 * @param action
+		 *            Action to run, or null.
+		 */
+		public Timer(final Runnable action) {
+			this.action = action;
+		}
+
+		/**
+		 * Called when the timer fires, after it has been disarmed.
+		 */
+		protected void fire() {
+			if (this.action != null)
+				this.action.run();
+		}
+
+		/**
+		 * Checks if the timer is armed.
+		 *
+		 * @return True until the timer fires or is cancelled.
+		 */
+		public final boolean isPending() {
+			return this.scheduler != null;
+		}
+
+		/**
+		 * Getter for the update the timer fires on, or last fired on.
+		 *
+		 * @return Deadline of the timer.
+		 */
+		public final long getDeadline() {
+			return this.deadline;
+		}
+	}
+}
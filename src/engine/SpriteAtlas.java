@@ -5,6 +5,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 import engine.DrawManager.SpriteType;
+import entity.collision.CollisionMask;
 
 public final class SpriteAtlas {
 
@@ -40,6 +41,8 @@ public final class SpriteAtlas {
             spriteMap.put(SpriteType.OmegaBoss2, new boolean[32][14]);
             spriteMap.put(SpriteType.OmegaBossDeath, new boolean[16][16]);
             fileManager.loadSprite(spriteMap);
+            for (Map.Entry<SpriteType, boolean[][]> sprite : spriteMap.entrySet())
+                CollisionMask.register(sprite.getKey(), sprite.getValue());
         } catch (IOException e) {
             Core.getLogger().warning("[SpriteAtlas] Failed to load sprites: " + e.getMessage());
         }
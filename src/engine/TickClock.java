@@ -0,0 +1,74 @@
+package engine;
+
+/**
+ * Game clock driven by the model's updates: every {@link #advance()} moves
+ * it forward by one update's worth of time, however long the update took.
+ * <p>
+ * The clock also drives a {@link Scheduler}, on which timers of the level
+ * wait for their update instead of reading the clock every frame.
+ * </p>
+ */
+public final class TickClock implements GameClock {
+
+	/** Updates per second the clock is advanced at. */
+	private final int ticksPerSecond;
+	/** Updates counted so far. Read by the render thread. */
+	private volatile long ticks;
+	/** Timers waiting for an update of this clock. */
+	private final Scheduler scheduler = new Scheduler();
+
+	/**
+	 * Constructor, creates a clock at time zero.
+	 *
+	 * @param ticksPerSecond
+	 *            Number of updates in a second of game time.
+	 */
+	public TickClock(final int ticksPerSecond) {
+		if (ticksPerSecond <= 0)
+			throw new IllegalArgumentException("Tick rate must be positive: " + ticksPerSecond);
+		this.ticksPerSecond = ticksPerSecond;
+	}
+
+	/**
+	 * Moves the clock forward by one update and fires the timers due on it.
+	 * Only called by the thread updating the model.
+	 */
+	public void advance() {
+		this.ticks = this.ticks + 1;
+		this.scheduler.advance();
+	}
+
+	/**
+	 * Getter for the first update at which {@link #millis()} is past a time.
+	 *
+	 * @param millis
+	 *            Time in milliseconds of this clock.
+	 * @return Number of the update.
+	 */
+	public long tickAfter(final long millis) {
+		return ((millis + 1) * this.ticksPerSecond + 999) / 1000;
+	}
+
+	/**
+	 * Getter for the scheduler advanced along with the clock.
+	 *
+	 * @return Scheduler of the clock.
+	 */
+	public Scheduler getScheduler() {
+		return this.scheduler;
+	}
+
+	/**
+	 * Getter for the number of updates counted so far.
+	 *
+	 * @return Number of updates.
+	 */
+	public long getTicks() {
+		return this.ticks;
+	}
+
+	@Override
+	public long millis() {
+		return this.ticks * 1000 / this.ticksPerSecond;
+	}
+}
@@ -0,0 +1,88 @@
+package engine;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free hand-off of the latest value from one writer thread to one
+ * reader thread.
+ * <p>
+ * The buffer holds three values. The writer fills its back value and
+ * publishes it, swapping it with the shared one; the reader swaps the shared
+ * value with its front value when a newer one has been published. Each swap
+ * is a single atomic exchange, so neither thread ever waits for the other:
+ * the writer can publish several times between two reads, and the reader
+ * keeps its front value for as long as nothing new arrives.
+ * </p>
+ *
+ * @param <T>
+ *            Type of the values, reused from one publication to the next.
+ */
+public final class TripleBuffer<T> {
+
+	/** Mask of the value index in {@link #shared}. */
+	private static final int INDEX_MASK = 3;
+	/** Set in {@link #shared} when its value has not been read yet. */
+	private static final int FRESH = 4;
+
+	/** The three values. */
+	private final Object[] values = new Object[3];
+	/** Index of the value between the threads, plus {@link #FRESH}. */
+	private final AtomicInteger shared = new AtomicInteger(1);
+	/** Index of the value the writer fills. Only used by the writer. */
+	private int back = 0;
+	/** Index of the value the reader reads. Only used by the reader. */
+	private int front = 2;
+
+	/**
+	 * Constructor, creates the three values.
+	 *
+	 * @param factory
+	 *            Creates each value.
+	 */
+	public TripleBuffer(final Supplier<? extends T> factory) {
+		for (int i = 0; i < this.values.length; i++)
+			this.values[i] = factory.get();
+	}
+
+	/**
+	 * Getter for the value the writer fills next. Writer thread only.
+	 *
+	 * @return Back value.
+	 */
+	@SuppressWarnings("unchecked")
+	public T getBack() {
+		return (T) this.values[this.back];
+	}
+
+	/**
+	 * Hands the back value to the reader, and takes another value to fill.
+	 * Writer thread only.
+	 */
+	public void publish() {
+		this.back = this.shared.getAndSet(this.back | FRESH) & INDEX_MASK;
+	}
+
+	/**
+	 * Getter for the most recently published value. Reader thread only.
+	 *
+	 * @return Front value, newer than the last call if something has been
+	 *         published since.
+	 */
+	@SuppressWarnings("unchecked")
+	public T acquire() {
+		if ((this.shared.get() & FRESH) != 0)
+			this.front = this.shared.getAndSet(this.front) & INDEX_MASK;
+		return (T) this.values[this.front];
+	}
+
+	/**
+	 * Checks if a value has been published since the last
+	 * {@link #acquire()}. Any thread.
+	 *
+	 * @return True if the reader would get a newer value.
+	 */
+	public boolean hasFresh() {
+		return (this.shared.get() & FRESH) != 0;
+	}
+}
@@ -0,0 +1,32 @@
+package engine.event;
+
+/**
+ * Kinds of gameplay events the model reports through a
+ * {@link GameEventBus}.
+ * <p>
+ * An event carries two integers besides its kind: the player it concerns,
+ * 1 or 2, or 0 when it concerns none, and a value whose meaning depends on
+ * the kind.
+ * </p>
+ */
+public enum GameEvent {
+
+	/** A player bullet destroyed an enemy ship; the value is the points won. */
+	ENEMY_DESTROYED,
+	/** A player ship shot; the value is unused. */
+	SHOT_FIRED,
+	/** A player ship collected a dropped item; the value is the item type ordinal. */
+	ITEM_COLLECTED,
+	/** A player ship lost lives; the value is the lives it has left. */
+	SHIP_HIT,
+	/**
+	 * A boss entered a new phase; the value is the phase, or
+	 * {@link #BOSS_DEFEATED} once the boss is destroyed.
+	 */
+	BOSS_PHASE_CHANGED,
+	/** Another whole second of the level went by; the value is the seconds elapsed. */
+	TIME_ELAPSED;
+
+	/** Phase reported when a boss is destroyed. */
+	public static final int BOSS_DEFEATED = 0;
+}
@@ -0,0 +1,174 @@
+package engine.event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Queues the gameplay events of an update and hands them to subscribers in
+ * one batch once the update is over.
+ * <p>
+ * The model appends events from deep inside the collision pass, where
+ * achievements, the HUD and sounds used to be called directly; some of
+ * those calls write files or open audio lines. Appending only stores three
+ * numbers in a preallocated ring, and {@link #drain()} runs the side
+ * effects after the pass, in the order the events happened. Events keep the
+ * update they were raised in, for replays and telemetry subscribers.
+ * </p>
+ * <p>
+ * The ring doubles when an update raises more events than it holds, like
+ * {@link engine.DTO.RenderSnapshotDTO}, so a busy update never loses one.
+ * </p>
+ */
+public final class GameEventBus {
+
+	/** Kind of each queued event. */
+	private GameEvent[] events;
+	/** Player of each queued event. */
+	private int[] players;
+	/** Value of each queued event. */
+	private int[] values;
+	/** Update each queued event was raised in. */
+	private long[] ticks;
+	/** Slot of the oldest queued event. */
+	private int head;
+	/** Number of queued events. */
+	private int size;
+	/** Update stamped on the events being raised. */
+	private long tick;
+	/** Events handed to subscribers so far. */
+	private long delivered;
+	/** Subscribers, called in the order they subscribed. */
+	private final List<GameEventListener> listeners = new ArrayList<GameEventListener>();
+
+	/**
+	 * Constructor, creates an empty bus.
+	 *
+	 * @param capacity
+	 *            Events an update can raise before the ring grows; rounded
+	 *            up to a power of two.
+	 */
+	public GameEventBus(final int capacity) {
+		allocate(Integer.highestOneBit(Math.max(2, capacity - 1)) << 1);
+	}
+
+	/**
+	 * Adds a subscriber. A subscriber already added is not added twice.
+	 *
+	 * @param listener
+	 *            Subscriber to call for every event.
+	 */
+	public void subscribe(final GameEventListener listener) {
+		if (!this.listeners.contains(listener))
+			this.listeners.add(listener);
+	}
+
+	/**
+	 * Removes a subscriber.
+	 *
+	 * @param listener
+	 *            Subscriber to stop calling.
+	 */
+	public void unsubscribe(final GameEventListener listener) {
+		this.listeners.remove(listener);
+	}
+
+	/**
+	 * Sets the update stamped on the events raised from now on.
+	 *
+	 * @param tick
+	 *            Number of the current update.
+	 */
+	public void beginTick(final long tick) {
+		this.tick = tick;
+	}
+
+	/**
+	 * Queues an event.
+	 *
+	 * @param event
+	 *            Kind of the event.
+	 * @param player
+	 *            Player the event concerns, or 0.
+	 * @param value
+	 *            Value of the event, see {@link GameEvent}.
+	 */
+	public void publish(final GameEvent event, final int player, final int value) {
+		if (this.size == this.events.length)
+			allocate(this.events.length * 2);
+		int slot = (this.head + this.size) & (this.events.length - 1);
+		this.events[slot] = event;
+		this.players[slot] = player;
+		this.values[slot] = value;
+		this.ticks[slot] = this.tick;
+		this.size++;
+	}
+
+	/**
+	 * Hands every queued event to every subscriber, oldest first, and
+	 * empties the queue. Events raised by subscribers are handed over in
+	 * the same drain.
+	 */
+	public void drain() {
+		while (this.size > 0) {
+			int slot = this.head;
+			GameEvent event = this.events[slot];
+			int player = this.players[slot];
+			int value = this.values[slot];
+			this.events[slot] = null;
+			this.head = (slot + 1) & (this.events.length - 1);
+			this.size--;
+			this.delivered++;
+			for (int i = 0; i < this.listeners.size(); i++)
+				this.listeners.get(i).onGameEvent(event, player, value);
+		}
+	}
+
+	/**
+	 * Drops the queued events without handing them over.
+	 */
+	public void clear() {
+		Arrays.fill(this.events, null);
+		this.head = 0;
+		this.size = 0;
+	}
+
+	/**
+	 * Grows the ring to the given capacity, moving the queued events to its
+	 * start.
+	 */
+	private void allocate(final int capacity) {
+		GameEvent[] events = new GameEvent[capacity];
+		int[] players = new int[capacity];
+		int[] values = new int[capacity];
+		long[] ticks = new long[capacity];
+		for (int k = 0; k < this.size; k++) {
+			int slot = (this.head + k) & (this.events.length - 1);
+			events[k] = this.events[slot];
+			players[k] = this.players[slot];
+			values[k] = this.values[slot];
+			ticks[k] = this.ticks[slot];
+		}
+		this.events = events;
+		this.players = players;
+		this.values = values;
+		this.ticks = ticks;
+		this.head = 0;
+	}
+
+	/* Getters for the queued events, oldest first, used by telemetry. */
+	public int size() { return this.size; }
+	public GameEvent getEvent(final int k) { return this.events[slot(k)]; }
+	public int getPlayer(final int k) { return this.players[slot(k)]; }
+	public int getValue(final int k) { return this.values[slot(k)]; }
+	public long getTick(final int k) { return this.ticks[slot(k)]; }
+	public int getCapacity() { return this.events.length; }
+	public long getDelivered() { return this.delivered; }
+
+	/**
+	 * Slot of the k-th queued event.
+	 */
+	private int slot(final int k) {
+		return (this.head + k) & (this.events.length - 1);
+	}
+}
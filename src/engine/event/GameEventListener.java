@@ -0,0 +1,21 @@
+package engine.event;
+
+/**
+ * Subscriber of a {@link GameEventBus}, called for every event of an update
+ * once the update is over.
+ */
+@FunctionalInterface
+public interface GameEventListener {
+
+	/**
+	 * Handles an event.
+	 *
+	 * @param event
+	 *            Kind of the event.
+	 * @param player
+	 *            Player the event concerns, or 0.
+	 * @param value
+	 *            Value of the event, see {@link GameEvent}.
+	 */
+	void onGameEvent(GameEvent event, int player, int value);
+}
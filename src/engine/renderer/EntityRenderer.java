@@ -5,6 +5,7 @@ import java.util.Map;
 
 import engine.BackBuffer;
 import engine.Core;
+import entity.BulletStore;
 import entity.Entity;
 import engine.DrawManager.SpriteType;
 import entity.LaserBullet;
@@ -18,6 +19,11 @@ import entity.pattern.DashPattern;
  */
 public final class EntityRenderer {
 
+	/** Color and stroke of the dash path, shared by every frame. */
+	private static final Color DASH_PATH_COLOR = new Color(255, 0, 0, 180);
+	private static final BasicStroke DASH_PATH_STROKE = new BasicStroke(2.0f, BasicStroke.CAP_BUTT,
+			BasicStroke.JOIN_MITER, 10.0f, new float[]{10.0f, 5.0f}, 0.0f);
+
 	private final Map<SpriteType, boolean[][]> spriteMap;
 	private final BackBuffer backBuffer;
 	private final double scale;
@@ -30,9 +36,41 @@ public final class EntityRenderer {
 
 	/** Draws a single entity on the back buffer. */
 	public void drawEntity(final Entity entity, final int positionX, final int positionY) {
-		boolean[][] image = spriteMap.get(entity.getSpriteType());
+		drawSprite(entity.getSpriteType(), entity.getColor(), positionX, positionY);
+	}
+
+	/** Draws a sprite copied out of an entity, as found in a render snapshot. */
+	public void drawSprite(final SpriteType spriteType, final Color color, final double alpha,
+						   final int previousX, final int previousY, final int positionX, final int positionY) {
+		drawSprite(spriteType, color,
+				previousX + (int) Math.round((positionX - previousX) * alpha),
+				previousY + (int) Math.round((positionY - previousY) * alpha));
+	}
+
+	/** Draws every bullet of a store, reading the slots directly. */
+	public void drawBullets(final BulletStore bullets) {
+		drawBullets(bullets, 1.0);
+	}
+
+	/**
+	 * Draws every bullet of a store between its last two positions. Bullets
+	 * move by their speed every update, so the position before the last
+	 * update is their position minus their speed.
+	 */
+	public void drawBullets(final BulletStore bullets, final double alpha) {
+		double behind = 1.0 - alpha;
+		for (int k = 0; k < bullets.size(); k++) {
+			drawSprite(bullets.getSprite(k), bullets.getColor(k),
+					bullets.getPositionX(k) - (int) Math.round(bullets.getSpeedX(k) * behind),
+					bullets.getPositionY(k) - (int) Math.round(bullets.getSpeedY(k) * behind));
+		}
+	}
+
+	/** Draws a sprite in the given color on the back buffer. */
+	public void drawSprite(final SpriteType spriteType, final Color color, final int positionX, final int positionY) {
+		boolean[][] image = spriteMap.get(spriteType);
 		Graphics g = backBuffer.getGraphics();
-		g.setColor(entity.getColor());
+		g.setColor(color);
 
 		for (int i = 0; i < image.length; i++) {
 			for (int j = 0; j < image[i].length; j++) {
@@ -47,25 +85,40 @@ public final class EntityRenderer {
 	}
 
 	public void drawEntity(final Entity entity) {
+		drawGameEntity(entity, entity.getPositionX(), entity.getPositionY());
+	}
+
+	/**
+	 * Draws a game entity between its position before and after the last
+	 * update.
+	 *
+	 * @see Entity#getDrawPositionX(double, long)
+	 */
+	public void drawEntity(final Entity entity, final double alpha, final long tick) {
+		drawGameEntity(entity, entity.getDrawPositionX(alpha, tick), entity.getDrawPositionY(alpha, tick));
+	}
+
+	/** Draws a game entity at the given position, along with its extra visuals. */
+	private void drawGameEntity(final Entity entity, final int positionX, final int positionY) {
 		if (entity instanceof LaserBullet) {
 			LaserBullet laser = (LaserBullet) entity;
 			drawLaserRotated(laser, laser.getTargetPosition().x, laser.getTargetPosition().y);
 		}
 		else if (entity instanceof OmegaBoss) {
 			OmegaBoss omegaBoss = (OmegaBoss) entity;
-			drawOmegaBoss(omegaBoss);
+			drawOmegaBoss(omegaBoss, positionX, positionY);
 		}
 		else {
-			drawEntity(entity, entity.getPositionX(), entity.getPositionY());
+			drawEntity(entity, positionX, positionY);
 		}
 	}
 
 	/**
 	 * Draws OmegaBoss entity with pattern-specific visualizations.
 	 */
-	private void drawOmegaBoss(OmegaBoss omegaBoss) {
+	private void drawOmegaBoss(OmegaBoss omegaBoss, int positionX, int positionY) {
 		// Draw boss sprite
-		drawEntity(omegaBoss, omegaBoss.getPositionX(), omegaBoss.getPositionY());
+		drawEntity(omegaBoss, positionX, positionY);
 
 		// Draw pattern-specific visuals
 		BossPattern currentPattern = omegaBoss.getBossPattern();
@@ -103,11 +156,15 @@ public final class EntityRenderer {
 		// Calculate boss center point
 		int bossWidth = boss.getWidth();
 		int bossHeight = boss.getHeight();
-		int startX = boss.getPositionX() + bossWidth / 2;
-		int startY = boss.getPositionY() + bossHeight / 2;
-		int targetX = targetPoint[0];
-		int targetY = targetPoint[1];
+		drawDashPathTowards(boss.getPositionX() + bossWidth / 2, boss.getPositionY() + bossHeight / 2,
+				targetPoint[0], targetPoint[1]);
+	}
 
+	/**
+	 * Draws a dash path from a start point through a target point, up to
+	 * beyond the screen.
+	 */
+	public void drawDashPathTowards(int startX, int startY, int targetX, int targetY) {
 		// Calculate direction vector and extend to long endpoint
 		double dx = targetX - startX;
 		double dy = targetY - startY;
@@ -151,12 +208,16 @@ public final class EntityRenderer {
 	// }
 
 	public void drawLaserRotated(Entity entity, int posX, int posY) {
+		drawLaser(entity.getColor(), posX, posY, entity.getPositionX(), entity.getPositionY());
+	}
+
+	/**
+	 * Draws a laser beam centered on a point, in the direction of a second
+	 * point.
+	 */
+	public void drawLaser(Color color, int x1, int y1, int x2, int y2) {
 		Graphics g = backBuffer.getGraphics();
-		g.setColor(entity.getColor());
-		int x1 = posX;
-		int y1 = posY;
-		int x2 = entity.getPositionX();
-		int y2 = entity.getPositionY();
+		g.setColor(color);
 
 		double dx = x2 - x1;
 		double dy = y2 - y1;
@@ -168,7 +229,7 @@ public final class EntityRenderer {
 		dx /= len;
 		dy /= len;
 
-		double big = 2000.0;
+		double big = LaserBullet.BEAM_HALF_LENGTH;
 
 		int sx = (int) Math.round(x1 - dx * big);
 		int sy = (int) Math.round(y1 - dy * big);
@@ -188,12 +249,8 @@ public final class EntityRenderer {
 		Color originalColor = g2d.getColor();
 		java.awt.Stroke originalStroke = g2d.getStroke();
 
-		g2d.setColor(new Color(255, 0, 0, 180));
-
-		float[] dashPattern = {10.0f, 5.0f};
-		g2d.setStroke(new BasicStroke(2.0f, BasicStroke.CAP_BUTT,
-				BasicStroke.JOIN_MITER, 10.0f,
-				dashPattern, 0.0f));
+		g2d.setColor(DASH_PATH_COLOR);
+		g2d.setStroke(DASH_PATH_STROKE);
 
 		g2d.drawLine(startX, startY, endX, endY);
 		drawArrowHead(g2d, startX, startY, endX, endY);
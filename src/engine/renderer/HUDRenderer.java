@@ -1,7 +1,9 @@
 package engine.renderer;
 
 import engine.BackBuffer;
+import engine.DTO.RenderSnapshotDTO;
 import engine.FontPack;
+import engine.FrameProfiler;
 import engine.ItemHUDManager;
 import entity.Ship;
 
@@ -17,19 +19,82 @@ public final class HUDRenderer {
     private final FontPack fontPack;
     private final EntityRenderer entityRenderer;
 
+    /** Background of the popups. */
+    private static final Color POPUP_BACKGROUND = new Color(0, 0, 0, 200);
+    /** Text color of the health popups. */
+    private static final Color HEAL_COLOR = new Color(50, 255, 50);
+    private static final Color DAMAGE_COLOR = new Color(255, 50, 50);
+    /** Background and text color of the profiler overlay. */
+    private static final Color PROFILER_BACKGROUND = new Color(0, 0, 0, 180);
+    private static final Color PROFILER_COLOR = new Color(120, 255, 120);
+    /** Column positions of the profiler overlay, from its left edge. */
+    private static final int[] PROFILER_COLUMNS = {8, 90, 140, 190};
+
+    /** Ships drawn as life icons, created once instead of every frame. */
+    private final Ship livesIconP1 = new Ship(0, 0, Color.GREEN);
+    private final Ship livesIconP2 = new Ship(0, 0, Color.PINK);
+
+    /** HUD texts, only formatted again when their value changes. */
+    private final CachedText scoreText = new CachedText("P1:%04d");
+    private final CachedText timeText = new CachedText("Time: %02d:%02d");
+    private final CachedText coinText = new CachedText("%03d$");
+
+    /** Text of a profiler overlay cell, built without creating strings. */
+    private final StringBuilder cell = new StringBuilder(32);
+    private final char[] cellChars = new char[32];
+
     public HUDRenderer(BackBuffer backBuffer, FontPack fontPack, EntityRenderer entityRenderer) {
         this.backBuffer = backBuffer;
         this.fontPack = fontPack;
         this.entityRenderer = entityRenderer;
     }
 
+    /**
+     * Formatted text of a HUD value. The last two values are remembered, so a
+     * text shared by both players is not formatted again every frame either.
+     */
+    private static final class CachedText {
+        private final String format;
+        private final long[] values = {Long.MIN_VALUE, Long.MIN_VALUE};
+        private final String[] texts = new String[2];
+        private int oldest;
+
+        CachedText(final String format) {
+            this.format = format;
+        }
+
+        String get(final long value) {
+            String text = find(value);
+            return text != null ? text : store(value, String.format(this.format, value));
+        }
+
+        String get(final long key, final long first, final long second) {
+            String text = find(key);
+            return text != null ? text : store(key, String.format(this.format, first, second));
+        }
+
+        private String find(final long key) {
+            for (int i = 0; i < this.texts.length; i++)
+                if (this.values[i] == key && this.texts[i] != null)
+                    return this.texts[i];
+            return null;
+        }
+
+        private String store(final long key, final String text) {
+            this.values[this.oldest] = key;
+            this.texts[this.oldest] = text;
+            this.oldest = 1 - this.oldest;
+            return text;
+        }
+    }
+
     /** Draw score. */
     public void drawScore(final int screenWidth, final int score, final int y) {
         Graphics g = backBuffer.getGraphics();
         Font font = fontPack.getRegular();
         g.setFont(font);
         g.setColor(Color.WHITE);
-        String scoreString = String.format("P1:%04d", score);
+        String scoreString = scoreText.get(score);
         g.drawString(scoreString, screenWidth - 120, y);
     }
 
@@ -45,7 +110,7 @@ public final class HUDRenderer {
         FontMetrics fm = g.getFontMetrics();
         int fontHeight = fm.getHeight();
         int y = screenHeight + 2 * fontHeight;
-        String timeString = String.format("Time: %02d:%02d", minutes, seconds);
+        String timeString = timeText.get(milliseconds / 1000, minutes, seconds);
         g.drawString(timeString, 10, y);
     }
 
@@ -57,7 +122,7 @@ public final class HUDRenderer {
         FontMetrics fm = g.getFontMetrics();
         int fontHeight = fm.getHeight();
 
-        String coinString = String.format("%03d$", coin);
+        String coinString = coinText.get(coin);
         int textWidth = fontPack.getRegularMetrics().stringWidth(coinString);
         int x = screenWidth / 2 - textWidth / 2;
         int y = screenHeight - fontHeight;
@@ -71,9 +136,8 @@ public final class HUDRenderer {
         g.setFont(fontPack.getRegular());
         g.setColor(Color.WHITE);
         g.drawString("P1:", 10, 25);
-        Ship dummyShip = new Ship(0, 0, Color.GREEN);
         for (int i = 0; i < lives; i++) {
-            entityRenderer.drawEntity(dummyShip, 40 + 35 * i, 10);
+            entityRenderer.drawEntity(livesIconP1, 40 + 35 * i, 10);
         }
     }
 
@@ -83,19 +147,18 @@ public final class HUDRenderer {
         g.setFont(fontPack.getRegular());
         g.setColor(Color.WHITE);
         g.drawString("P2:", 10, 55);
-        Ship dummyShip = new Ship(0, 0, Color.PINK);
         for (int i = 0; i < lives; i++) {
-            entityRenderer.drawEntity(dummyShip, 40 + 35 * i, 40);
+            entityRenderer.drawEntity(livesIconP2, 40 + 35 * i, 40);
         }
     }
 
-    /** Draw all item icons on HUD. */
-    public void drawItemsHUD(final int screenWidth, final int screenHeight) {
+    /** Draw all item icons on HUD, from the snapshot of the update. */
+    public void drawItemsHUD(final int screenWidth, final int screenHeight, final RenderSnapshotDTO snapshot) {
         Graphics g = backBuffer.getGraphics();
         ItemHUDManager hud = ItemHUDManager.getInstance();
         hud.setHUDPositions(screenHeight);
         hud.initialize(screenWidth);
-        hud.drawItems(g);
+        hud.drawItems(g, snapshot);
     }
 
     /** Draw current level name (bottom-left). */
@@ -117,7 +180,7 @@ public final class HUDRenderer {
         int x = screenWidth / 2 - popupWidth / 2;
         int y = 80;
 
-        g.setColor(new Color(0, 0, 0, 200));
+        g.setColor(POPUP_BACKGROUND);
         g.fillRoundRect(x, y, popupWidth, popupHeight, 15, 15);
 
         g.setColor(Color.YELLOW);
@@ -136,12 +199,71 @@ public final class HUDRenderer {
         int x = screenWidth / 2 - popupWidth / 2;
         int y = 100;
 
-        g.setColor(new Color(0, 0, 0, 200));
+        g.setColor(POPUP_BACKGROUND);
         g.fillRoundRect(x, y, popupWidth, popupHeight, 15, 15);
 
-        g.setColor(text.startsWith("+") ? new Color(50, 255, 50) : new Color(255, 50, 50));
+        g.setColor(text.startsWith("+") ? HEAL_COLOR : DAMAGE_COLOR);
         g.setFont(fontPack.getFontBig());
         int textWidth = fontPack.getBigMetrics().stringWidth(text);
         g.drawString(text, (screenWidth - textWidth) / 2, y + popupHeight / 2 + 5);
     }
+
+    /**
+     * Draws the profiler overlay at the top left of the play area: the
+     * p50, p95 and max duration of every frame phase, in milliseconds, then
+     * the live counts. Text goes through a reused buffer, so the overlay
+     * does not allocate.
+     */
+    public void drawProfiler(final FrameProfiler profiler, final int y) {
+        Graphics g = backBuffer.getGraphics();
+        FrameProfiler.Phase[] phases = FrameProfiler.phases();
+        FrameProfiler.Counter[] counters = FrameProfiler.counters();
+        g.setFont(fontPack.getFontSmall());
+        int lineHeight = fontPack.getSmallMetrics().getHeight();
+        int x = 10;
+
+        g.setColor(PROFILER_BACKGROUND);
+        g.fillRect(x, y, 240, lineHeight * (phases.length + counters.length + 1) + 8);
+        g.setColor(PROFILER_COLOR);
+
+        int line = y + lineHeight;
+        drawCell(g, cell.append("ms"), x, 0, line);
+        drawCell(g, cell.append("p50"), x, 1, line);
+        drawCell(g, cell.append("p95"), x, 2, line);
+        drawCell(g, cell.append("max"), x, 3, line);
+        for (FrameProfiler.Phase phase : phases) {
+            line += lineHeight;
+            drawCell(g, cell.append(phase.getLabel()), x, 0, line);
+            drawCell(g, appendMillis(profiler.getP50(phase)), x, 1, line);
+            drawCell(g, appendMillis(profiler.getP95(phase)), x, 2, line);
+            drawCell(g, appendMillis(profiler.getMax(phase)), x, 3, line);
+        }
+        for (FrameProfiler.Counter counter : counters) {
+            line += lineHeight;
+            drawCell(g, cell.append(counter.getLabel()), x, 0, line);
+            drawCell(g, cell.append(profiler.getCount(counter)), x, 1, line);
+        }
+    }
+
+    /**
+     * Appends a duration in milliseconds with two decimals to the cell.
+     */
+    private StringBuilder appendMillis(final long nanos) {
+        long hundredths = (nanos + 5_000) / 10_000;
+        cell.append(hundredths / 100).append('.');
+        if (hundredths % 100 < 10)
+            cell.append('0');
+        return cell.append(hundredths % 100);
+    }
+
+    /**
+     * Draws the cell text in a column of the overlay and empties the cell.
+     */
+    private void drawCell(final Graphics g, final StringBuilder text, final int x,
+                          final int column, final int y) {
+        int length = Math.min(text.length(), cellChars.length);
+        text.getChars(0, length, cellChars, 0);
+        g.drawChars(cellChars, 0, length, x + PROFILER_COLUMNS[column], y);
+        text.setLength(0);
+    }
 }
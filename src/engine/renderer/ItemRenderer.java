@@ -22,16 +22,23 @@ public class ItemRenderer {
 	}
 
 	public void render(DropItem item) {
-		SpriteType sprite = getSprite(item.getItemType());
-		Color color = getColor(item.getItemType());
+		render(item, item.getPositionX(), item.getPositionY());
+	}
+
+	/** Draws an item at the given position. */
+	public void render(DropItem item, int posX, int posY) {
+		render(item.getItemType(), posX, posY);
+	}
+
+	/** Draws an item of the given type at the given position. */
+	public void render(DropItem.ItemType type, int posX, int posY) {
+		SpriteType sprite = getSprite(type);
+		Color color = getColor(type);
 
 		boolean[][] image = spriteMap.get(sprite);
 		Graphics g = backBuffer.getGraphics();
 		g.setColor(color);
 
-		int posX = item.getPositionX();
-		int posY = item.getPositionY();
-
 		for (int i = 0; i < image.length; i++) {
 			for (int j = 0; j < image[i].length; j++) {
 				if (image[i][j]) {
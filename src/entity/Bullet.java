@@ -3,88 +3,110 @@ package entity;
 import java.awt.Color;
 
 import engine.DrawManager.SpriteType;
+import entity.collision.CollisionLayer;
 
 /**
- * Implements a bullet that moves vertically up or down.
- * 
+ * Implements a bullet, as a view of one slot of a {@link BulletStore}.
+ * <p>
+ * The bullet's data lives in the store. Position, size, speed, owner,
+ * penetration and removal mark are read from the store on every call, so a
+ * view always shows the bullet currently in its slot. A store has a single
+ * view, bound to a slot by {@link BulletStore#get(int)}, for the code that
+ * needs a bullet as an {@link Entity}.
+ * </p>
+ *
  * @author <a href="mailto:RobertoIA1987@gmail.com">Roberto Izquierdo Amo</a>
- * 
+ *
  */
 public class Bullet extends Entity implements Collidable {
-	// === [ADD] Owner flag: 1 = P1, 2 = P2, null for legacy compatibility ===
-	private Integer ownerId;
 
-    public Integer getOwnerId() { return ownerId; }
-    public void setOwnerId(Integer ownerId) { this.ownerId = ownerId; }
+	/** Store holding the bullet's data. */
+	private final BulletStore store;
+	/** Slot of the store this view shows. */
+	private int slot;
 
-
-    /**
-	 * Speed of the bullet, positive or negative depending on direction -
-	 * positive is down.
+	/**
+	 * Constructor, creates the view of a store.
+	 *
+	 * @param store
+	 *            Store holding the bullets.
 	 */
-	private int speed;
-
-	/** number of Penetrations */
-	private int penetrationCount;
-	/** Number of possible penetrations */
-	private int maxPenetration;
+	Bullet(final BulletStore store) {
+		super(0, 0, 0, 0, null);
+		this.store = store;
+	}
 
+	/**
+	 * Points the view at a slot, copying the drawing properties of the slot,
+	 * which {@link Entity} keeps in final getters.
+	 */
+	final void bind(final int slot, final SpriteType spriteType, final Color color) {
+		this.slot = slot;
+		this.spriteType = spriteType;
+		this.color = color;
+	}
 
 	/**
-	 * Constructor, establishes the bullet's properties.
-	 * 
-	 * @param positionX
-	 *            Initial position of the bullet in the X axis.
-	 * @param positionY
-	 *            Initial position of the bullet in the Y axis.
-	 * @param speed
-	 *            Speed of the bullet, positive or negative depending on
-	 *            direction - positive is down.
+	 * Getter for the slot this view shows.
+	 *
+	 * @return Slot in the store.
 	 */
-	public Bullet(final int positionX, final int positionY, final int speed, Color color) {
-		super(positionX, positionY, 3 * 2, 5 * 2, color);
+	public final int getSlot() {
+		return this.slot;
+	}
 
-		this.speed = speed;
-		this.penetrationCount = 0;
-		this.maxPenetration = ShopItem.getPenetrationCount();
+	@Override
+	public void markForRemoval() {
+		this.store.mark(this.slot);
+	}
 
-		setSprite();
+	@Override
+	public boolean isMarkedForRemoval() {
+		return this.store.isMarked(this.slot);
 	}
 
-	/**
-	 * Sets correct sprite for the bullet, based on speed.
-	 */
-	public final void setSprite() {
-		if (speed < 0)
-			this.spriteType = SpriteType.Bullet;
-		else
-			this.spriteType = SpriteType.EnemyBullet;
+	@Override
+	public void clearRemovalMark() {
+		this.store.unmark(this.slot);
 	}
 
-	/**
-	 * Updates the bullet's position.
-	 */
-	public void update() {
-		this.positionY += this.speed;
+	@Override
+	public int getPositionX() {
+		return this.store.getPositionX(this.slot);
+	}
+
+	@Override
+	public int getPositionY() {
+		return this.store.getPositionY(this.slot);
+	}
+
+	@Override
+	public int getWidth() {
+		return this.store.getWidth(this.slot);
+	}
+
+	@Override
+	public int getHeight() {
+		return this.store.getHeight(this.slot);
 	}
 
 	/**
-	 * Setter of the speed of the bullet.
-	 * 
-	 * @param speed
-	 *            New speed of the bullet.
+	 * Getter for the vertical speed of the bullet.
+	 *
+	 * @return Speed of the bullet, positive is down.
 	 */
-	public final void setSpeed(final int speed) {
-		this.speed = speed;
+	public final int getSpeed() {
+		return this.store.getSpeedY(this.slot);
 	}
 
 	/**
-	 * Getter for the speed of the bullet.
-	 * 
-	 * @return Speed of the bullet.
+	 * Getter for the ship that shot the bullet.
+	 *
+	 * @return Handle of the player ship, or {@link EntityRegistry#NONE} for
+	 *         enemy and boss bullets.
 	 */
-	public final int getSpeed() {
-		return this.speed;
+	public final int getOwner() {
+		return this.store.getOwner(this.slot);
 	}
 
 	/**
@@ -93,9 +115,7 @@ public class Bullet extends Entity implements Collidable {
 	 * @return If true the bullet persists, If false it is deleted.
 	 */
 	public final boolean penetration() {
-		this.penetrationCount++;
-
-		return this.penetrationCount <= this.maxPenetration;
+		return this.store.penetrate(this.slot);
 	}
 
 	/**
@@ -104,44 +124,26 @@ public class Bullet extends Entity implements Collidable {
 	 * @return True, Penetrable
 	 */
 	public final boolean canPenetration() {
-		return this.penetrationCount < this.maxPenetration;
-	}
-
-	/**
-	 * reset penetration setting
-	 */
-	public final void resetPenetration() {
-		this.penetrationCount = 0;
-		this.maxPenetration = ShopItem.getPenetrationCount();
+		return this.store.canPenetrate(this.slot);
 	}
 
 	/**
-	 * does the bullet go off the screen
+	 * Bullets going up belong to the players, bullets going down to the
+	 * enemies, and boss bullets have their own layer.
 	 */
-	public boolean isOffScreen(int screenWidth, int screenHeight) {
-		return positionX < 0 || positionX > screenWidth ||
-				positionY < 0 || positionY > screenHeight;
-	}
-
-	/**
-	 * does the bullet has to be removed
-	 */
-	public boolean shouldBeRemoved() {
-		return false;
+	@Override
+	public CollisionLayer getCollisionLayer() {
+		return this.store.getCollisionLayer(this.slot);
 	}
 
-
 	@Override
 	public void onCollision(Collidable other, GameModel model) {
-
-		if (this.speed < 0) {
+		CollisionLayer layer = getCollisionLayer();
+		if (layer == CollisionLayer.PLAYER_BULLET)
 			other.onHitByPlayerBullet(this, model);
-			return;
-		}
-
-		if (this.speed > 0) {
+		else if (layer == CollisionLayer.ENEMY_BULLET)
 			other.onHitByEnemyBullet(this, model);
-			return;
-		}
+		else if (layer == CollisionLayer.BOSS_BULLET)
+			other.onHitByBossBullet(this, model);
 	}
-}
\ No newline at end of file
+}
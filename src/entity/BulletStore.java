@@ -0,0 +1,412 @@
+package entity;
+
+import java.awt.Color;
+import java.util.Arrays;
+
+import engine.DrawManager.SpriteType;
+import entity.collision.CollisionLayer;
+import entity.collision.PackedBounds;
+
+/**
+ * Stores bullets as parallel primitive arrays instead of one object each.
+ * <p>
+ * Live bullets always occupy slots {@code 0} to {@code size() - 1}. Removing
+ * a bullet moves the last one into its slot, so update and cull are plain
+ * loops over the arrays and never touch a hash table or an iterator.
+ * </p>
+ * <p>
+ * The collision pass tests bullets against its entities straight from the
+ * arrays too, through {@link #overlaps}. Code that needs a bullet as an
+ * {@link Entity}, like the collision handlers, reads it through
+ * {@link #get(int)}, which points the store's one {@link Bullet} view at the
+ * slot. Firing and removing bullets does not allocate once the store has
+ * reached its peak size; {@link #reserve(int)} reaches that size up front.
+ * </p>
+ */
+public final class BulletStore {
+
+	/** Width of a regular bullet. */
+	public static final int BULLET_WIDTH = 3 * 2;
+	/** Height of a regular bullet. */
+	public static final int BULLET_HEIGHT = 5 * 2;
+
+	/** Position in the x-axis of the upper left corner. */
+	private int[] x;
+	/** Position in the y-axis of the upper left corner. */
+	private int[] y;
+	/** Horizontal movement per update. */
+	private int[] dx;
+	/** Vertical movement per update, positive is down. */
+	private int[] dy;
+	/** Width of each bullet. */
+	private int[] width;
+	/** Height of each bullet. */
+	private int[] height;
+	/** Handle of the ship that shot each bullet, or NONE for enemy bullets. */
+	private int[] owner;
+	/** Enemies each bullet can still pass through. */
+	private int[] penetration;
+	/** Sprite each bullet is drawn as. */
+	private SpriteType[] sprite;
+	/** Color each bullet is drawn in. */
+	private Color[] color;
+	/** Collision category of each bullet. */
+	private CollisionLayer[] layer;
+	/** If each bullet has been used up during the collision pass. */
+	private boolean[] marked;
+	/** View of the slot last read through {@link #get(int)}. */
+	private final Bullet view = new Bullet(this);
+	/** Number of live bullets. */
+	private int size;
+	/** Times the arrays had to grow while bullets were added. */
+	private int growths;
+
+	/**
+	 * Constructor, creates an empty store.
+	 */
+	public BulletStore() {
+		this(64);
+	}
+
+	/**
+	 * Constructor, creates an empty store with room for the given number of
+	 * bullets before it grows.
+	 *
+	 * @param capacity
+	 *            Initial capacity.
+	 */
+	public BulletStore(final int capacity) {
+		allocate(Math.max(1, capacity));
+	}
+
+	/**
+	 * Adds a bullet moving vertically, as shot by a ship. Bullets going up
+	 * belong to the players, bullets going down to the enemies.
+	 *
+	 * @param centerX
+	 *            Position of the center of the bullet in the X axis.
+	 * @param positionY
+	 *            Position of the bullet in the Y axis.
+	 * @param speed
+	 *            Speed of the bullet, positive or negative depending on
+	 *            direction - positive is down.
+	 * @return Slot of the new bullet.
+	 */
+	public int add(final int centerX, final int positionY, final int speed) {
+		int slot = add(centerX - BULLET_WIDTH / 2, positionY, 0, speed, BULLET_WIDTH, BULLET_HEIGHT,
+				speed < 0 ? SpriteType.Bullet : SpriteType.EnemyBullet, Color.WHITE,
+				speed < 0 ? CollisionLayer.PLAYER_BULLET : (speed > 0 ? CollisionLayer.ENEMY_BULLET : null));
+		this.penetration[slot] = ShopItem.getPenetrationCount();
+		return slot;
+	}
+
+	/**
+	 * Adds a bullet fired by a boss.
+	 *
+	 * @param positionX
+	 *            Position of the bullet in the X axis.
+	 * @param positionY
+	 *            Position of the bullet in the Y axis.
+	 * @param dx
+	 *            Amount of horizontal change per update.
+	 * @param dy
+	 *            Amount of vertical change per update.
+	 * @param width
+	 *            Width of the bullet.
+	 * @param height
+	 *            Height of the bullet.
+	 * @param color
+	 *            Color of the bullet.
+	 * @return Slot of the new bullet.
+	 */
+	public int addBossBullet(final int positionX, final int positionY, final int dx, final int dy,
+							 final int width, final int height, final Color color) {
+		return add(positionX, positionY, dx, dy, width, height, SpriteType.FinalBossBullet, color,
+				CollisionLayer.BOSS_BULLET);
+	}
+
+	/**
+	 * Writes a bullet into the first free slot.
+	 */
+	private int add(final int positionX, final int positionY, final int dx, final int dy,
+					final int width, final int height, final SpriteType sprite, final Color color,
+					final CollisionLayer layer) {
+		if (this.size == this.x.length) {
+			allocate(this.size * 2);
+			this.growths++;
+		}
+		int slot = this.size++;
+		this.x[slot] = positionX;
+		this.y[slot] = positionY;
+		this.dx[slot] = dx;
+		this.dy[slot] = dy;
+		this.width[slot] = width;
+		this.height[slot] = height;
+		this.owner[slot] = EntityRegistry.NONE;
+		this.penetration[slot] = 0;
+		this.sprite[slot] = sprite;
+		this.color[slot] = color;
+		this.layer[slot] = layer;
+		return slot;
+	}
+
+	/**
+	 * Moves every bullet by its speed.
+	 */
+	public void update() {
+		for (int k = 0; k < this.size; k++) {
+			this.x[k] += this.dx[k];
+			this.y[k] += this.dy[k];
+		}
+	}
+
+	/**
+	 * Removes the bullets whose position left the given area, borders
+	 * included in the area.
+	 *
+	 * @param left
+	 *            Lowest position kept in the X axis.
+	 * @param top
+	 *            Lowest position kept in the Y axis.
+	 * @param right
+	 *            Highest position kept in the X axis.
+	 * @param bottom
+	 *            Highest position kept in the Y axis.
+	 */
+	public void cull(final int left, final int top, final int right, final int bottom) {
+		int k = 0;
+		while (k < this.size) {
+			if (this.x[k] < left || this.x[k] > right || this.y[k] < top || this.y[k] > bottom)
+				remove(k);
+			else
+				k++;
+		}
+	}
+
+	/**
+	 * Removes the bullets that have been marked for removal during the
+	 * collision pass.
+	 */
+	public void removeMarked() {
+		int k = 0;
+		while (k < this.size) {
+			if (this.marked[k])
+				remove(k);
+			else
+				k++;
+		}
+	}
+
+	/**
+	 * Removes a bullet by moving the last bullet into its slot. The removal
+	 * mark moves along with the bullet.
+	 *
+	 * @param slot
+	 *            Slot of the bullet to remove.
+	 */
+	public void remove(final int slot) {
+		int last = --this.size;
+		if (slot != last) {
+			this.x[slot] = this.x[last];
+			this.y[slot] = this.y[last];
+			this.dx[slot] = this.dx[last];
+			this.dy[slot] = this.dy[last];
+			this.width[slot] = this.width[last];
+			this.height[slot] = this.height[last];
+			this.owner[slot] = this.owner[last];
+			this.penetration[slot] = this.penetration[last];
+			this.sprite[slot] = this.sprite[last];
+			this.color[slot] = this.color[last];
+			this.layer[slot] = this.layer[last];
+		}
+		this.marked[slot] = this.marked[last];
+		this.marked[last] = false;
+		this.sprite[last] = null;
+		this.color[last] = null;
+		this.layer[last] = null;
+	}
+
+	/**
+	 * Moves every bullet of this store to another one, leaving this one
+	 * empty.
+	 *
+	 * @param target
+	 *            Store receiving the bullets.
+	 */
+	public void moveTo(final BulletStore target) {
+		for (int k = 0; k < this.size; k++) {
+			int slot = target.add(this.x[k], this.y[k], this.dx[k], this.dy[k], this.width[k],
+					this.height[k], this.sprite[k], this.color[k], this.layer[k]);
+			target.owner[slot] = this.owner[k];
+			target.penetration[slot] = this.penetration[k];
+		}
+		clear();
+	}
+
+	/**
+	 * Removes every bullet.
+	 */
+	public void clear() {
+		for (int k = 0; k < this.size; k++) {
+			this.marked[k] = false;
+			this.sprite[k] = null;
+			this.color[k] = null;
+			this.layer[k] = null;
+		}
+		this.size = 0;
+	}
+
+	/**
+	 * Grows the store so it can hold the given number of bullets without
+	 * allocating.
+	 *
+	 * @param capacity
+	 *            Number of bullets to make room for.
+	 */
+	public void reserve(final int capacity) {
+		if (capacity > this.x.length)
+			allocate(capacity);
+	}
+
+	/**
+	 * Getter for the number of times the store had to grow while bullets
+	 * were added, which {@link #reserve(int)} is meant to avoid.
+	 *
+	 * @return Number of growths since the last reset.
+	 */
+	public int getGrowths() {
+		return this.growths;
+	}
+
+	/**
+	 * Resets the growth counter.
+	 */
+	public void resetGrowths() {
+		this.growths = 0;
+	}
+
+	/**
+	 * Getter for the number of bullets the store holds without growing.
+	 *
+	 * @return Capacity of the store.
+	 */
+	public int getCapacity() {
+		return this.x.length;
+	}
+
+	/**
+	 * Getter for the number of live bullets.
+	 *
+	 * @return Number of bullets.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Checks if the store holds no bullet.
+	 *
+	 * @return True if there are no bullets.
+	 */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * Getter for the view of a slot. The store has a single view, so it
+	 * shows this slot until the next call; the view stays bound to the slot,
+	 * so it shows another bullet once bullets before it have been removed.
+	 *
+	 * @param slot
+	 *            Slot of the bullet.
+	 * @return Bullet at the slot.
+	 */
+	public Bullet get(final int slot) {
+		this.view.bind(slot, this.sprite[slot], this.color[slot]);
+		return this.view;
+	}
+
+	/**
+	 * Finds the bullets whose box overlaps the box of an entity of the
+	 * collision pass, reading their boxes straight from the arrays.
+	 *
+	 * @param bounds
+	 *            Boxes of the collision pass.
+	 * @param probe
+	 *            Index of the entity in the collision pass.
+	 * @param hits
+	 *            Receives the slots of the overlapping bullets, in order;
+	 *            must hold {@link #size()} slots.
+	 * @return Number of overlapping bullets.
+	 */
+	public int overlaps(final PackedBounds bounds, final int probe, final int[] hits) {
+		return bounds.filterBoxes(probe, this.x, this.y, this.width, this.height, this.size, hits);
+	}
+
+	/** Marks a bullet as used up by a collision. */
+	void mark(final int slot) { this.marked[slot] = true; }
+	/** Checks if a bullet has been used up by a collision. */
+	boolean isMarked(final int slot) { return this.marked[slot]; }
+	/** Clears the removal mark of a bullet. */
+	void unmark(final int slot) { this.marked[slot] = false; }
+
+	/* Per-slot getters, used by views and by the renderer. */
+	public int getPositionX(final int slot) { return this.x[slot]; }
+	public int getPositionY(final int slot) { return this.y[slot]; }
+	public int getWidth(final int slot) { return this.width[slot]; }
+	public int getHeight(final int slot) { return this.height[slot]; }
+	public int getSpeedX(final int slot) { return this.dx[slot]; }
+	public int getSpeedY(final int slot) { return this.dy[slot]; }
+	public SpriteType getSprite(final int slot) { return this.sprite[slot]; }
+	public Color getColor(final int slot) { return this.color[slot]; }
+	public CollisionLayer getCollisionLayer(final int slot) { return this.layer[slot]; }
+	public int getOwner(final int slot) { return this.owner[slot]; }
+	public void setOwner(final int slot, final int owner) { this.owner[slot] = owner; }
+
+	/**
+	 * Uses up one penetration of a bullet that hit an enemy.
+	 *
+	 * @param slot
+	 *            Slot of the bullet.
+	 * @return True if the bullet goes on, false if it is spent.
+	 */
+	public boolean penetrate(final int slot) {
+		return this.penetration[slot]-- > 0;
+	}
+
+	/**
+	 * Checks if a bullet can still pass through an enemy.
+	 *
+	 * @param slot
+	 *            Slot of the bullet.
+	 * @return True if the bullet has penetrations left.
+	 */
+	public boolean canPenetrate(final int slot) {
+		return this.penetration[slot] > 0;
+	}
+
+	/**
+	 * Grows the arrays to the given capacity, keeping the live bullets.
+	 */
+	private void allocate(final int capacity) {
+		this.x = grow(this.x, capacity);
+		this.y = grow(this.y, capacity);
+		this.dx = grow(this.dx, capacity);
+		this.dy = grow(this.dy, capacity);
+		this.width = grow(this.width, capacity);
+		this.height = grow(this.height, capacity);
+		this.owner = grow(this.owner, capacity);
+		this.penetration = grow(this.penetration, capacity);
+		this.sprite = this.sprite == null ? new SpriteType[capacity] : Arrays.copyOf(this.sprite, capacity);
+		this.color = this.color == null ? new Color[capacity] : Arrays.copyOf(this.color, capacity);
+		this.layer = this.layer == null ? new CollisionLayer[capacity] : Arrays.copyOf(this.layer, capacity);
+		this.marked = this.marked == null ? new boolean[capacity] : Arrays.copyOf(this.marked, capacity);
+	}
+
+	/**
+	 * Copies an array into a longer one.
+	 */
+	private static int[] grow(final int[] array, final int capacity) {
+		return array == null ? new int[capacity] : Arrays.copyOf(array, capacity);
+	}
+}
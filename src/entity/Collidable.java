@@ -1,7 +1,17 @@
 package entity;
 
+import entity.collision.CollisionLayer;
+
 public interface Collidable {
 
+	/**
+	 * Getter for the collision category of this object.
+	 * Objects without a category are left out of the grid broadphase.
+	 *
+	 * @return Collision layer, or {@code null} if the object does not collide.
+	 */
+	default CollisionLayer getCollisionLayer() { return null; }
+
 	/**
 	 * Defines the action to be taken when this object collides with another.
 	 *
@@ -11,7 +21,8 @@ public interface Collidable {
 
 	default void onHitByPlayerBullet(Bullet bullet, GameModel model) {}
 	default void onHitByEnemyBullet(Bullet bullet, GameModel model) {}
-	default void onHitByBossBullet(BossBullet bullet, GameModel model) {}
+	default void onHitByBossBullet(Bullet bullet, GameModel model) {}
+	default void onHitByLaser(LaserBullet laser, GameModel model) {}
 
 	default void onCollideWithShip(Ship ship, GameModel model) {}
 	default void onCollideWithEnemyShip(EnemyShip enemy, GameModel model) {}
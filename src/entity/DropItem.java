@@ -4,6 +4,10 @@ import java.awt.Color;
 
 import java.util.Random;
 
+import engine.GameClock;
+
+import entity.collision.CollisionLayer;
+
 public class DropItem extends Entity implements Collidable {
 	public enum ItemType {
 		Explode(2),
@@ -65,6 +69,8 @@ public class DropItem extends Entity implements Collidable {
 	private int speed;
 	/** Type of the item. */
 	private ItemType itemType;
+	/** Handle of the enemy that dropped the item. */
+	private int source = EntityRegistry.NONE;
 
 	public DropItem(final int positionX, final int positionY, final int speed, final ItemType itemType) {
 		super(positionX, positionY, 5 * 2, 5 * 2, Color.WHITE);
@@ -72,7 +78,10 @@ public class DropItem extends Entity implements Collidable {
 		this.itemType = itemType;
 	}
 
-	private static long freezeEndTime = 0;
+	/** End time of no freeze. */
+	private static final long NO_FREEZE = Long.MIN_VALUE;
+	/** Game time the freeze ends at, or {@link #NO_FREEZE}. */
+	private static long freezeEndTime = NO_FREEZE;
 
 	/**
 	 * enemy push
@@ -101,7 +110,14 @@ public class DropItem extends Entity implements Collidable {
 	 */
 	public static void applyTimeFreezeItem(int durationMillis) {
 		// current Time + duration Time = End Time
-		freezeEndTime = System.currentTimeMillis() + durationMillis;
+		freezeEndTime = GameClock.current().millis() + durationMillis;
+	}
+
+	/**
+	 * Ends the freeze, for a level starting on a new clock.
+	 */
+	public static void clearTimeFreeze() {
+		freezeEndTime = NO_FREEZE;
 	}
 
 	/**
@@ -110,12 +126,13 @@ public class DropItem extends Entity implements Collidable {
 	 * @return If returning true, don't move all enemy ship except special enemy
 	 */
 	public static boolean isTimeFreezeActive() {
-		if (freezeEndTime > 0 && System.currentTimeMillis() < freezeEndTime) {
-			return true;
+		if (freezeEndTime == NO_FREEZE) {
+			return false;
 		}
-		if (freezeEndTime > 0 && System.currentTimeMillis() >= freezeEndTime) {
-			freezeEndTime = 0;
+		if (GameClock.current().millis() < freezeEndTime) {
+			return true;
 		}
+		freezeEndTime = NO_FREEZE;
 		return false;
 	}
 /**
@@ -151,6 +168,20 @@ public class DropItem extends Entity implements Collidable {
 		this.itemType = itemType;
 	}
 
+	/**
+	 * Getter for the enemy that dropped the item.
+	 *
+	 * @return Handle of the enemy, which may be dead by now, or
+	 *         {@link EntityRegistry#NONE}.
+	 */
+	public final int getSource() {
+		return this.source;
+	}
+
+	public final void setSource(final int source) {
+		this.source = source;
+	}
+
 	public static ItemType getRandomItemType(final double proba) {
 		if (Math.random() < proba) {
 			return ItemType.selectItemType();
@@ -160,6 +191,11 @@ public class DropItem extends Entity implements Collidable {
 		}
 	}
 
+	@Override
+	public CollisionLayer getCollisionLayer() {
+		return CollisionLayer.ITEM;
+	}
+
 	@Override
 	public void onCollision(Collidable other, GameModel model) {
 		other.onCollideWithDropItem(this, model);
@@ -3,6 +3,7 @@ package entity;
 import audio.SoundManager;
 import engine.Cooldown;
 import engine.DrawManager.SpriteType;
+import entity.collision.CollisionLayer;
 
 import java.awt.*;
 
@@ -113,6 +114,31 @@ public class EnemyShip extends Entity implements Collidable {
         this.explosionCooldown = new Cooldown(500);
 	}
 
+	/**
+	 * Brings a special ship back to its starting properties, for ships taken
+	 * from a pool.
+	 *
+	 * @param type
+	 *            Special type of the ship.
+	 * @param direction
+	 *            Initial direction of the ship.
+	 * @param x_speed
+	 *            Lateral speed of the ship.
+	 */
+	public final void respawnSpecial(SpecialType type, Direction direction, int x_speed) {
+		this.positionX = -32;
+		this.positionY = GameConstant.STAT_SEPARATION_LINE_HEIGHT;
+		this.color = (type == SpecialType.RED) ? Color.RED : Color.BLUE;
+		this.specialType = type;
+		this.direction = direction;
+		this.X_SPEED = x_speed;
+		this.spriteType = SpriteType.EnemyShipSpecial;
+		this.isDestroyed = false;
+		// Pooled ships outlive their level: time them on the current one.
+		this.explosionCooldown.rebind();
+		clearRemovalMark();
+	}
+
 	/**
 	 * Getter for the score bonus if this ship is destroyed.
 	 * 
@@ -233,6 +259,11 @@ public class EnemyShip extends Entity implements Collidable {
 		}
 	}
 
+	@Override
+	public CollisionLayer getCollisionLayer() {
+		return CollisionLayer.ENEMY;
+	}
+
 	@Override
 	public void onCollision(Collidable other, GameModel model) {
 		other.onCollideWithEnemyShip(this, model);
@@ -251,7 +282,7 @@ public class EnemyShip extends Entity implements Collidable {
 	}
 
 	@Override
-	public void onHitByBossBullet(BossBullet bullet, GameModel model) {
+	public void onHitByBossBullet(Bullet bullet, GameModel model) {
 	}
 
 	@Override
@@ -1,14 +1,14 @@
 package entity;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 import java.util.logging.Logger;
 import java.awt.Color;
 
 import engine.Core;
 import engine.level.Level;
+import entity.collision.Collisions;
 
 /**
  * Groups enemy ships into a formation.
@@ -57,6 +57,14 @@ public class EnemyShipFormationModel implements Iterable<EnemyShip> {
     private int shipHeight;
     /** Number of not destroyed ships. */
     private int shipCount;
+    /**
+     * Index in {@link #enemyShips} of the column at each slot, counted in
+     * {@link #SEPARATION_DISTANCE} steps from the left of the formation, or
+     * -1 for a slot whose column is gone.
+     */
+    private int[] columnAtSlot;
+    /** If ships moved outside of the formation movement since the bounds were fitted. */
+    private boolean boundsDirty;
 
     /** The logic component responsible for movement. */
     private EnemyShipFormationMovement movementStrategy;
@@ -109,6 +117,9 @@ public class EnemyShipFormationModel implements Iterable<EnemyShip> {
 
         this.width = (this.nShipsWide - 1) * SEPARATION_DISTANCE + this.shipWidth;
         this.height = (this.nShipsHigh - 1) * SEPARATION_DISTANCE + this.shipHeight;
+
+        this.columnAtSlot = new int[Math.max(0, this.nShipsWide)];
+        indexColumns();
     }
 
     /**
@@ -137,25 +148,24 @@ public class EnemyShipFormationModel implements Iterable<EnemyShip> {
 
             this.movementStrategy.updateMovement();
 
-            List<EnemyShip> destroyed;
-            for (List<EnemyShip> column : this.enemyShips) {
-                destroyed = new ArrayList<EnemyShip>();
-                for (EnemyShip ship : column) {
+            // Indexed loops, so moving the formation does not allocate iterators.
+            for (int i = 0; i < this.enemyShips.size(); i++) {
+                List<EnemyShip> column = this.enemyShips.get(i);
+                for (int j = column.size() - 1; j >= 0; j--) {
+                    EnemyShip ship = column.get(j);
                     if (ship != null && ship.isExplosionFinished()) {
-                        destroyed.add(ship);
-                        this.logger.info("Removed enemy "
-                                + column.indexOf(ship) + " from column "
-                                + this.enemyShips.indexOf(column));
+                        column.remove(j);
+                        EntityRegistry.getInstance().release(ship.getHandle());
+                        this.logger.info("Removed enemy " + j + " from column " + i);
                     }
                 }
-
-                column.removeAll(destroyed);
             }
 
-            for (List<EnemyShip> column : this.enemyShips)
-                for (EnemyShip enemyShip : column) {
-                    enemyShip.update();
-                }
+            for (int i = 0; i < this.enemyShips.size(); i++) {
+                List<EnemyShip> column = this.enemyShips.get(i);
+                for (int j = 0; j < column.size(); j++)
+                    column.get(j).update();
+            }
         }
     }
 
@@ -170,9 +180,20 @@ public class EnemyShipFormationModel implements Iterable<EnemyShip> {
             }
         }
 
+        updateBounds();
+    }
+
+    /**
+     * Fits the formation bounding box to its ships, and maps the columns to
+     * their slots again. Ships pushed on their own may leave their row, so
+     * every ship of a column is looked at, not only its ends.
+     */
+    private void updateBounds() {
+        this.boundsDirty = false;
         if (this.enemyShips.isEmpty()) {
             this.width = 0;
             this.height = 0;
+            indexColumns();
             return;
         }
 
@@ -180,9 +201,13 @@ public class EnemyShipFormationModel implements Iterable<EnemyShip> {
         int maxPositionY = Integer.MIN_VALUE;
         int leftMostPoint = Integer.MAX_VALUE;
         int rightMostPoint = Integer.MIN_VALUE;
-        for (List<EnemyShip> column : this.enemyShips) {
-            minPositionY = Math.min(minPositionY, column.get(0).getPositionY());
-            maxPositionY = Math.max(maxPositionY, column.get(column.size() - 1).getPositionY());
+        for (int i = 0; i < this.enemyShips.size(); i++) {
+            List<EnemyShip> column = this.enemyShips.get(i);
+            for (int j = 0; j < column.size(); j++) {
+                int shipY = column.get(j).getPositionY();
+                minPositionY = Math.min(minPositionY, shipY);
+                maxPositionY = Math.max(maxPositionY, shipY);
+            }
             int columnX = column.get(0).getPositionX();
             leftMostPoint = Math.min(leftMostPoint, columnX);
             rightMostPoint = Math.max(rightMostPoint, columnX);
@@ -191,15 +216,89 @@ public class EnemyShipFormationModel implements Iterable<EnemyShip> {
         this.height = maxPositionY - minPositionY + this.shipHeight;
         this.positionX = leftMostPoint;
         this.positionY = minPositionY;
+        indexColumns();
+    }
+
+    /**
+     * Maps each column slot to its column. Columns keep their spacing while
+     * the formation moves, so the map only changes when columns are removed.
+     */
+    private void indexColumns() {
+        Arrays.fill(this.columnAtSlot, -1);
+        for (int i = 0; i < this.enemyShips.size(); i++) {
+            List<EnemyShip> column = this.enemyShips.get(i);
+            if (column.isEmpty()) continue;
+            int slot = (column.get(0).getPositionX() - this.positionX) / SEPARATION_DISTANCE;
+            if (slot >= 0 && slot < this.columnAtSlot.length)
+                this.columnAtSlot[slot] = i;
+        }
+    }
+
+    /**
+     * Finds a live ship of the formation colliding with the given bounds.
+     * The formation bounding box is checked first, then only the one or two
+     * columns under the bounds are tested.
+     *
+     * @param bounds
+     * Bounds to test, usually a bullet or a player ship.
+     * @return First colliding ship in formation order, or null if none.
+     */
+    public final EnemyShip hitTest(final HasBounds bounds) {
+        return hitTest(bounds, null);
+    }
+
+    /**
+     * Finds the next live ship of the formation colliding with the given
+     * bounds, for bounds that can hit several ships at once.
+     *
+     * @param bounds
+     * Bounds to test, usually a bullet or a player ship.
+     * @param previous
+     * Ship returned by the previous query, or null to start from the first.
+     * @return Next colliding ship in formation order, or null if none.
+     */
+    public final EnemyShip hitTest(final HasBounds bounds, final EnemyShip previous) {
+        int x = bounds.getPositionX();
+        int y = bounds.getPositionY();
+        int w = Math.max(1, bounds.getWidth());
+        int h = Math.max(1, bounds.getHeight());
+        if (this.boundsDirty)
+            updateBounds();
+        if (this.enemyShips.isEmpty()
+                || x + w <= this.positionX || x >= this.positionX + this.width
+                || y + h <= this.positionY || y >= this.positionY + this.height)
+            return null;
+
+        int firstSlot = Math.max(0,
+                Math.floorDiv(x - this.positionX - this.shipWidth, SEPARATION_DISTANCE) + 1);
+        int lastSlot = Math.min(this.columnAtSlot.length - 1,
+                Math.floorDiv(x + w - 1 - this.positionX, SEPARATION_DISTANCE));
+
+        boolean afterPrevious = previous == null;
+        for (int slot = firstSlot; slot <= lastSlot; slot++) {
+            int columnIndex = this.columnAtSlot[slot];
+            if (columnIndex < 0 || columnIndex >= this.enemyShips.size()) continue;
+            List<EnemyShip> column = this.enemyShips.get(columnIndex);
+            for (int row = 0; row < column.size(); row++) {
+                EnemyShip enemyShip = column.get(row);
+                if (!afterPrevious) {
+                    afterPrevious = enemyShip == previous;
+                    continue;
+                }
+                if (!enemyShip.isDestroyed() && Collisions.collide(bounds, enemyShip))
+                    return enemyShip;
+            }
+        }
+        return null;
     }
 
     /**
      * Shoots a bullet downwards.
      *
      * @param bullets
-     * Bullets set to add the bullet being shot.
+     * Bullets to add the bullet being shot to.
      */
-    public final void shoot(final Set<Bullet> bullets) {
+    public final void shoot(final BulletStore bullets) {
         this.shootingManager.shoot(bullets);
     }
 
@@ -299,10 +398,13 @@ public class EnemyShipFormationModel implements Iterable<EnemyShip> {
      */
     public final void clear() {
         for (List<EnemyShip> column : this.enemyShips) {
+            for (EnemyShip enemyShip : column)
+                EntityRegistry.getInstance().release(enemyShip.getHandle());
             column.clear();
         }
         this.enemyShips.clear();
         this.shipCount = 0;
+        indexColumns();
 
         this.shootingManager = new FormationShootingManager(this.levelObj, this.enemyShips);
     }
@@ -342,16 +444,35 @@ public class EnemyShipFormationModel implements Iterable<EnemyShip> {
         this.positionY = y;
     }
 
+    /**
+     * Moves the live ships of the formation upward, as the Push item does.
+     * The bounding box is fitted again before the next hit test, since this
+     * can happen while the formation itself stands still.
+     * @param distance Pixels to move up.
+     */
+    public void pushBack(int distance) {
+        for (int i = 0; i < this.enemyShips.size(); i++) {
+            List<EnemyShip> column = this.enemyShips.get(i);
+            for (int j = 0; j < column.size(); j++) {
+                EnemyShip ship = column.get(j);
+                if (ship != null && !ship.isDestroyed())
+                    ship.move(0, -distance);
+            }
+        }
+        this.boundsDirty = true;
+    }
+
     /**
      * Applies movement deltas to all individual ships in the formation.
      * @param movementX Pixels to move horizontally.
      * @param movementY Pixels to move vertically.
      */
     public void moveAllShips(int movementX, int movementY) {
-        for (List<EnemyShip> column : this.enemyShips)
-            for (EnemyShip enemyShip : column) {
-                enemyShip.move(movementX, movementY);
-            }
+        for (int i = 0; i < this.enemyShips.size(); i++) {
+            List<EnemyShip> column = this.enemyShips.get(i);
+            for (int j = 0; j < column.size(); j++)
+                column.get(j).move(movementX, movementY);
+        }
     }
 
 	/**
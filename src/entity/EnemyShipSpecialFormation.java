@@ -10,6 +10,7 @@ import engine.Cooldown;
 import engine.Core;
 import engine.DrawManager;
 import engine.GameSettings;
+import entity.pool.Pools;
 
 /**
  * Groups enemy ships into a formation that moves together.
@@ -87,8 +88,8 @@ public class EnemyShipSpecialFormation implements Iterable<EnemyShip> {
                 * SHOOTING_VARIANCE);
 
         /** Initial : create Special Enemy **/
-        this.enemyShipSpecialRed = new EnemyShip(EnemyShip.SpecialType.RED, EnemyShip.Direction.RIGHT, 2);
-        this.enemyShipSpecialBlue = new EnemyShip(EnemyShip.SpecialType.BLUE, EnemyShip.Direction.RIGHT, 6);
+        this.enemyShipSpecialRed = Pools.specialShip(EnemyShip.SpecialType.RED, EnemyShip.Direction.RIGHT, 2);
+        this.enemyShipSpecialBlue = Pools.specialShip(EnemyShip.SpecialType.BLUE, EnemyShip.Direction.RIGHT, 6);
 
         /** special enemy information: width & height **/
         this.shipWidth = this.enemyShipSpecialRed.getWidth();
@@ -115,7 +116,9 @@ public class EnemyShipSpecialFormation implements Iterable<EnemyShip> {
 
         // recreate special enemy by CoolDown
         if (this.enemyShipSpecialCooldown.checkFinished()) {
-            this.enemyShipSpecialRed = new EnemyShip(EnemyShip.SpecialType.RED, EnemyShip.Direction.RIGHT, 2);
+            if (this.enemyShipSpecialRed != null)
+                Pools.SPECIAL_SHIPS.release(this.enemyShipSpecialRed);
+            this.enemyShipSpecialRed = Pools.specialShip(EnemyShip.SpecialType.RED, EnemyShip.Direction.RIGHT, 2);
             this.enemyShipSpecialCooldown.reset();
             this.logger.info("A special ship appears");
         }
@@ -156,8 +159,10 @@ public class EnemyShipSpecialFormation implements Iterable<EnemyShip> {
             } else if (this.enemyShipSpecialExplosionCooldown.checkFinished())
 				if (type == EnemyShip.SpecialType.RED) {
 					this.enemyShipSpecialRed = null;
+					Pools.SPECIAL_SHIPS.release(enemyShipSpecial);
 				} else if (type == EnemyShip.SpecialType.BLUE) {
 					this.enemyShipSpecialBlue = null;
+					Pools.SPECIAL_SHIPS.release(enemyShipSpecial);
 				}
         }
     }
@@ -194,15 +199,65 @@ public class EnemyShipSpecialFormation implements Iterable<EnemyShip> {
         }
 
         /**
-         * Returns an iterator over the ships in the formation.
+         * Hands the bonus ships back to their pool, once the level is over.
+         */
+        public final void releaseShips() {
+            if (this.enemyShipSpecialRed != null)
+                Pools.SPECIAL_SHIPS.release(this.enemyShipSpecialRed);
+            if (this.enemyShipSpecialBlue != null)
+                Pools.SPECIAL_SHIPS.release(this.enemyShipSpecialBlue);
+            this.enemyShipSpecialRed = null;
+            this.enemyShipSpecialBlue = null;
+        }
+
+        /**
+         * Getter for the red bonus ship.
+         *
+         * @return Red ship, or null if there is none.
+         */
+        public final EnemyShip getRedShip() {
+            return this.enemyShipSpecialRed;
+        }
+
+        /**
+         * Getter for the blue bonus ship.
+         *
+         * @return Blue ship, or null if there is none.
+         */
+        public final EnemyShip getBlueShip() {
+            return this.enemyShipSpecialBlue;
+        }
+
+        /**
+         * Returns an iterator over the ships in the formation. Callers that
+         * run every frame use {@link #getRedShip()} and {@link #getBlueShip()}
+         * instead, which do not allocate.
          *
          * @return Iterator over the enemy ships.
          */
         @Override
         public final Iterator<EnemyShip> iterator() {
-            return java.util.stream.Stream.of(enemyShipSpecialRed, enemyShipSpecialBlue)
-                    .filter(java.util.Objects::nonNull)        // null Exception
-                    .iterator();
+            return new Iterator<EnemyShip>() {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext() {
+                    while (next < 2 && ship(next) == null)      // null Exception
+                        next++;
+                    return next < 2;
+                }
+
+                @Override
+                public EnemyShip next() {
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+                    return ship(next++);
+                }
+
+                private EnemyShip ship(final int index) {
+                    return index == 0 ? enemyShipSpecialRed : enemyShipSpecialBlue;
+                }
+            };
         }
 
 }
\ No newline at end of file
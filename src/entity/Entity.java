@@ -24,6 +24,18 @@ public class Entity implements Collidable, HasBounds {
 	protected Color color;
 	/** Sprite type assigned to the entity. */
 	protected SpriteType spriteType;
+	/** True once the entity has been used up during a collision pass. */
+	private boolean markedForRemoval;
+	/** Index of the entity in the last collision pass, or -1. */
+	private int collisionIndex = -1;
+	/** Handle given by the {@link EntityRegistry}, or {@link EntityRegistry#NONE}. */
+	private int handle = EntityRegistry.NONE;
+	/** Position in the x-axis at the start of {@link #previousTick}. */
+	private int previousX;
+	/** Position in the y-axis at the start of {@link #previousTick}. */
+	private int previousY;
+	/** Update the previous position was saved for, or -1. */
+	private long previousTick = -1;
 
 	/**
 	 * Constructor, establishes the entity's generic properties.
@@ -116,6 +128,117 @@ public class Entity implements Collidable, HasBounds {
 		return this.height;
 	}
 
+	/**
+	 * Marks the entity as used up, so no further contact is resolved for it
+	 * and it is removed at the end of the collision pass.
+	 */
+	public void markForRemoval() {
+		this.markedForRemoval = true;
+	}
+
+	/**
+	 * Checks if the entity has been used up by a collision.
+	 *
+	 * @return True if the entity is waiting to be removed.
+	 */
+	public boolean isMarkedForRemoval() {
+		return this.markedForRemoval;
+	}
+
+	/**
+	 * Clears the removal mark, for entities taken back from a pool.
+	 */
+	public void clearRemovalMark() {
+		this.markedForRemoval = false;
+	}
+
+	/**
+	 * Getter for the index of the entity in the last collision pass.
+	 *
+	 * @return Index in the entity list, or -1 if never listed.
+	 */
+	public final int getCollisionIndex() {
+		return this.collisionIndex;
+	}
+
+	/**
+	 * Setter for the index of the entity in the collision pass.
+	 *
+	 * @param collisionIndex
+	 *            Index in the entity list.
+	 */
+	public final void setCollisionIndex(final int collisionIndex) {
+		this.collisionIndex = collisionIndex;
+	}
+
+	/**
+	 * Getter for the handle other entities use to refer to this one.
+	 *
+	 * @return Handle of the entity, or {@link EntityRegistry#NONE} if it is
+	 *         not registered.
+	 */
+	public final int getHandle() {
+		return this.handle;
+	}
+
+	/**
+	 * Setter for the handle, only called by the {@link EntityRegistry}.
+	 *
+	 * @param handle
+	 *            New handle of the entity.
+	 */
+	final void setHandle(final int handle) {
+		this.handle = handle;
+	}
+
+	/**
+	 * Saves the position of the entity before an update moves it, so it can
+	 * be drawn between the two positions.
+	 *
+	 * @param tick
+	 *            Number of the update about to run.
+	 */
+	public final void savePosition(final long tick) {
+		this.previousX = getPositionX();
+		this.previousY = getPositionY();
+		this.previousTick = tick;
+	}
+
+	/**
+	 * Getter for the position in the X axis to draw the entity at, between
+	 * its position before and after the last update.
+	 *
+	 * @param alpha
+	 *            Fraction of an update elapsed since the last update.
+	 * @param tick
+	 *            Number of the last update. Entities whose position was not
+	 *            saved for it, like those created during it, are drawn where
+	 *            they are.
+	 * @return Interpolated position in the X axis.
+	 */
+	public final int getDrawPositionX(final double alpha, final long tick) {
+		if (this.previousTick != tick)
+			return getPositionX();
+		return this.previousX + (int) Math.round((getPositionX() - this.previousX) * alpha);
+	}
+
+	/**
+	 * Getter for the position in the Y axis to draw the entity at, between
+	 * its position before and after the last update.
+	 *
+	 * @param alpha
+	 *            Fraction of an update elapsed since the last update.
+	 * @param tick
+	 *            Number of the last update.
+	 * @return Interpolated position in the Y axis.
+	 * @see #getDrawPositionX(double, long)
+	 */
+	public final int getDrawPositionY(final double alpha, final long tick) {
+		if (this.previousTick != tick)
+			return getPositionY();
+		return this.previousY + (int) Math.round((getPositionY() - this.previousY) * alpha);
+	}
+
 	/**
 	 * Default collision handler for all entities.
 	 * Specific entities override this to implement their own collision logic.
@@ -0,0 +1,200 @@
+package entity;
+
+import java.util.Arrays;
+
+/**
+ * Hands out generational handles for entities, so other entities can refer
+ * to them without holding the objects.
+ * <p>
+ * A handle is a 32-bit int packing a slot index in its low
+ * {@value #INDEX_BITS} bits and the slot's generation above them. Resolving a
+ * handle is an array access plus a generation check. Releasing an entity bumps
+ * the generation of its slot, so handles kept after the release resolve to
+ * null instead of to whatever entity reuses the slot.
+ * </p>
+ * <p>
+ * {@link #NONE} is never handed out, so it can stand for "no entity" in
+ * fields and arrays that default to zero.
+ * </p>
+ */
+public final class EntityRegistry {
+
+	/** Handle that never resolves to an entity. */
+	public static final int NONE = 0;
+	/** Bits of a handle used by the slot index. */
+	public static final int INDEX_BITS = 20;
+	/** Mask of the slot index in a handle. */
+	private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+	/** Highest generation before it wraps around. */
+	private static final int MAX_GENERATION = (1 << (Integer.SIZE - INDEX_BITS)) - 1;
+
+	/** Registry shared by the game and its patterns. */
+	private static EntityRegistry instance;
+
+	/** Entity of each slot, or null for a free slot. */
+	private Entity[] entities;
+	/** Current generation of each slot, never 0. */
+	private int[] generations;
+	/** Free slots, on top of the stack at {@code free[freeCount - 1]}. */
+	private int[] free;
+	/** Number of free slots below {@link #slots}. */
+	private int freeCount;
+	/** Number of slots ever used. */
+	private int slots;
+	/** Number of registered entities. */
+	private int size;
+
+	/**
+	 * Constructor, creates an empty registry.
+	 */
+	public EntityRegistry() {
+		this(64);
+	}
+
+	/**
+	 * Constructor, creates an empty registry with room for the given number
+	 * of entities before it grows.
+	 *
+	 * @param capacity
+	 *            Initial capacity.
+	 */
+	public EntityRegistry(final int capacity) {
+		int initial = Math.max(1, capacity);
+		this.entities = new Entity[initial];
+		this.generations = new int[initial];
+		this.free = new int[initial];
+		Arrays.fill(this.generations, 1);
+	}
+
+	/**
+	 * Returns the shared registry.
+	 *
+	 * @return Shared instance of the registry.
+	 */
+	public static EntityRegistry getInstance() {
+		if (instance == null)
+			instance = new EntityRegistry();
+		return instance;
+	}
+
+	/**
+	 * Gives an entity a handle. An entity that already has a live handle in
+	 * this registry keeps it.
+	 *
+	 * @param entity
+	 *            Entity to register.
+	 * @return Handle of the entity.
+	 */
+	public int register(final Entity entity) {
+		if (get(entity.getHandle()) == entity)
+			return entity.getHandle();
+
+		int index;
+		if (this.freeCount > 0) {
+			index = this.free[--this.freeCount];
+		} else {
+			if (this.slots == INDEX_MASK + 1)
+				throw new IllegalStateException("Entity registry full: " + this.slots);
+			if (this.slots == this.entities.length)
+				grow();
+			index = this.slots++;
+		}
+		this.entities[index] = entity;
+		this.size++;
+		int handle = this.generations[index] << INDEX_BITS | index;
+		entity.setHandle(handle);
+		return handle;
+	}
+
+	/**
+	 * Releases a handle. The handle, and every copy of it, resolves to null
+	 * from then on. Releasing a dead handle does nothing.
+	 *
+	 * @param handle
+	 *            Handle to release.
+	 */
+	public void release(final int handle) {
+		Entity entity = get(handle);
+		if (entity == null)
+			return;
+		int index = handle & INDEX_MASK;
+		this.entities[index] = null;
+		this.generations[index] = this.generations[index] == MAX_GENERATION ? 1 : this.generations[index] + 1;
+		this.free[this.freeCount++] = index;
+		this.size--;
+		entity.setHandle(NONE);
+	}
+
+	/**
+	 * Releases every handle.
+	 */
+	public void clear() {
+		for (int index = 0; index < this.slots; index++) {
+			Entity entity = this.entities[index];
+			if (entity != null)
+				release(this.generations[index] << INDEX_BITS | index);
+		}
+	}
+
+	/**
+	 * Resolves a handle.
+	 *
+	 * @param handle
+	 *            Handle to resolve.
+	 * @return Entity of the handle, or null if the handle is dead.
+	 */
+	public Entity get(final int handle) {
+		int index = handle & INDEX_MASK;
+		if (handle == NONE || index >= this.slots
+				|| this.generations[index] != handle >>> INDEX_BITS)
+			return null;
+		return this.entities[index];
+	}
+
+	/**
+	 * Resolves a handle to an entity of the given type.
+	 *
+	 * @param handle
+	 *            Handle to resolve.
+	 * @param type
+	 *            Expected type of the entity.
+	 * @return Entity of the handle, or null if the handle is dead or the
+	 *         entity is of another type.
+	 */
+	public <T extends Entity> T get(final int handle, final Class<T> type) {
+		Entity entity = get(handle);
+		return type.isInstance(entity) ? type.cast(entity) : null;
+	}
+
+	/**
+	 * Checks if a handle still resolves to an entity.
+	 *
+	 * @param handle
+	 *            Handle to check.
+	 * @return True if the entity of the handle is still registered.
+	 */
+	public boolean isAlive(final int handle) {
+		return get(handle) != null;
+	}
+
+	/**
+	 * Getter for the number of registered entities.
+	 *
+	 * @return Number of live handles.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Doubles the slot arrays.
+	 */
+	private void grow() {
+		int length = Math.min(INDEX_MASK + 1, this.entities.length * 2);
+		int old = this.generations.length;
+		this.entities = Arrays.copyOf(this.entities, length);
+		this.generations = Arrays.copyOf(this.generations, length);
+		this.free = Arrays.copyOf(this.free, length);
+		Arrays.fill(this.generations, old, length, 1);
+	}
+}
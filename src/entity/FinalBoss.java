@@ -4,6 +4,7 @@ import audio.SoundManager;
 import engine.Cooldown;
 import engine.Core;
 import engine.DrawManager;
+import entity.collision.CollisionLayer;
 import entity.pattern.*;
 
 import java.awt.*;
@@ -21,7 +22,8 @@ public class FinalBoss extends Entity implements BossEntity, Collidable{
     private int screenHeight;
 
 	private BossPattern bossPattern;
-	private HasBounds playerPosition;
+	/** Handle of the ship the boss aims at. */
+	private int target;
 	private int bossPhase = 1;
 
 	private Logger logger;
@@ -29,7 +31,7 @@ public class FinalBoss extends Entity implements BossEntity, Collidable{
 
     /** basic attribute of final boss */
 
-    public FinalBoss(int positionX, int positionY, HasBounds playerPosition, int screenWidth, int screenHeight){
+    public FinalBoss(int positionX, int positionY, int target, int screenWidth, int screenHeight){
 
         super(positionX, positionY, 50 * 2,40 * 2, Color.RED);
         this.healPoint = 80;
@@ -42,7 +44,7 @@ public class FinalBoss extends Entity implements BossEntity, Collidable{
 
         this.animationCooldown = new Cooldown(500);
 
-		this.playerPosition = playerPosition;
+		this.target = target;
 		logger = Core.getLogger();
 	    choosePattern();
 	}
@@ -104,7 +106,7 @@ public class FinalBoss extends Entity implements BossEntity, Collidable{
         }
 		else if (this.healPoint <= this.maxHp /6 && this.bossPhase == 4) {
 			++this.bossPhase;
-	        bossPattern = new TimeGapAttackPattern(this,playerPosition,screenWidth,screenHeight);
+	        bossPattern = new TimeGapAttackPattern(this,target,screenWidth,screenHeight);
         }
     }
 
@@ -148,12 +150,23 @@ public class FinalBoss extends Entity implements BossEntity, Collidable{
 
 	public int getBossPhase() { return bossPhase; }
 
-	public void setTarget(HasBounds target){
-		this.playerPosition = target;
+	/**
+	 * Sets the ship the boss aims at.
+	 *
+	 * @param target
+	 *            Handle of the ship, from the {@link EntityRegistry}.
+	 */
+	public void setTarget(int target){
+		this.target = target;
 		if(bossPattern != null){
 			bossPattern.setTarget(target);
 		}
 	}
+	@Override
+	public CollisionLayer getCollisionLayer() {
+		return CollisionLayer.BOSS;
+	}
+
 	@Override
 	public void onCollision(Collidable other, GameModel model) {
 		other.onCollideWithBoss(this, model);
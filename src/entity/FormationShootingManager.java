@@ -3,7 +3,6 @@ package entity;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 import java.util.logging.Logger;
 
 import engine.Cooldown;
@@ -19,9 +18,9 @@ import engine.level.Level;
 public class FormationShootingManager {
 
 	/** Speed of the bullets shot. */
-	private static final int BULLET_SPEED = 4;
+	static final int BULLET_SPEED = 4;
 	/** Proportion of differences between shooting times. */
-	private static final double SHOOTING_VARIANCE = .2;
+	static final double SHOOTING_VARIANCE = .2;
 
 	/** Application logger. */
 	private Logger logger;
@@ -57,9 +56,9 @@ public class FormationShootingManager {
 	/**
 	 * Attempts to fire a bullet from a random shooter.
 	 *
-	 * @param bullets The set of active bullets.
+	 * @param bullets The active bullets.
 	 */
-	public void shoot(final Set<Bullet> bullets) {
+	public void shoot(final BulletStore bullets) {
 		if (this.shooters.isEmpty()) {
 			return;
 		}
@@ -69,8 +68,8 @@ public class FormationShootingManager {
 
 		if (this.shootingCooldown.checkFinished()) {
 			this.shootingCooldown.reset();
-			bullets.add(BulletPool.getBullet(shooter.getPositionX()
-					+ shooter.getWidth() / 2, shooter.getPositionY(), BULLET_SPEED));
+			bullets.add(shooter.getPositionX()
+					+ shooter.getWidth() / 2, shooter.getPositionY(), BULLET_SPEED);
 		}
 	}
 
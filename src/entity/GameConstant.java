@@ -13,8 +13,18 @@ public final class GameConstant {
 	public static int SCREEN_WIDTH;
 	/** Width of the Screen */
 	public static int SCREEN_HEIGHT;
-	/** Max fps of current screen. */
+	/** Max fps of current screen, also the number of game updates per second. */
 	public static final int FPS = 60;
+	/** Frames drawn per second during play, independent of the update rate. */
+	public static final int RENDER_FPS = 60;
+	/** If the game is drawn on its own thread, overlapping the next update. */
+	public static final boolean RENDER_THREAD = true;
+	/** Most frames skipped in a row while the updates are behind real time. */
+	public static final int MAX_FRAME_SKIP = 4;
+	/** Frames drawn per second at least, however far behind the updates are. */
+	public static final int MIN_RENDER_FPS = 15;
+	/** Pages of the window's buffer strategy, 2 or 3; 0 copies an image to the window instead. */
+	public static final int BUFFER_PAGES = 2;
 	/** Set if this run is for debugging */
 	public static final boolean isTest = false;
 
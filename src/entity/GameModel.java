@@ -1,13 +1,25 @@
 package entity;
 
 import engine.*;
+import engine.DTO.RenderSnapshotDTO;
+import engine.event.GameEvent;
+import engine.event.GameEventBus;
+import engine.event.GameEventListener;
 import engine.level.Level;
+import entity.collision.CollisionEngine;
+import entity.collision.CollisionLayer;
+import entity.collision.Collisions;
+import entity.collision.ContactBuffer;
+import entity.collision.PackedBounds;
+import entity.pool.Pool;
+import entity.pool.Pools;
+import entity.pattern.DashPattern;
+
+import audio.GameSounds;
 
 import java.awt.*;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.logging.Logger;
 
 import engine.*;
@@ -33,6 +45,12 @@ public class GameModel {
     private static final int BOSS_EXPLOSION = 600;
     /** Time from finishing the level to screen change. */
     private static final int SCREEN_CHANGE_INTERVAL = 1500;
+    /** Gameplay events an update can raise before the event ring grows. */
+    private static final int EVENT_CAPACITY = 256;
+    /** Contact index of the first bullet slot, past any entity index of the collision pass. */
+    private static final int BULLET_CONTACT = 1 << 28;
+    /** Contact index of the first boss bullet slot. */
+    private static final int BOSS_BULLET_CONTACT = 1 << 29;
 
     /** Current level data (direct from Level system). */
     private Level currentLevel;
@@ -60,10 +78,10 @@ public class GameModel {
     private Cooldown screenFinishedCooldown;
     /** OmegaBoss */
     private MidBoss omegaBoss;
-    /** Set of all bullets fired by on-screen ships. */
-    private Set<Bullet> bullets;
-    /** Set of all dropItems dropped by on screen ships. */
-    private Set<DropItem> dropItems;
+    /** All bullets fired by on-screen ships. */
+    private BulletStore bullets;
+    /** All dropItems dropped by on screen ships, in drop order. */
+    private List<DropItem> dropItems;
     /** Current score. */
     private int score;
     // === [ADD] Independent scores for two players ===
@@ -88,13 +106,19 @@ public class GameModel {
     private int coin;
 
     /** bossBullets carry bullets which Boss fires */
-    private Set<Bullet> bossBullets;
+    private BulletStore bossBullets;
+    /** Lasers fired by the boss, tested by their beam. */
+    private List<LaserBullet> bossLasers;
     /** Is the bullet on the screen erased */
     private boolean is_cleared = false;
     /** Timer to track elapsed time. */
     private GameTimer gameTimer;
     /** Elapsed time since the game started. */
     private long elapsedTime;
+    /** Whole seconds of elapsed time already reported to the subscribers. */
+    private int reportedSeconds;
+    /** Subscriber unlocking achievements, the shared manager unless replaced. */
+    private GameEventListener achievements;
     // Achievement popup
     private String achievementText;
     private Cooldown achievementPopupCooldown;
@@ -111,6 +135,32 @@ public class GameModel {
 
     /** Milliseconds until the screen accepts user input. */
     private Cooldown inputDelay;
+    /** Broadphase that limits which entity pairs are tested. */
+    private CollisionEngine collisionEngine;
+    /** Contacts found by the collision pass, resolved after detection. */
+    private ContactBuffer contacts;
+    /** Packed boxes of the collision pass, for batched box tests. */
+    private PackedBounds packedBounds;
+    /** Candidates of the entity being tested, narrowed down to box hits. */
+    private int[] candidateBuffer;
+    /** Slots of the bullets whose box overlaps the entity being tested. */
+    private int[] bulletHits = new int[64];
+    /** Entities of the collision pass, refilled every tick. */
+    private final List<Entity> collisionEntities = new ArrayList<Entity>();
+    /** Entities listed by the last collision pass, kept for the profiler once the list is cleared. */
+    private int collisionCount;
+    /** Entities handed to the view, refilled every frame. */
+    private final List<Entity> renderList = new ArrayList<Entity>();
+    /** Handles of the entities other entities refer to. */
+    private EntityRegistry registry;
+    /** Game time of the level, advanced once per update by {@link #beginTick()}. */
+    private final TickClock clock = new TickClock(GameConstant.FPS);
+    /** Gameplay events of the current update, handed to subscribers at its end. */
+    private final GameEventBus events = new GameEventBus(EVENT_CAPACITY);
+    /** Phase of the current boss when last checked, 0 without a boss. */
+    private int bossPhase;
+    /** Times the update phases for the profiler overlay. */
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
 
 
     public GameModel(GameState gameState, Level level, boolean bonusLife, int maxLives, int width, int height) {
@@ -135,12 +185,37 @@ public class GameModel {
         this.shipsDestroyed = gameState.getShipsDestroyed();
     }
 
+    /**
+     * Replaces the subscriber that unlocks achievements, which otherwise is
+     * the shared {@link AchievementManager} saving them to disk. Must be set
+     * before {@link #initialize()}.
+     *
+     * @param achievements
+     *            Subscriber handed the gameplay events instead.
+     */
+    public void setAchievementListener(final GameEventListener achievements) {
+        this.achievements = achievements;
+    }
+
     /**
      * Initializes basic model properties, and adds necessary elements.
      */
     public final void initialize() {
+        // Every timer created from here on runs on the level's clock.
+        GameClock.use(this.clock);
+        DropItem.clearTimeFreeze();
+        this.events.clear();
+        if (this.achievements == null)
+            this.achievements = AchievementManager.getInstance();
+        this.events.subscribe(this.achievements);
+        ItemHUDManager.getInstance().clearDroppedItems();
+        this.events.subscribe(ItemHUDManager.getInstance());
+        this.events.subscribe(GameSounds.getInstance());
+        this.bossPhase = 0;
+
         /** Initialize the bullet Boss fired */
-        this.bossBullets = new HashSet<>();
+        this.bossBullets = new BulletStore();
+        this.bossLasers = new ArrayList<LaserBullet>();
         enemyShipFormationModel = new EnemyShipFormationModel(this.currentLevel, width);
 		enemyShipFormationModel.applyEnemyColorByLevel(this.currentLevel);
 		this.ship = new Ship(this.width / 4, GameConstant.ITEMS_SEPARATION_LINE_HEIGHT * 19 / 20, Color.green);
@@ -148,6 +223,15 @@ public class GameModel {
 
         this.shipP2 = new Ship(this.width * 3 / 4, GameConstant.ITEMS_SEPARATION_LINE_HEIGHT * 19 / 20, Color.pink);
         this.shipP2.setPlayerId(2); // === [ADD] Player2 ===
+
+        // Handles from the previous level go stale here.
+        this.registry = EntityRegistry.getInstance();
+        this.registry.clear();
+        this.registry.register(this.ship);
+        this.registry.register(this.shipP2);
+        for (EnemyShip enemy : enemyShipFormationModel) {
+            this.registry.register(enemy);
+        }
         // special enemy initial
 
         GameSettings specialSettings = new GameSettings(
@@ -162,17 +246,32 @@ public class GameModel {
                 new Cooldown(BONUS_SHIP_EXPLOSION));
         this.bossExplosionCooldown = new Cooldown(BOSS_EXPLOSION);
         this.screenFinishedCooldown = new Cooldown(SCREEN_CHANGE_INTERVAL);
-        this.bullets = new HashSet<Bullet>();
-        this.dropItems = new HashSet<DropItem>();
+        this.bullets = new BulletStore();
+        this.collisionEngine = CollisionEngine.Type.GRID.create(this.width, this.height);
+        this.contacts = new ContactBuffer();
+        this.packedBounds = PackedBounds.create();
+        this.candidateBuffer = new int[64];
+        Pools.trimAll();
+
+        // Fill the pools during the countdown, so the level itself does not allocate.
+        PrewarmPlan prewarmPlan = PrewarmPlan.forLevel(this.currentLevel, this.height);
+        prewarmPlan.apply(this.bullets, this.bossBullets);
+        this.bossLasers = new ArrayList<LaserBullet>(prewarmPlan.getLasers());
+        this.dropItems = new ArrayList<DropItem>(Math.max(prewarmPlan.getItems(), 16));
+        Pools.resetCounters();
+        this.bullets.resetGrowths();
+        this.bossBullets.resetGrowths();
+        this.logger.fine("Prewarmed level " + this.level + ": " + prewarmPlan);
 
         // Special input delay / countdown.
-        this.gameStartTime = System.currentTimeMillis();
+        this.gameStartTime = this.clock.millis();
         this.inputDelay = new Cooldown(INPUT_DELAY);
         this.inputDelay.reset();
 
 
         this.gameTimer = new GameTimer();
         this.elapsedTime = 0;
+        this.reportedSeconds = 0;
         this.finalBoss = null;
         this.omegaBoss = null;
         this.currentPhase = StagePhase.wave;
@@ -182,15 +281,22 @@ public class GameModel {
      * Unified scoring entry: maintains both P1/P2 and legacy this.score (total score)
      */
     private void addPointsFor(Bullet bullet, int pts) {
-        Integer owner = (bullet != null ? bullet.getOwnerId() : null);
-        if (owner != null && owner == 2) {
+        if (playerOf(bullet) == 2) {
             this.scoreP2 += pts;   // P2
         } else {
-            this.scoreP1 += pts;   // Default to P1 (for null compatibility)
+            this.scoreP1 += pts;   // Default to P1 (for unowned bullets)
         }
         this.score += pts;        // Keep maintaining the total score, for legacy process compatibility
     }
 
+    /**
+     * Player who shot a bullet, defaulting to P1 for unowned bullets.
+     */
+    private int playerOf(Bullet bullet) {
+        Ship owner = (bullet != null ? this.registry.get(bullet.getOwner(), Ship.class) : null);
+        return owner != null && owner.getPlayerId() == 2 ? 2 : 1;
+    }
+
     /**
      * Processes a player move command received from the Controller.
      * (Includes boundary checking logic)
@@ -236,19 +342,63 @@ public class GameModel {
         // Firing logic brought over from the original processPlayerInput
         if (ship.shoot(this.bullets)) {
             this.bulletsShot++;
-            AchievementManager.getInstance().onShotFired();
+            this.events.publish(GameEvent.SHOT_FIRED, playerNum, 0);
         }
     }
 
+    /**
+     * Starts an update: advances the level's clock, and saves the position
+     * every drawn entity has before input and the game world move it, so
+     * the view can draw entities between their last two positions.
+     */
+    public void beginTick() {
+        this.clock.advance();
+        long tick = this.clock.getTicks();
+        this.events.beginTick(tick);
+        List<Entity> entities = getEntitiesToRender();
+        for (int i = 0; i < entities.size(); i++) {
+            entities.get(i).savePosition(tick);
+        }
+    }
+
+    /**
+     * Updates the game world, then hands the events raised by input and by
+     * the update to their subscribers.
+     */
     public void updateGameWorld() {
+        long start = this.profiler.begin();
+
         // Phase 1: Update state/position of ALL entities
         this.updateAllEntities();
+        start = this.profiler.lap(FrameProfiler.Phase.ENTITIES, start);
 
         // Phase 2: Process interactions and collisions
         this.processAllCollisions();
+        start = this.profiler.lap(FrameProfiler.Phase.COLLISIONS, start);
 
         // Phase 3: Clean up destroyed or off-screen entities
         this.cleanupAllEntities();
+        this.profiler.end(FrameProfiler.Phase.CLEANUP, start);
+
+        // Phase 4: Run the side effects of the update's events
+        this.events.drain();
+
+        if (this.profiler.isEnabled()) {
+            recordCounts();
+        }
+    }
+
+    /**
+     * Hands the live entity and pool counts to the profiler overlay.
+     */
+    private void recordCounts() {
+        this.profiler.setCount(FrameProfiler.Counter.ENTITIES, this.collisionCount);
+        this.profiler.setCount(FrameProfiler.Counter.BULLETS, this.bullets.size());
+        this.profiler.setCount(FrameProfiler.Counter.BOSS_BULLETS, this.bossBullets.size());
+        this.profiler.setCount(FrameProfiler.Counter.DROP_ITEMS, this.dropItems.size());
+        this.profiler.setCount(FrameProfiler.Counter.ITEM_POOL, Pools.ITEMS.getIdle());
+        this.profiler.setCount(FrameProfiler.Counter.LASER_POOL, Pools.LASERS.getIdle());
+        this.profiler.setCount(FrameProfiler.Counter.SHIP_POOL, Pools.SPECIAL_SHIPS.getIdle());
     }
 
     /**
@@ -275,10 +425,14 @@ public class GameModel {
                 }
                 else if (this.omegaBoss != null){
                     this.omegaBoss.update();
+                    if (this.omegaBoss instanceof OmegaBoss omega && !omega.isDestroyed())
+                        checkBossPhase(omega.getBossPhase());
                     if (this.omegaBoss.isDestroyed()) {
                         if ("omegaAndFinal".equals(this.currentLevel.getBossId())) {
+                            this.registry.release(this.omegaBoss.getHandle());
                             this.omegaBoss = null;
-                            this.finalBoss = new FinalBoss(this.width / 2 - 50, 50, ship, this.width, this.height);
+                            this.finalBoss = new FinalBoss(this.width / 2 - 50, 50, ship.getHandle(), this.width, this.height);
+                            this.registry.register(this.finalBoss);
                             this.logger.info("Final Boss has spawned!");
                         } else {
                             this.levelFinished = true;
@@ -301,69 +455,233 @@ public class GameModel {
         // special enemy update
         this.enemyShipSpecialFormation.update();
 
-        for (Bullet bullet : this.bullets) {
-            bullet.update();
+        this.bullets.update();
+        this.bossBullets.update();
+        for (int i = 0; i < this.bossLasers.size(); i++) {
+            this.bossLasers.get(i).update();
         }
 
-        for (DropItem dropItem : this.dropItems) {
-            dropItem.update();
+        for (int i = 0; i < this.dropItems.size(); i++) {
+            this.dropItems.get(i).update();
         }
     }
 
 	/**
-	 * Detects collisions between all active entities.
-	 * Each pair of collidables is checked, and their collision handlers are invoked.
+	 * Detects collisions between all active entities, then resolves them.
+	 * Players and their bullets are first tested against the enemy formation
+	 * through its column index. All other pairs handed out by the collision
+	 * engine are then checked, in the same order as a full pairwise scan, and
+	 * active lasers are tested against the players by their beam. Bullets
+	 * stay in their stores instead of the entity list: every entity they can
+	 * hit is tested against all of them in one wide batch of box tests over
+	 * the store's arrays, after its contacts with the listed entities.
+	 * Detection only records contacts; their handlers run afterwards, in
+	 * detection order.
 	 */
 	private void processAllCollisions() {
 
-		List<Entity> entities = new ArrayList<>();
+		List<Entity> entities = collisionEntities;
 
-		if (ship != null) entities.add(ship);
-		if (shipP2 != null) entities.add(shipP2);
+		if (ship != null && livesP1 > 0) entities.add(ship);
+		if (shipP2 != null && livesP2 > 0) entities.add(shipP2);
 
-		for (EnemyShip e : enemyShipFormationModel) {
-			if (e != null && !e.isDestroyed()) entities.add(e);
-		}
+		// Formation enemies would sit here; they are queried through the formation instead.
+		int formationSlot = entities.size();
 
-		for (EnemyShip e : enemyShipSpecialFormation) {
-			if (e != null && !e.isDestroyed()) entities.add(e);
-		}
+		EnemyShip red = enemyShipSpecialFormation.getRedShip();
+		EnemyShip blue = enemyShipSpecialFormation.getBlueShip();
+		if (red != null && !red.isDestroyed()) entities.add(red);
+		if (blue != null && !blue.isDestroyed()) entities.add(blue);
 
 		if (finalBoss != null && !finalBoss.isDestroyed()) entities.add(finalBoss);
 		if (omegaBoss != null && !omegaBoss.isDestroyed()) entities.add(omegaBoss);
 
-		entities.addAll(bullets);
-		entities.addAll(bossBullets);
-		entities.addAll(dropItems);
+		for (int k = 0; k < bossLasers.size(); k++) entities.add(bossLasers.get(k));
+		for (int k = 0; k < dropItems.size(); k++) entities.add(dropItems.get(k));
+
+		int listed = entities.size();
+		collisionCount = listed + bullets.size() + bossBullets.size();
+		contacts.clear();
+		collisionEngine.build(entities);
+		packedBounds.pack(entities);
+		int capacity = Math.max(bullets.getCapacity(), bossBullets.getCapacity());
+		if (bulletHits.length < capacity) {
+			bulletHits = new int[capacity];
+		}
 
-		for (int i = 0; i < entities.size(); i++) {
+		for (int i = 0; i < listed; i++) {
 			Entity a = entities.get(i);
+			CollisionLayer layer = a.getCollisionLayer();
+			if (layer == null || !layer.interactsWith(CollisionLayer.ENEMY)) continue;
+
+			EnemyShip enemy = enemyShipFormationModel.hitTest(a);
+			while (enemy != null) {
+				// Formation ships hit this tick are appended past the listed entities.
+				int j = entities.size();
+				entities.add(enemy);
+				if (i < formationSlot) contacts.add(i, j);
+				else contacts.add(j, i);
+				enemy = enemyShipFormationModel.hitTest(a, enemy);
+			}
+		}
+		for (int k = 0; k < bullets.size(); k++) {
+			CollisionLayer layer = bullets.getCollisionLayer(k);
+			if (layer == null || !layer.interactsWith(CollisionLayer.ENEMY)) continue;
+
+			Bullet bullet = bullets.get(k);
+			EnemyShip enemy = enemyShipFormationModel.hitTest(bullet);
+			while (enemy != null) {
+				int j = entities.size();
+				entities.add(enemy);
+				contacts.add(j, BULLET_CONTACT + k);
+				enemy = enemyShipFormationModel.hitTest(bullet, enemy);
+			}
+		}
 
-			for (int j = i + 1; j < entities.size(); j++) {
-				Entity b = entities.get(j);
+		for (int i = 0; i < listed; i++) {
+			Entity a = entities.get(i);
+			int candidates = collisionEngine.queryCandidates(i);
+			if (candidates > 0) {
+				if (candidateBuffer.length < candidates) {
+					candidateBuffer = new int[Math.max(candidates, candidateBuffer.length * 2)];
+				}
+				for (int k = 0; k < candidates; k++) {
+					candidateBuffer[k] = collisionEngine.getCandidate(k);
+				}
+				int hits = packedBounds.filter(i, candidateBuffer, candidates, candidateBuffer);
+
+				for (int k = 0; k < hits; k++) {
+					int j = candidateBuffer[k];
+					if (Collisions.masksOverlap(a, entities.get(j))) {
+						contacts.add(i, j);
+					}
+				}
+			}
+
+			CollisionLayer layer = a.getCollisionLayer();
+			if (layer == null) continue;
+			if (layer.interactsWith(CollisionLayer.PLAYER_BULLET) || layer.interactsWith(CollisionLayer.ENEMY_BULLET)) {
+				addBulletContacts(a, i, bullets, BULLET_CONTACT);
+			}
+			if (layer.interactsWith(CollisionLayer.BOSS_BULLET)) {
+				addBulletContacts(a, i, bossBullets, BOSS_BULLET_CONTACT);
+			}
+		}
+
+		for (int i = formationSlot; i < listed; i++) {
+			if (!(entities.get(i) instanceof LaserBullet laser) || !laser.isActive()) continue;
 
-				if (checkCollision(a, b)) {
-					a.onCollision(b, this);
-					b.onCollision(a, this);
+			for (int s = 0; s < formationSlot; s++) {
+				if (laser.hits(entities.get(s))) {
+					contacts.add(s, i);
 				}
 			}
 		}
+
+		resolveContacts(entities);
 		entities.clear();
 	}
 
+	/**
+	 * Records the contacts of an entity of the collision pass with the
+	 * bullets of a store it can hit. Boxes are tested over the store's arrays
+	 * in one batch; only the bullets whose box overlaps are read through the
+	 * store's view, for their layer's handler and the sprite mask test.
+	 *
+	 * @param a
+	 *            Entity tested, whose handler runs first.
+	 * @param i
+	 *            Index of the entity in the collision pass.
+	 * @param store
+	 *            Bullets to test.
+	 * @param contactBase
+	 *            Contact index of the store's first slot.
+	 */
+	private void addBulletContacts(final Entity a, final int i, final BulletStore store, final int contactBase) {
+		CollisionLayer layer = a.getCollisionLayer();
+		int hits = store.overlaps(packedBounds, i, bulletHits);
+		for (int k = 0; k < hits; k++) {
+			int slot = bulletHits[k];
+			CollisionLayer bulletLayer = store.getCollisionLayer(slot);
+			if (bulletLayer == null || !layer.interactsWith(bulletLayer)) continue;
+
+			if (Collisions.masksOverlap(a, store.get(slot))) {
+				contacts.add(i, contactBase + slot);
+			}
+		}
+	}
+
+	/**
+	 * Getter for the entity a contact index refers to, binding the view of
+	 * a bullet store for bullet contacts.
+	 */
+	private Entity contactEntity(final List<Entity> entities, final int index) {
+		if (index >= BOSS_BULLET_CONTACT) return bossBullets.get(index - BOSS_BULLET_CONTACT);
+		if (index >= BULLET_CONTACT) return bullets.get(index - BULLET_CONTACT);
+		return entities.get(index);
+	}
+
+	/**
+	 * Runs the collision handlers of every recorded contact, in detection
+	 * order. Contacts of an entity already used up earlier in the pass are
+	 * skipped, and used-up entities are removed once all contacts are done.
+	 *
+	 * @param entities
+	 *            Entities the contact indices refer to.
+	 */
+	private void resolveContacts(final List<Entity> entities) {
+		for (int k = 0; k < contacts.size(); k++) {
+			Entity a = contactEntity(entities, contacts.getFirst(k));
+			Entity b = contactEntity(entities, contacts.getSecond(k));
+			if (a.isMarkedForRemoval() || b.isMarkedForRemoval()) continue;
+
+			a.onCollision(b, this);
+			b.onCollision(a, this);
+		}
+
+		bullets.removeMarked();
+		bossBullets.removeMarked();
+		removeMarked(dropItems, Pools.ITEMS);
+	}
+
+	/**
+	 * Removes the entities used up by collisions from a list, returning them
+	 * to their pool. The remaining entities keep their order.
+	 */
+	private static <T extends Entity> void removeMarked(final List<T> entities, final Pool<? super T> pool) {
+		int kept = 0;
+		for (int i = 0; i < entities.size(); i++) {
+			T entity = entities.get(i);
+			if (entity.isMarkedForRemoval())
+				pool.release(entity);
+			else
+				entities.set(kept++, entity);
+		}
+		truncate(entities, kept);
+	}
+
+	/**
+	 * Drops the tail of a list, from the last element down, so an
+	 * {@link ArrayList} does not shift anything.
+	 */
+	private static void truncate(final List<?> entities, final int size) {
+		for (int i = entities.size() - 1; i >= size; i--)
+			entities.remove(i);
+	}
+
 	/**
 	 * Handles damage and rewards when a player bullet hits a normal enemy.
 	 */
 	public void requestEnemyHitByPlayerBullet(Bullet bullet, EnemyShip enemy) {
 
-		if (!bullets.contains(bullet)) return;
+		if (bullet.isMarkedForRemoval()) return;
 		if (enemy.isDestroyed()) return;
 
 		int pts = enemy.getPointValue();
 		addPointsFor(bullet, pts);
 		coin += pts / 10;
 
-		AchievementManager.getInstance().onEnemyDefeated();
+		this.events.publish(GameEvent.ENEMY_DESTROYED, playerOf(bullet), pts);
 
 		attemptItemDrop(enemy);
 
@@ -379,7 +697,7 @@ public class GameModel {
 		}
 
 		if (!bullet.penetration()) {
-			bullets.remove(bullet);
+			bullet.markForRemoval();
 		}
 	}
 
@@ -399,6 +717,8 @@ public class GameModel {
 		} else {
 			livesP2 = Math.max(0, livesP2 - amount);  // ★ 여기!!
 		}
+		this.events.publish(GameEvent.SHIP_HIT, ship.getPlayerId(),
+				ship.getPlayerId() == 1 ? livesP1 : livesP2);
 
 		if (this.isGameOver()) {
 			this.setGameOver();
@@ -406,21 +726,23 @@ public class GameModel {
 	}
 
 	public void requestRemoveBullet(Bullet bullet) {
-		bullets.remove(bullet);
+		bullet.markForRemoval();
 	}
 
-	public void requestRemoveBossBullet(BossBullet bullet) {
-		bossBullets.remove(bullet);
+	public void requestRemoveBossBullet(Bullet bullet) {
+		bullet.markForRemoval();
 	}
 
 
 	public void requestBossHitByPlayerBullet(Bullet bullet, BossEntity boss) {
 
+		if (bullet.isMarkedForRemoval()) return;
+		if (boss.isDestroyed()) return;
 
 		boss.takeDamage(1);
 
 		if (!bullet.penetration()) {
-			bullets.remove(bullet);
+			bullet.markForRemoval();
 		}
 
 		if (boss.getHealPoint() <= 0) {
@@ -430,7 +752,8 @@ public class GameModel {
 			addPointsFor(bullet, pts);
 			this.coin += pts / 10;
 
-			AchievementManager.getInstance().unlockAchievement("Boss Slayer");
+			this.events.publish(GameEvent.BOSS_PHASE_CHANGED, playerOf(bullet), GameEvent.BOSS_DEFEATED);
+			this.bossPhase = GameEvent.BOSS_DEFEATED;
 		}
 	}
 
@@ -463,9 +786,9 @@ public class GameModel {
 	 */
 	public void requestApplyItem(Ship ship, DropItem item) {
 
-		if (!dropItems.contains(item)) return;
+		if (item.isMarkedForRemoval()) return;
 
-		ItemHUDManager.getInstance().addDroppedItem(item.getItemType());
+		this.events.publish(GameEvent.ITEM_COLLECTED, ship.getPlayerId(), item.getItemType().ordinal());
 
 		switch (item.getItemType()) {
 			case Heal:
@@ -497,7 +820,7 @@ public class GameModel {
 				break;
 		}
 
-		dropItems.remove(item);
+		item.markForRemoval();
 	}
 
 
@@ -527,11 +850,12 @@ public class GameModel {
 				continue;
 			}
 
-			DropItem item = ItemPool.getItem(
+			DropItem item = Pools.item(
 					enemy.getPositionX() + enemy.getWidth() / 2,
 					enemy.getPositionY() + enemy.getHeight() / 2,
 					2,
-					type
+					type,
+					enemy.getHandle()
 			);
 
 			dropItems.add(item);
@@ -544,15 +868,12 @@ public class GameModel {
 	 * Pushes all enemy ships upward (used by Push-type item).
 	 */
 	public void pushEnemiesBack() {
-		for (EnemyShip enemy : enemyShipFormationModel) {
-			if (enemy != null && !enemy.isDestroyed()) {
-				enemy.move(0, -20);
-			}
-		}
+		enemyShipFormationModel.pushBack(20);
 	}
 
     private void cleanupAllEntities() {
         cleanBullets();
+        cleanBossBullets();
         cleanItems();
     }
 
@@ -561,14 +882,19 @@ public class GameModel {
      * Cleans bullets that go off screen.
      */
     private void cleanBullets() {
-        Set<Bullet> recyclable = new HashSet<Bullet>();
-        for (Bullet bullet : this.bullets) {
-            if (bullet.getPositionY() < GameConstant.STAT_SEPARATION_LINE_HEIGHT
-                    || bullet.getPositionY() > this.height)
-                recyclable.add(bullet);
+        this.bullets.cull(Integer.MIN_VALUE, GameConstant.STAT_SEPARATION_LINE_HEIGHT,
+                Integer.MAX_VALUE, this.height);
+    }
+
+    /**
+     * Cleans boss bullets that go off screen, and lasers that have expired.
+     */
+    private void cleanBossBullets() {
+        this.bossBullets.cull(0, 0, this.width, this.height);
+        for (int i = this.bossLasers.size() - 1; i >= 0; i--) {
+            if (this.bossLasers.get(i).shouldBeRemoved())
+                Pools.LASERS.release(this.bossLasers.remove(i));
         }
-        this.bullets.removeAll(recyclable);
-        BulletPool.recycle(recyclable);
     }
 
     /**
@@ -576,42 +902,19 @@ public class GameModel {
      */
 
     private void cleanItems() {
-        Set<DropItem> recyclable = new HashSet<DropItem>();
-        for (DropItem dropItem : this.dropItems) {
+        int kept = 0;
+        for (int i = 0; i < this.dropItems.size(); i++) {
+            DropItem dropItem = this.dropItems.get(i);
             if (dropItem.getPositionY() < GameConstant.STAT_SEPARATION_LINE_HEIGHT
                     || dropItem.getPositionY() > this.height)
-                recyclable.add(dropItem);
+                Pools.ITEMS.release(dropItem);
+            else
+                this.dropItems.set(kept++, dropItem);
         }
-        this.dropItems.removeAll(recyclable);
-        ItemPool.recycle(recyclable);
+        truncate(this.dropItems, kept);
     }
 
 
-    /**
-     * Checks if two entities are colliding.
-     *
-     * @param a
-     * First entity, the bullet.
-     * @param b
-     * Second entity, the ship.
-     * @return Result of the collision test.
-     */
-    private boolean checkCollision(final HasBounds a, final HasBounds b) {
-        // Calculate center point of the entities in both axis.
-        int centerAX = a.getPositionX() + a.getWidth() / 2;
-        int centerAY = a.getPositionY() + a.getHeight() / 2;
-        int centerBX = b.getPositionX() + b.getWidth() / 2;
-        int centerBY = b.getPositionY() + b.getHeight() / 2;
-        // Calculate maximum distance without collision.
-        int maxDistanceX = a.getWidth() / 2 + b.getWidth() / 2;
-        int maxDistanceY = a.getHeight() / 2 + b.getHeight() / 2;
-        // Calculates distance.
-        int distanceX = Math.abs(centerAX - centerBX);
-        int distanceY = Math.abs(centerAY - centerBY);
-
-        return distanceX < maxDistanceX && distanceY < maxDistanceY;
-    }
-
     /**
      * Shows an achievement popup message on the HUD.
      *
@@ -675,12 +978,14 @@ public class GameModel {
         this.logger.info("Spawning boss: " + bossName);
         switch (bossName) {
             case "finalBoss":
-                this.finalBoss = new FinalBoss(this.width / 2 - 50, 80, ship, this.width, this.height);
+                this.finalBoss = new FinalBoss(this.width / 2 - 50, 80, ship.getHandle(), this.width, this.height);
+                this.registry.register(this.finalBoss);
                 this.logger.info("Final Boss has spawned!");
                 break;
             case "omegaBoss":
             case "omegaAndFinal":
-                this.omegaBoss = new OmegaBoss(Color.ORANGE, ship);
+                this.omegaBoss = new OmegaBoss(Color.ORANGE, ship.getHandle());
+                this.registry.register(this.omegaBoss);
 
                 this.logger.info("Omega Boss has spawned!");
                 break;
@@ -691,61 +996,70 @@ public class GameModel {
     }
 
 
+    /**
+     * Reports the boss entering a new phase.
+     */
+    private void checkBossPhase(int phase) {
+        if (phase != this.bossPhase) {
+            this.bossPhase = phase;
+            this.events.publish(GameEvent.BOSS_PHASE_CHANGED, 0, phase);
+        }
+    }
+
     public void finalbossManage(){
         if (this.finalBoss != null && !this.finalBoss.isDestroyed()) {
 			if(livesP1>0 && livesP2>0){
-				this.finalBoss.setTarget(Math.random() < 0.5 ? ship : shipP2);
+				this.finalBoss.setTarget(Math.random() < 0.5 ? ship.getHandle() : shipP2.getHandle());
 			}
 			else if(livesP2 > 0){
-				this.finalBoss.setTarget(shipP2);
+				this.finalBoss.setTarget(shipP2.getHandle());
 			}
 			else if(livesP1 > 0){
-				this.finalBoss.setTarget(ship);
+				this.finalBoss.setTarget(ship.getHandle());
 			}
             this.finalBoss.update();
+            checkBossPhase(this.finalBoss.getBossPhase());
 			if(this.finalBoss.getBossPhase() == 3 && !this.is_cleared){
-				bossBullets.clear();
+				clearBossProjectiles();
 				is_cleared = true;
 				logger.info("boss is angry");
 			}
-			bossBullets.addAll(this.finalBoss.getBossPattern().getBullets());
-
-            /** bullets to erase */
-            Set<Bullet> bulletsToRemove = new HashSet<>();
-
-            for (Bullet b : bossBullets) {
-                b.update();
-                /** If the bullet goes off the screen */
-                if (b.isOffScreen(width, height) || b.shouldBeRemoved()) {
-                    /** bulletsToRemove carry bullet */
-                    bulletsToRemove.add(b);
-                }
-                /** If the bullet collides with ship */
-                else if (this.livesP1 > 0 && this.checkCollision(b, this.ship)) {
-                    if (!this.ship.isDestroyed()) {
-						requestShipDamage(this.ship, 1);
-                        this.logger.info("Hit on player ship, " + this.livesP1 + " lives remaining.");
-                    }
-                    bulletsToRemove.add(b);
-                }
-                else if (this.shipP2 != null && this.livesP2 > 0 && !this.shipP2.isDestroyed() && this.checkCollision(b, this.shipP2)) {
-                    if (!this.shipP2.isDestroyed()) {
-						requestShipDamage(this.shipP2, 1);
-                        this.logger.info("Hit on player ship2, " + this.livesP2 + " lives remaining.");
-                    }
-                    bulletsToRemove.add(b);
-                }
-            }
-            /** all bullets are removed */
-            bossBullets.removeAll(bulletsToRemove);
-
+			this.finalBoss.getBossPattern().moveBulletsTo(bossBullets);
+			this.finalBoss.getBossPattern().moveLasersTo(bossLasers);
         }
         if (this.finalBoss != null && this.finalBoss.isDestroyed()) {
+            // Bullets left by the boss are no longer drawn, so they must not hit or move either.
+            clearBossProjectiles();
             this.levelFinished = true;
             this.screenFinishedCooldown.reset();
         }
     }
 
+    /**
+     * Removes every boss bullet and laser, handing the lasers back to their
+     * pool.
+     */
+    private void clearBossProjectiles() {
+        this.bossBullets.clear();
+        for (int i = 0; i < this.bossLasers.size(); i++)
+            Pools.LASERS.release(this.bossLasers.get(i));
+        this.bossLasers.clear();
+    }
+
+    /**
+     * Hands the pooled entities still alive back to their pools once the
+     * level is over. Each level gets a new model, so anything left in these
+     * lists would otherwise stay counted as in use by the pools, and the
+     * next level would trim them against a wrong demand.
+     */
+    public void releasePooledEntities() {
+        clearBossProjectiles();
+        for (int i = 0; i < this.dropItems.size(); i++)
+            Pools.ITEMS.release(this.dropItems.get(i));
+        this.dropItems.clear();
+        this.enemyShipSpecialFormation.releaseShips();
+    }
+
     // --- Timer and State Management Methods for Controller ---
 
     public boolean isTimerRunning() {
@@ -765,7 +1079,11 @@ public class GameModel {
     public void updateElapsedTime() {
         if (this.gameTimer.isRunning()) {
             this.elapsedTime = this.gameTimer.getElapsedTime();
-            AchievementManager.getInstance().onTimeElapsedSeconds((int)(this.elapsedTime / 1000));
+            int seconds = (int) (this.elapsedTime / 1000);
+            if (seconds != this.reportedSeconds) {
+                this.reportedSeconds = seconds;
+                this.events.publish(GameEvent.TIME_ELAPSED, 0, seconds);
+            }
         }
     }
 
@@ -788,6 +1106,7 @@ public class GameModel {
     }
 
     public void processLevelCompletion() {
+        this.logger.info("Allocations on demand during the level: " + getOnDemandAllocations());
         if (this.livesP1 > 0 || (this.shipP2 != null && this.livesP2 > 0)) { // Check for win condition
             if (this.currentLevel.getCompletionBonus() != null) {
                 this.coin += this.currentLevel.getCompletionBonus().getCurrency();
@@ -802,6 +1121,16 @@ public class GameModel {
         }
     }
 
+    /**
+     * Counts the pooled objects and bullet slots that had to be created during
+     * the level because prewarming did not provide enough.
+     *
+     * @return Number of allocations since the level started.
+     */
+    public long getOnDemandAllocations() {
+        return Pools.getMisses() + this.bullets.getGrowths() + this.bossBullets.getGrowths();
+    }
+
     public int calculateFinalScore() {
         this.score += LIFE_SCORE * Math.max(0, this.livesP1 - 1);
         this.score += LIFE_SCORE * Math.max(0, this.livesP2 - 1);
@@ -824,11 +1153,25 @@ public class GameModel {
     public int getLivesP2() { return livesP2; }
     public EnemyShipSpecialFormation getEnemyShipSpecialFormation() { return enemyShipSpecialFormation; }
     public FinalBoss getFinalBoss() { return finalBoss; }
-    public Set<Bullet> getBossBullets() { return bossBullets; }
+    public BulletStore getBossBullets() { return bossBullets; }
+    public long getTick() { return clock.getTicks(); }
+    public TickClock getClock() { return clock; }
+    public GameEventBus getEvents() { return events; }
+    public List<LaserBullet> getBossLasers() { return bossLasers; }
     public EnemyShipFormationModel getEnemyShipFormationModel() { return enemyShipFormationModel; }
     public MidBoss getOmegaBoss() { return omegaBoss; }
-    public Set<Bullet> getBullets() { return bullets; }
-    public Set<DropItem> getDropItems() { return dropItems; }
+    /**
+     * Switches the broadphase used by the collision pass.
+     *
+     * @param type
+     * Broadphase implementation to use from the next tick on.
+     */
+    public void setCollisionEngine(final CollisionEngine.Type type) {
+        this.collisionEngine = type.create(this.width, this.height);
+    }
+
+    public BulletStore getBullets() { return bullets; }
+    public List<DropItem> getDropItems() { return dropItems; }
     public int getScoreP1() { return scoreP1; }
     public int getScoreP2() { return scoreP2; }
     public int getCoin() { return coin; }
@@ -843,8 +1186,87 @@ public class GameModel {
     public boolean isLevelFinished() { return levelFinished; }
     public Cooldown getScreenFinishedCooldown() { return screenFinishedCooldown; }
 
+    /**
+     * Checks if boss bullets are drawn, which is only while the final boss
+     * is alive.
+     *
+     * @return True if boss bullets and lasers should be drawn.
+     */
+    public boolean isBossBulletsVisible() {
+        return getFinalBoss() != null && !getFinalBoss().isDestroyed();
+    }
+
+    /**
+     * Copies everything the view draws into a snapshot, so it can be drawn
+     * on another thread while the next update runs. Entities keep the
+     * position saved by {@link #beginTick()}, for drawing between the two.
+     *
+     * @param snapshot
+     *            Snapshot to overwrite.
+     */
+    public void captureFrame(final RenderSnapshotDTO snapshot) {
+        snapshot.clear();
+
+        long tick = this.clock.getTicks();
+        List<Entity> entities = getEntitiesToRender();
+        for (int i = 0; i < entities.size(); i++) {
+            Entity e = entities.get(i);
+            int previousX = e.getDrawPositionX(0, tick);
+            int previousY = e.getDrawPositionY(0, tick);
+            if (e instanceof DropItem item) {
+                snapshot.addItem(item.getItemType(), previousX, previousY,
+                        item.getPositionX(), item.getPositionY());
+            } else if (e instanceof LaserBullet laser) {
+                snapshot.addLine(RenderSnapshotDTO.Kind.LASER, laser.getColor(),
+                        laser.getPositionX(), laser.getPositionY(),
+                        laser.getTargetPosition().x, laser.getTargetPosition().y);
+            } else {
+                snapshot.addSprite(e.getSpriteType(), e.getColor(), previousX, previousY,
+                        e.getPositionX(), e.getPositionY());
+                if (e instanceof OmegaBoss boss && boss.getBossPattern() instanceof DashPattern dash
+                        && dash.isShowingPath()) {
+                    int[] target = boss.getDashEndPoint();
+                    snapshot.addLine(RenderSnapshotDTO.Kind.DASH_PATH, null,
+                            boss.getPositionX() + boss.getWidth() / 2,
+                            boss.getPositionY() + boss.getHeight() / 2, target[0], target[1]);
+                }
+            }
+        }
+
+        captureBullets(this.bullets, snapshot);
+        if (isBossBulletsVisible()) {
+            captureBullets(this.bossBullets, snapshot);
+        }
+
+        int countdown = -1;
+        if (!isInputDelayFinished()) {
+            countdown = (int) ((INPUT_DELAY - (this.clock.millis() - this.gameStartTime)) / 1000);
+        }
+        snapshot.setOverlays(
+                this.achievementText != null && !this.achievementPopupCooldown.checkFinished(),
+                this.healthPopupText != null && !this.healthPopupCooldown.checkFinished(),
+                countdown, this.bonusLife);
+    }
+
+    /**
+     * Copies the bullets of a store into a snapshot.
+     */
+    private static void captureBullets(final BulletStore store, final RenderSnapshotDTO snapshot) {
+        for (int k = 0; k < store.size(); k++) {
+            snapshot.addBullet(store.getSprite(k), store.getColor(k), store.getPositionX(k),
+                    store.getPositionY(k), store.getSpeedX(k), store.getSpeedY(k));
+        }
+    }
+
+    /**
+     * Lists the entities the view draws one by one. The list is reused from
+     * frame to frame, so it is only valid until the next call.
+     *
+     * @return Entities to draw, in drawing order.
+     */
     public List<Entity> getEntitiesToRender() {
-        List<Entity> renderList = new ArrayList<>();
+        List<Entity> renderList = this.renderList;
+        renderList.clear();
 
         // 1. added player ships
         if (getLivesP1() > 0 && getShip() != null) {
@@ -856,15 +1278,22 @@ public class GameModel {
 
         // 2. added special enemyship
         if (getEnemyShipSpecialFormation() != null) {
-            for (EnemyShip specialEnemy : getEnemyShipSpecialFormation()) {
-                renderList.add(specialEnemy);
+            if (getEnemyShipSpecialFormation().getRedShip() != null) {
+                renderList.add(getEnemyShipSpecialFormation().getRedShip());
+            }
+            if (getEnemyShipSpecialFormation().getBlueShip() != null) {
+                renderList.add(getEnemyShipSpecialFormation().getBlueShip());
             }
         }
 
         // 3. added enemyship
         if (getEnemyShipFormationModel() != null) {
-            for (EnemyShip enemy : getEnemyShipFormationModel()) {
-                renderList.add(enemy);
+            List<List<EnemyShip>> columns = getEnemyShipFormationModel().getEnemyShips();
+            for (int i = 0; i < columns.size(); i++) {
+                List<EnemyShip> column = columns.get(i);
+                for (int j = 0; j < column.size(); j++) {
+                    renderList.add(column.get(j));
+                }
             }
         }
 
@@ -876,15 +1305,16 @@ public class GameModel {
             renderList.add(getFinalBoss());
         }
 
-        // 5. added items and bullets
-        if (getBullets() != null) {
-            renderList.addAll(getBullets());
-        }
-        if (getBossBullets() != null && getFinalBoss() != null && !getFinalBoss().isDestroyed()) {
-            renderList.addAll(getBossBullets());
+        // 5. added items and lasers; bullets are drawn straight from their stores
+        if (getBossLasers() != null && isBossBulletsVisible()) {
+            for (int i = 0; i < getBossLasers().size(); i++) {
+                renderList.add(getBossLasers().get(i));
+            }
         }
         if (getDropItems() != null) {
-            renderList.addAll(getDropItems());
+            for (int i = 0; i < getDropItems().size(); i++) {
+                renderList.add(getDropItems().get(i));
+            }
         }
 
         return renderList;
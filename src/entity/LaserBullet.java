@@ -1,46 +1,126 @@
 package entity;
 
 import engine.Cooldown;
+import engine.DrawManager.SpriteType;
+import entity.collision.CollisionLayer;
+import entity.collision.LineSegment;
 import java.awt.*;
 
-public class LaserBullet extends Bullet {
-	private Point targetPosition;
-	private Cooldown chargeCooldown;
-	private Cooldown remainCooldown;
-	private final int chargeCooldownMilli;
-	private final int remainCooldownMilli;
+public class LaserBullet extends Entity {
+	/** Half of the drawn beam length, from the target out in both directions. */
+	public static final int BEAM_HALF_LENGTH = 2000;
+	/** Half of the beam thickness used for hits. */
+	private static final double BEAM_HALF_WIDTH = 1.0;
+
+	private final Point targetPosition;
+	private final Cooldown chargeCooldown;
+	private final Cooldown remainCooldown;
+	/** True once charging has started. */
+	private boolean charging;
+	/** True once the laser has turned red and can hurt. */
+	private boolean active;
 	private boolean shouldBeRemoved =false;
+	/** Collision shape of the beam, fixed while the laser is fired. */
+	private final LineSegment beam;
 
 	public LaserBullet(Point startPosition, Point targetPosition, int chargeCooldownMilli, int remainCooldownMilli) {
-		super(startPosition.x, startPosition.y, 0, Color.green);
-		this.targetPosition=targetPosition;
-		this.chargeCooldownMilli=chargeCooldownMilli;
-		this.remainCooldownMilli=remainCooldownMilli;
+		super(startPosition.x, startPosition.y, BulletStore.BULLET_WIDTH, BulletStore.BULLET_HEIGHT, Color.green);
+		this.spriteType = SpriteType.EnemyBullet;
+		this.targetPosition = new Point();
+		this.chargeCooldown = new Cooldown(chargeCooldownMilli);
+		this.remainCooldown = new Cooldown(remainCooldownMilli);
+		this.beam = new LineSegment(0, 0, 0, 0, BEAM_HALF_LENGTH, BEAM_HALF_WIDTH);
+		fire(startPosition.x, startPosition.y, targetPosition.x, targetPosition.y,
+				chargeCooldownMilli, remainCooldownMilli);
+	}
+
+	/**
+	 * Aims the laser again, for lasers taken from a pool. It starts charging
+	 * on its next update, on the clock of the current level.
+	 *
+	 * @param startX
+	 *            X coordinate the beam is aimed from.
+	 * @param startY
+	 *            Y coordinate the beam is aimed from.
+	 * @param targetX
+	 *            X coordinate the beam passes through.
+	 * @param targetY
+	 *            Y coordinate the beam passes through.
+	 * @param chargeCooldownMilli
+	 *            Time before the laser turns red.
+	 * @param remainCooldownMilli
+	 *            Time the red laser stays on.
+	 */
+	public void fire(int startX, int startY, int targetX, int targetY, int chargeCooldownMilli, int remainCooldownMilli) {
+		this.positionX = startX;
+		this.positionY = startY;
+		this.targetPosition.setLocation(targetX, targetY);
+		this.chargeCooldown.rebind();
+		this.remainCooldown.rebind();
+		this.chargeCooldown.setMilliseconds(chargeCooldownMilli);
+		this.remainCooldown.setMilliseconds(remainCooldownMilli);
+		this.charging = false;
+		this.active = false;
+		this.shouldBeRemoved = false;
+		this.color = Color.green;
+		this.beam.set(targetX, targetY, startX, startY, BEAM_HALF_LENGTH, BEAM_HALF_WIDTH);
 	}
 
-	@Override
 	public void update(){
-		if(this.chargeCooldown==null){
-			this.chargeCooldown = new Cooldown(chargeCooldownMilli);
+		if(!this.charging){
 			chargeCooldown.reset();
+			this.charging = true;
 		}
 		if(this.chargeCooldown.checkFinished()){
 			color = Color.red;
-			if(this.remainCooldown==null){
-				this.remainCooldown = new Cooldown(remainCooldownMilli);
+			if(!this.active){
 				remainCooldown.reset();
+				this.active = true;
 			}
 		}
-		if(this.remainCooldown!=null && this.remainCooldown.checkFinished()){
+		if(this.active && this.remainCooldown.checkFinished()){
 			shouldBeRemoved =true;
 		}
 	}
 	public Point getTargetPosition() {
 		return targetPosition;
 	}
-	@Override
 	public boolean shouldBeRemoved() {
 		return shouldBeRemoved;
 	}
 
+	/**
+	 * Checks if the laser has finished charging and can hurt.
+	 *
+	 * @return True while the laser is red.
+	 */
+	public boolean isActive() {
+		return this.active;
+	}
+
+	/**
+	 * Checks if the beam crosses an entity. Only an active laser hits.
+	 *
+	 * @param bounds
+	 *            Entity to test.
+	 * @return True if the active beam crosses the entity.
+	 */
+	public boolean hits(final HasBounds bounds) {
+		return isActive() && this.beam.intersects(bounds);
+	}
+
+	/**
+	 * Lasers are tested by their beam, outside the grid, since their box
+	 * only covers the starting point.
+	 */
+	@Override
+	public CollisionLayer getCollisionLayer() {
+		return null;
+	}
+
+	@Override
+	public void onCollision(Collidable other, GameModel model) {
+		other.onHitByLaser(this, model);
+	}
+
 }
@@ -1,6 +1,7 @@
 package entity;
 
 import engine.Core;
+import entity.collision.CollisionLayer;
 
 import java.awt.*;
 import java.util.logging.Logger;
@@ -54,6 +55,11 @@ public abstract class MidBoss extends Entity implements BossEntity {
 		return this.isDestroyed;
 	}
 
+	@Override
+	public CollisionLayer getCollisionLayer() {
+		return CollisionLayer.BOSS;
+	}
+
 	@Override
 	public void onCollision(Collidable other, GameModel model) {
 		other.onCollideWithBoss(this, model);
@@ -7,6 +7,7 @@ import entity.pattern.BossPattern;
 import entity.pattern.DashPattern;
 import entity.pattern.DiagonalPattern;
 import entity.pattern.HorizontalPattern;
+import entity.pool.Pool;
 
 import java.awt.*;
 import java.util.logging.Logger;
@@ -41,8 +42,8 @@ public class OmegaBoss extends MidBoss {
 
 	/** Boss pattern instance for delegating movement logic */
 	private BossPattern bossPattern;
-	/** Player reference for pattern targeting */
-	private Ship targetShip;
+	/** Handle of the player ship for pattern targeting */
+	private int targetShip;
 	/** Current boss phase */
 	private int bossPhase = 1;
 	/** Logger instance */
@@ -51,19 +52,26 @@ public class OmegaBoss extends MidBoss {
 	private Cooldown dashCooldown;
 	/** Flag to track if currently in dash cooldown */
 	private boolean isInDashCooldown = false;
+	/** Dash patterns, reused across dash cycles */
+	private final Pool<DashPattern> dashPatterns;
+	/** Diagonal patterns, reused across dash cooldowns */
+	private final Pool<DiagonalPattern> diagonalPatterns;
 
 	/**
 	 * Constructor, establishes the boss entity's generic properties.
 	 *
 	 * @param color             Color of the boss entity.
-	 * @param player           The player ship to target
+	 * @param player           Handle of the player ship to target
 	 */
-	public OmegaBoss(Color color, Ship player) {
+	public OmegaBoss(Color color, int player) {
 		super(INIT_POS_X, INIT_POS_Y, OMEGA_WIDTH, OMEGA_HEIGHT, OMEGA_HEALTH, OMEGA_POINT_VALUE, color);
 		this.targetShip = player;
 		this.spriteType = DrawManager.SpriteType.OmegaBoss1;
 		this.logger = Core.getLogger();
 		this.dashCooldown = new Cooldown(DASH_COOLDOWN_MS);
+		this.dashPatterns = new Pool<DashPattern>(() -> new DashPattern(this, this.targetShip), null, 1);
+		this.diagonalPatterns = new Pool<DiagonalPattern>(
+				() -> new DiagonalPattern(this, PATTERN_2_X_SPEED, PATTERN_2_Y_SPEED, PATTERN_2_COLOR), null, 1);
 
 		this.logger.info("OMEGA : Initializing Boss OMEGA");
 		choosePattern();
@@ -102,7 +110,7 @@ public class OmegaBoss extends MidBoss {
 		}
 		else if (this.healPoint <= this.maxHp / 2 && this.healPoint > this.maxHp / 3 && this.bossPhase == 2) {
 			++this.bossPhase;
-			bossPattern = new DiagonalPattern(this, PATTERN_2_X_SPEED, PATTERN_2_Y_SPEED, PATTERN_2_COLOR);
+			startDiagonalPattern();
 			logger.info("OMEGA : move using diagonal pattern");
 		}
 		else if (this.healPoint <= this.maxHp / 3 && this.bossPhase == 3) {
@@ -139,7 +147,11 @@ public class OmegaBoss extends MidBoss {
 	 * Start a new dash pattern
 	 */
 	private void startDashPattern() {
-		bossPattern = new DashPattern(this, targetShip);
+		releasePattern();
+		DashPattern dashPattern = dashPatterns.acquire();
+		dashPattern.setTarget(targetShip);
+		dashPattern.restart();
+		bossPattern = dashPattern;
 		isInDashCooldown = false;
 		logger.info("OMEGA : Starting dash attack");
 	}
@@ -148,12 +160,34 @@ public class OmegaBoss extends MidBoss {
 	 * Start dash cooldown with diagonal movement
 	 */
 	private void startDashCooldown() {
-		bossPattern = new DiagonalPattern(this, PATTERN_2_X_SPEED, PATTERN_2_Y_SPEED, PATTERN_2_COLOR);
+		startDiagonalPattern();
 		isInDashCooldown = true;
 		dashCooldown.reset();
 		logger.info("OMEGA : Dash cooldown started (5 seconds)");
 	}
 
+	/**
+	 * Switches to a diagonal pattern taken from the pool
+	 */
+	private void startDiagonalPattern() {
+		releasePattern();
+		DiagonalPattern diagonalPattern = diagonalPatterns.acquire();
+		diagonalPattern.restart();
+		bossPattern = diagonalPattern;
+	}
+
+	/**
+	 * Returns the current pattern to its pool, if it came from one
+	 */
+	private void releasePattern() {
+		if (bossPattern instanceof DashPattern) {
+			dashPatterns.release((DashPattern) bossPattern);
+		}
+		else if (bossPattern instanceof DiagonalPattern) {
+			diagonalPatterns.release((DiagonalPattern) bossPattern);
+		}
+	}
+
 	/** move simple */
 	@Override
 	public void move(int distanceX, int distanceY) {
@@ -230,8 +264,10 @@ public class OmegaBoss extends MidBoss {
 
 	/**
 	 * Update target ship for pattern
+	 *
+	 * @param target Handle of the ship, from the {@link EntityRegistry}
 	 */
-	public void setTarget(Ship target) {
+	public void setTarget(int target) {
 		this.targetShip = target;
 		if (bossPattern != null) {
 			bossPattern.setTarget(target);
@@ -0,0 +1,149 @@
+package entity;
+
+import engine.level.ItemDrop;
+import engine.level.Level;
+import entity.pattern.BasicBackgroundPattern;
+import entity.pattern.PinnedBossPattern;
+import entity.pattern.TimeGapAttackPattern;
+import entity.pattern.ZigZagAngryPattern;
+import entity.pattern.ZigZagPattern;
+import entity.pool.Pools;
+
+/**
+ * Estimates how many short-lived entities a level keeps alive at once, so
+ * pools and bullet stores can be filled before play starts.
+ * <p>
+ * Every estimate is the number of objects created during the time one of
+ * them stays on screen, at the fastest rate the level allows, plus one.
+ * The final boss goes through its patterns one after the other, so its
+ * estimates are those of its most demanding pattern.
+ * </p>
+ */
+public final class PrewarmPlan {
+
+	/** Red and blue bonus ships. */
+	private static final int SPECIAL_SHIPS = 2;
+	/** Number of player ships. */
+	private static final int PLAYERS = 2;
+
+	/** Player and enemy bullets. */
+	private final int bullets;
+	/** Bullets fired by bosses. */
+	private final int bossBullets;
+	/** Lasers fired by bosses. */
+	private final int lasers;
+	/** Dropped items. */
+	private final int items;
+
+	/**
+	 * Constructor, keeps the estimates.
+	 */
+	private PrewarmPlan(final int bullets, final int bossBullets, final int lasers, final int items) {
+		this.bullets = bullets;
+		this.bossBullets = bossBullets;
+		this.lasers = lasers;
+		this.items = items;
+	}
+
+	/**
+	 * Estimates the needs of a level, from its formation, shooting frequency,
+	 * item drops and boss, and from the player's multi-shot and rapid-fire
+	 * upgrades.
+	 *
+	 * @param level
+	 *            Level about to be played.
+	 * @param fieldHeight
+	 *            Height of the play field, in pixels.
+	 * @return Estimated number of objects of each kind.
+	 */
+	public static PrewarmPlan forLevel(final Level level, final int fieldHeight) {
+		int frameMillis = 1000 / GameConstant.FPS;
+
+		int playerFlightMillis = fieldHeight / -Ship.BULLET_SPEED * frameMillis;
+		int playerShots = playerFlightMillis / Math.max(1, ShopItem.getShootingInterval()) + 1;
+		int playerBullets = PLAYERS * playerShots * ShopItem.getMultiShotBulletCount();
+
+		int enemyFlightMillis = fieldHeight / FormationShootingManager.BULLET_SPEED * frameMillis;
+		int shortestInterval = (int) (level.getShootingFrecuency()
+				* (1 - FormationShootingManager.SHOOTING_VARIANCE));
+		int enemyBullets = enemyFlightMillis / Math.max(1, shortestInterval) + 1;
+
+		int enemies = level.getFormationWidth() * level.getFormationHeight();
+		double dropChance = 0;
+		if (level.getItemDrops() != null) {
+			for (ItemDrop drop : level.getItemDrops())
+				dropChance = Math.max(dropChance, drop.getDropChance());
+		}
+		int items = (int) Math.ceil(enemies * dropChance);
+
+		String bossId = level.getBossId();
+		boolean finalBoss = "finalBoss".equals(bossId) || "omegaAndFinal".equals(bossId);
+
+		return new PrewarmPlan(playerBullets + enemyBullets,
+				finalBoss ? finalBossBullets(fieldHeight, frameMillis) : 0,
+				finalBoss ? finalBossLasers() : 0,
+				items);
+	}
+
+	/**
+	 * Estimates the final boss' bullets on screen at once. The pinned and
+	 * zigzag patterns fire their volleys over the background rain, the
+	 * angry pattern fires alone.
+	 */
+	private static int finalBossBullets(final int fieldHeight, final int frameMillis) {
+		int background = inFlight(fieldHeight, BasicBackgroundPattern.BULLET_SPEED,
+				BasicBackgroundPattern.SHOOT_INTERVAL, frameMillis);
+		int pinned = background + PinnedBossPattern.VOLLEY * inFlight(fieldHeight,
+				PinnedBossPattern.BULLET_SPEED, PinnedBossPattern.SHOOT_INTERVAL, frameMillis);
+		int zigZag = background + PinnedBossPattern.VOLLEY * inFlight(fieldHeight,
+				PinnedBossPattern.BULLET_SPEED, ZigZagPattern.SHOOT_INTERVAL, frameMillis);
+		int angry = ZigZagAngryPattern.VOLLEY * inFlight(fieldHeight,
+				ZigZagAngryPattern.BULLET_SPEED, ZigZagAngryPattern.SHOOT_INTERVAL, frameMillis);
+		return Math.max(Math.max(pinned, zigZag), angry);
+	}
+
+	/**
+	 * Estimates the final boss' lasers alive at once, each one charging and
+	 * then staying while the next ones are fired.
+	 */
+	private static int finalBossLasers() {
+		return (TimeGapAttackPattern.CHARGE_TIME + TimeGapAttackPattern.REMAIN_TIME)
+				/ TimeGapAttackPattern.SHOOT_INTERVAL + 1;
+	}
+
+	/**
+	 * Number of shots fired at a given interval while one of them crosses
+	 * the field at a given speed, plus one.
+	 */
+	private static int inFlight(final int fieldHeight, final int speed, final int interval,
+								final int frameMillis) {
+		return fieldHeight / speed * frameMillis / interval + 1;
+	}
+
+	/**
+	 * Fills the shared pools and grows the bullet stores to the estimates.
+	 *
+	 * @param bulletStore
+	 *            Store of player and enemy bullets.
+	 * @param bossBulletStore
+	 *            Store of boss bullets.
+	 */
+	public void apply(final BulletStore bulletStore, final BulletStore bossBulletStore) {
+		bulletStore.reserve(this.bullets);
+		bossBulletStore.reserve(this.bossBullets);
+		Pools.ITEMS.prewarm(this.items);
+		Pools.LASERS.prewarm(this.lasers);
+		Pools.SPECIAL_SHIPS.prewarm(SPECIAL_SHIPS);
+	}
+
+	public int getBullets() { return this.bullets; }
+	public int getBossBullets() { return this.bossBullets; }
+	public int getLasers() { return this.lasers; }
+	public int getItems() { return this.items; }
+
+	@Override
+	public String toString() {
+		return "bullets=" + this.bullets + " bossBullets=" + this.bossBullets
+				+ " lasers=" + this.lasers + " items=" + this.items;
+	}
+}
@@ -1,13 +1,12 @@
 package entity;
 
-import audio.SoundManager;
 import engine.Cooldown;
 import engine.DrawManager.SpriteType;
+import entity.collision.CollisionLayer;
 import entity.pattern.ISkill;
 
 import java.awt.*;
 import java.util.HashMap;
-import java.util.Set;
 
 /**
  * Implements a ship, to be controlled by the player.
@@ -21,7 +20,7 @@ public class Ship extends Entity implements Collidable {
 	/** Time between shots. */
 	private static final int SHOOTING_INTERVAL = 750;
 	/** Speed of the bullets shot by the ship. */
-	private static final int BULLET_SPEED = -6;
+	static final int BULLET_SPEED = -6;
 	/** Movement of the ship for each unit of time. */
 	private static final int SPEED = 2;
 
@@ -86,8 +85,6 @@ public class Ship extends Entity implements Collidable {
 	 */
 	public final void destroy() {
         if (!this.isInvincible) {
-			SoundManager.stop("sfx/impact.wav");
-            SoundManager.play("sfx/impact.wav");
             this.destructionCooldown.reset();
         }
     }
@@ -96,10 +93,10 @@ public class Ship extends Entity implements Collidable {
 	 * Shoots a bullet upwards.
 	 *
 	 * @param bullets
-	 *            List of bullets on screen, to add the new bullet.
+	 *            Bullets on screen, to add the new bullet.
 	 * @return Checks if the bullet was shot correctly.
 	 */
-	public final boolean shoot(final Set<Bullet> bullets) {
+	public final boolean shoot(final BulletStore bullets) {
 		if (this.shootingCooldown.checkFinished()) {
 			this.shootingCooldown.reset();
 
@@ -112,26 +109,16 @@ public class Ship extends Entity implements Collidable {
 
 			if (bulletCount == 1) {
 				// Normal shot (when Spread Shot is not purchased)
-				Bullet b = BulletPool.getBullet(centerX, centerY, BULLET_SPEED);
-				SoundManager.stop("sfx/laser.wav");
-				SoundManager.play("sfx/laser.wav");
-				b.setOwnerId(this.playerId);  // === [ADD] Ownership flag: 1 = P1, 2 = P2, null for legacy logic ===
-
-				bullets.add(b);
+				int b = bullets.add(centerX, centerY, BULLET_SPEED);
+				bullets.setOwner(b, getHandle());  // Ownership: handle of the shooting ship
 			} else {
 				// Fire Spread Shot
 				int startOffset = -(bulletCount / 2) * spacing;
 
 				for (int i = 0; i < bulletCount; i++) {
 					int offsetX = startOffset + (i * spacing);
-					Bullet b = BulletPool.getBullet(centerX + offsetX, centerY, BULLET_SPEED);
-					b.setOwnerId(this.playerId);   // Ownership flag
-
-					bullets.add(b);
-
-					// might consider putting a different sound
-					SoundManager.stop("sfx/laser.wav");
-					SoundManager.play("sfx/laser.wav");
+					int b = bullets.add(centerX + offsetX, centerY, BULLET_SPEED);
+					bullets.setOwner(b, getHandle());   // Ownership flag
 				}
 			}
 			return true;
@@ -235,6 +222,11 @@ public class Ship extends Entity implements Collidable {
 	public void setPlayerId(int pid) { this.playerId = pid; }
 	public int getPlayerId() { return this.playerId; }
 
+	@Override
+	public CollisionLayer getCollisionLayer() {
+		return CollisionLayer.PLAYER;
+	}
+
 	@Override
 	public void onCollision(Collidable other, GameModel model) {
 		if (model.isLevelFinished()) return;
@@ -250,13 +242,20 @@ public class Ship extends Entity implements Collidable {
 	}
 
 	@Override
-	public void onHitByBossBullet(BossBullet b, GameModel model) {
-		if (!this.isInvincible()) {
+	public void onHitByBossBullet(Bullet b, GameModel model) {
+		if (!this.isInvincible() && !this.isDestroyed()) {
 			model.requestShipDamage(this, 1);
 		}
 		model.requestRemoveBossBullet(b);
 	}
 
+	@Override
+	public void onHitByLaser(LaserBullet laser, GameModel model) {
+		if (!this.isInvincible()) {
+			model.requestShipDamage(this, 1);
+		}
+	}
+
 	@Override
 	public void onCollideWithEnemyShip(EnemyShip enemy, GameModel model) {
 		model.requestPlayerCrash(this, enemy);
@@ -0,0 +1,65 @@
+package entity.collision;
+
+import java.util.List;
+
+import entity.Entity;
+
+/**
+ * Broadphase that hands out every interacting pair. Only worth it for very
+ * few entities, and as a reference for the other engines.
+ */
+public final class BruteForceEngine implements CollisionEngine {
+
+	/** Layer ordinal of each entity, or -1 if it does not collide. */
+	private int[] layer = new int[64];
+	/** Interaction mask of each entity's layer. */
+	private int[] mask = new int[64];
+	/** Candidates found by the last query. */
+	private int[] candidates = new int[64];
+	/** Number of entities. */
+	private int size;
+	/** Pair tests handed out since the last reset. */
+	private long pairTests;
+
+	@Override
+	public void build(final List<? extends Entity> entities) {
+		this.size = entities.size();
+		if (this.layer.length < this.size) {
+			this.layer = new int[Math.max(this.size, this.layer.length * 2)];
+			this.mask = new int[this.layer.length];
+			this.candidates = new int[this.layer.length];
+		}
+		for (int i = 0; i < this.size; i++) {
+			CollisionLayer collisionLayer = entities.get(i).getCollisionLayer();
+			this.layer[i] = collisionLayer == null ? -1 : collisionLayer.ordinal();
+			this.mask[i] = collisionLayer == null ? 0 : collisionLayer.getMask();
+		}
+	}
+
+	@Override
+	public int queryCandidates(final int index) {
+		if (this.layer[index] < 0)
+			return 0;
+		int count = 0;
+		for (int j = index + 1; j < this.size; j++)
+			if (this.layer[j] >= 0 && (this.mask[index] & (1 << this.layer[j])) != 0)
+				this.candidates[count++] = j;
+		this.pairTests += count;
+		return count;
+	}
+
+	@Override
+	public int getCandidate(final int k) {
+		return this.candidates[k];
+	}
+
+	@Override
+	public long getPairTests() {
+		return this.pairTests;
+	}
+
+	@Override
+	public void resetPairTests() {
+		this.pairTests = 0;
+	}
+}
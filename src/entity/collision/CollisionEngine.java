@@ -0,0 +1,90 @@
+package entity.collision;
+
+import java.util.List;
+
+import entity.Entity;
+
+/**
+ * Broadphase of the collision pass.
+ * <p>
+ * An engine is rebuilt from the entity list every tick and then queried for
+ * each entity in list order. A query only returns entities that come later
+ * in the list and whose layer interacts with the queried one, in ascending
+ * order, so every implementation reports colliding pairs in the same order
+ * as the nested {@code i < j} loop.
+ * </p>
+ */
+public interface CollisionEngine {
+
+	/**
+	 * Available broadphase implementations.
+	 */
+	enum Type {
+		/** Tests every interacting pair. */
+		BRUTE_FORCE,
+		/** Buckets entities into a uniform grid. */
+		GRID,
+		/** Keeps entities sorted along the x-axis between ticks. */
+		SWEEP_AND_PRUNE;
+
+		/**
+		 * Creates an engine of this type.
+		 *
+		 * @param width
+		 *            Width of the play field, in pixels.
+		 * @param height
+		 *            Height of the play field, in pixels.
+		 * @return New engine.
+		 */
+		public CollisionEngine create(final int width, final int height) {
+			switch (this) {
+				case BRUTE_FORCE:
+					return new BruteForceEngine();
+				case SWEEP_AND_PRUNE:
+					return new SweepAndPruneEngine();
+				default:
+					return new UniformGrid(width, height);
+			}
+		}
+	}
+
+	/**
+	 * Prepares the engine for this tick's entities.
+	 *
+	 * @param entities
+	 *            Entities to test this tick. Indices into this list are used
+	 *            by {@link #queryCandidates(int)}.
+	 */
+	void build(List<? extends Entity> entities);
+
+	/**
+	 * Collects the entities that may collide with the given one, come after
+	 * it in the list and belong to a layer it interacts with.
+	 *
+	 * @param index
+	 *            Index of the queried entity.
+	 * @return Number of candidates, readable through {@link #getCandidate(int)}.
+	 */
+	int queryCandidates(int index);
+
+	/**
+	 * Getter for a candidate of the last query.
+	 *
+	 * @param k
+	 *            Position in the candidate list.
+	 * @return Index of the candidate entity.
+	 */
+	int getCandidate(int k);
+
+	/**
+	 * Getter for the number of pair tests handed out since the last reset.
+	 *
+	 * @return Pair tests.
+	 */
+	long getPairTests();
+
+	/**
+	 * Resets the pair test counter.
+	 */
+	void resetPairTests();
+}
@@ -0,0 +1,71 @@
+package entity.collision;
+
+/**
+ * Collision categories of the game entities.
+ * <p>
+ * The static interaction matrix lists the category pairs that have a
+ * collision handler. Every other pair (enemy against enemy, bullet against
+ * bullet, item against enemy, ...) only reaches no-op default methods of
+ * {@link entity.Collidable}, so the collision pass never tests it.
+ * </p>
+ */
+public enum CollisionLayer {
+	/** Player ships. */
+	PLAYER,
+	/** Bullets shot by the players. */
+	PLAYER_BULLET,
+	/** Formation and special enemy ships. */
+	ENEMY,
+	/** Bullets shot by enemy ships. */
+	ENEMY_BULLET,
+	/** Middle and final bosses. */
+	BOSS,
+	/** Bullets and lasers fired by bosses. Lasers are tested by their beam. */
+	BOSS_BULLET,
+	/** Items dropped by enemies. */
+	ITEM;
+
+	/** Number of layers. */
+	public static final int COUNT = values().length;
+
+	/** Bit mask of the layers each layer interacts with, by ordinal. */
+	private static final int[] MASKS = new int[COUNT];
+
+	static {
+		link(PLAYER, ENEMY);
+		link(PLAYER, ENEMY_BULLET);
+		link(PLAYER, BOSS);
+		link(PLAYER, BOSS_BULLET);
+		link(PLAYER, ITEM);
+		link(PLAYER_BULLET, ENEMY);
+		link(PLAYER_BULLET, BOSS);
+	}
+
+	/**
+	 * Marks two layers as interacting, in both directions.
+	 */
+	private static void link(final CollisionLayer a, final CollisionLayer b) {
+		MASKS[a.ordinal()] |= 1 << b.ordinal();
+		MASKS[b.ordinal()] |= 1 << a.ordinal();
+	}
+
+	/**
+	 * Getter for the layers this layer interacts with.
+	 *
+	 * @return Bit mask indexed by layer ordinal.
+	 */
+	public int getMask() {
+		return MASKS[ordinal()];
+	}
+
+	/**
+	 * Checks if entities of the two layers can affect each other.
+	 *
+	 * @param other
+	 *            Layer of the other entity.
+	 * @return True if the pair has a collision handler.
+	 */
+	public boolean interactsWith(final CollisionLayer other) {
+		return (MASKS[ordinal()] & (1 << other.ordinal())) != 0;
+	}
+}
@@ -0,0 +1,188 @@
+package entity.collision;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import engine.DrawManager.SpriteType;
+import entity.HasBounds;
+
+/**
+ * Bit-packed collision shape of a sprite, at the size it is drawn on screen.
+ * <p>
+ * Each row of the mask is stored as {@code long} words, one bit per screen
+ * pixel, so testing two overlapping rows costs a shift and an AND per 64
+ * pixels. Masks are built once per sprite when the {@link engine.SpriteAtlas}
+ * is loaded and looked up by sprite type during the collision pass.
+ * </p>
+ */
+public final class CollisionMask {
+
+	/** Screen pixels per sprite pixel, as drawn by the entity renderer. */
+	public static final int SCALE = 2;
+
+	/** Masks of the loaded sprites. */
+	private static final Map<SpriteType, CollisionMask> MASKS = new EnumMap<>(SpriteType.class);
+
+	/** Width of the mask, in screen pixels. */
+	private final int width;
+	/** Height of the mask, in screen pixels. */
+	private final int height;
+	/** Number of words in one row. */
+	private final int words;
+	/** Rows of the mask, {@link #words} words each, lowest bit leftmost. */
+	private final long[] rows;
+
+	/**
+	 * Constructor, packs a sprite bitmap.
+	 *
+	 * @param sprite
+	 *            Sprite pixels, indexed [x][y].
+	 * @param scale
+	 *            Screen pixels per sprite pixel.
+	 */
+	private CollisionMask(final boolean[][] sprite, final int scale) {
+		this.width = sprite.length * scale;
+		this.height = sprite[0].length * scale;
+		this.words = (this.width + 63) >>> 6;
+		this.rows = new long[this.height * this.words];
+
+		for (int y = 0; y < this.height; y++)
+			for (int x = 0; x < this.width; x++)
+				if (sprite[x / scale][y / scale])
+					this.rows[y * this.words + (x >>> 6)] |= 1L << (x & 63);
+	}
+
+	/**
+	 * Builds the mask of a sprite.
+	 *
+	 * @param sprite
+	 *            Sprite pixels, indexed [x][y].
+	 * @param scale
+	 *            Screen pixels per sprite pixel.
+	 * @return Mask of the sprite, or null if the sprite has no solid pixel.
+	 */
+	public static CollisionMask fromSprite(final boolean[][] sprite, final int scale) {
+		if (sprite == null || sprite.length == 0 || sprite[0].length == 0)
+			return null;
+		for (boolean[] column : sprite)
+			for (boolean pixel : column)
+				if (pixel)
+					return new CollisionMask(sprite, scale);
+		// An empty sprite usually means it failed to load; keep the box.
+		return null;
+	}
+
+	/**
+	 * Builds and stores the mask of a loaded sprite.
+	 *
+	 * @param spriteType
+	 *            Sprite the mask belongs to.
+	 * @param sprite
+	 *            Sprite pixels, indexed [x][y].
+	 */
+	public static void register(final SpriteType spriteType, final boolean[][] sprite) {
+		CollisionMask mask = fromSprite(sprite, SCALE);
+		if (mask != null)
+			MASKS.put(spriteType, mask);
+		else
+			MASKS.remove(spriteType);
+	}
+
+	/**
+	 * Getter for the mask of a sprite.
+	 *
+	 * @param spriteType
+	 *            Sprite to look up.
+	 * @return Mask of the sprite, or null if it has none.
+	 */
+	public static CollisionMask forSprite(final SpriteType spriteType) {
+		return spriteType == null ? null : MASKS.get(spriteType);
+	}
+
+	/**
+	 * Getter for the width of the mask.
+	 *
+	 * @return Width in screen pixels.
+	 */
+	public int getWidth() {
+		return this.width;
+	}
+
+	/**
+	 * Getter for the height of the mask.
+	 *
+	 * @return Height in screen pixels.
+	 */
+	public int getHeight() {
+		return this.height;
+	}
+
+	/**
+	 * Checks a single pixel of the mask.
+	 *
+	 * @param x
+	 *            Column, in screen pixels from the left of the mask.
+	 * @param y
+	 *            Row, in screen pixels from the top of the mask.
+	 * @return True if the pixel is solid.
+	 */
+	public boolean isSolid(final int x, final int y) {
+		return (this.rows[y * this.words + (x >>> 6)] & (1L << (x & 63))) != 0;
+	}
+
+	/**
+	 * Reads 64 pixels of a row.
+	 *
+	 * @param y
+	 *            Row to read.
+	 * @param from
+	 *            First column to read, not negative.
+	 * @return Pixels {@code from} to {@code from + 63}, lowest bit first.
+	 */
+	private long bits(final int y, final int from) {
+		int word = from >>> 6;
+		int shift = from & 63;
+		int base = y * this.words;
+		long bits = word < this.words ? this.rows[base + word] >>> shift : 0L;
+		if (shift != 0 && word + 1 < this.words)
+			bits |= this.rows[base + word + 1] << (64 - shift);
+		return bits;
+	}
+
+	/**
+	 * Checks if two shapes share a solid pixel. An entity without a mask is
+	 * treated as a solid box.
+	 *
+	 * @param a
+	 *            Bounds of the first entity.
+	 * @param maskA
+	 *            Mask of the first entity, sized to its bounds, or null.
+	 * @param b
+	 *            Bounds of the second entity.
+	 * @param maskB
+	 *            Mask of the second entity, sized to its bounds, or null.
+	 * @return True if a solid pixel of one lies on a solid pixel of the other.
+	 */
+	public static boolean overlap(final HasBounds a, final CollisionMask maskA,
+			final HasBounds b, final CollisionMask maskB) {
+		int ax = a.getPositionX();
+		int ay = a.getPositionY();
+		int bx = b.getPositionX();
+		int by = b.getPositionY();
+		int left = Math.max(ax, bx);
+		int right = Math.min(ax + a.getWidth(), bx + b.getWidth());
+		int top = Math.max(ay, by);
+		int bottom = Math.min(ay + a.getHeight(), by + b.getHeight());
+
+		for (int y = top; y < bottom; y++)
+			for (int x = left; x < right; x += 64) {
+				int length = Math.min(64, right - x);
+				long span = length == 64 ? -1L : (1L << length) - 1;
+				long bitsA = maskA == null ? span : maskA.bits(y - ay, x - ax) & span;
+				long bitsB = maskB == null ? span : maskB.bits(y - by, x - bx) & span;
+				if ((bitsA & bitsB) != 0)
+					return true;
+			}
+		return false;
+	}
+}
@@ -0,0 +1,85 @@
+package entity.collision;
+
+import entity.Entity;
+import entity.HasBounds;
+
+/**
+ * Narrowphase collision tests shared by the collision pass and the
+ * formation-aware queries.
+ */
+public final class Collisions {
+
+	/**
+	 * Not instantiable.
+	 */
+	private Collisions() {
+	}
+
+	/**
+	 * Checks if two entities are colliding. The bounding boxes are tested
+	 * first; entities with a sprite mask are then checked pixel by pixel.
+	 *
+	 * @param a
+	 *            First entity.
+	 * @param b
+	 *            Second entity.
+	 * @return Result of the collision test.
+	 */
+	public static boolean collide(final HasBounds a, final HasBounds b) {
+		return overlaps(a, b) && masksOverlap(a, b);
+	}
+
+	/**
+	 * Checks the sprite masks of two entities whose boxes already overlap.
+	 *
+	 * @param a
+	 *            First entity.
+	 * @param b
+	 *            Second entity.
+	 * @return True if neither has a mask, or if the masks share a pixel.
+	 */
+	public static boolean masksOverlap(final HasBounds a, final HasBounds b) {
+		CollisionMask maskA = maskOf(a);
+		CollisionMask maskB = maskOf(b);
+		if (maskA == null && maskB == null)
+			return true;
+		return CollisionMask.overlap(a, maskA, b, maskB);
+	}
+
+	/**
+	 * Checks if the bounding boxes of two entities are colliding.
+	 *
+	 * @param a
+	 *            First entity.
+	 * @param b
+	 *            Second entity.
+	 * @return Result of the collision test.
+	 */
+	public static boolean overlaps(final HasBounds a, final HasBounds b) {
+		// Calculate center point of the entities in both axis.
+		int centerAX = a.getPositionX() + a.getWidth() / 2;
+		int centerAY = a.getPositionY() + a.getHeight() / 2;
+		int centerBX = b.getPositionX() + b.getWidth() / 2;
+		int centerBY = b.getPositionY() + b.getHeight() / 2;
+		// Calculate maximum distance without collision.
+		int maxDistanceX = a.getWidth() / 2 + b.getWidth() / 2;
+		int maxDistanceY = a.getHeight() / 2 + b.getHeight() / 2;
+		// Calculates distance.
+		int distanceX = Math.abs(centerAX - centerBX);
+		int distanceY = Math.abs(centerAY - centerBY);
+
+		return distanceX < maxDistanceX && distanceY < maxDistanceY;
+	}
+
+	/**
+	 * Finds the mask of an entity's current sprite, if it matches its size.
+	 */
+	private static CollisionMask maskOf(final HasBounds bounds) {
+		if (!(bounds instanceof Entity))
+			return null;
+		CollisionMask mask = CollisionMask.forSprite(((Entity) bounds).getSpriteType());
+		if (mask == null || mask.getWidth() != bounds.getWidth() || mask.getHeight() != bounds.getHeight())
+			return null;
+		return mask;
+	}
+}
@@ -0,0 +1,91 @@
+package entity.collision;
+
+import java.util.Arrays;
+
+/**
+ * Contacts found by the collision pass, waiting to be resolved.
+ * <p>
+ * Each contact is stored as the two entity indices, in the order their
+ * handlers must run; the handlers themselves pick the reaction from the
+ * entities' types, so nothing else is kept per contact. The buffer
+ * is made of plain {@code int} arrays that only grow, so detecting contacts
+ * does not allocate once the buffer has seen its peak contact count.
+ * </p>
+ */
+public final class ContactBuffer {
+
+	/** Initial number of contacts the buffer can hold. */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/** Index of the first entity of each contact. */
+	private int[] first;
+	/** Index of the second entity of each contact. */
+	private int[] second;
+	/** Number of contacts in the buffer. */
+	private int size;
+
+	/**
+	 * Constructor, preallocates the buffer.
+	 */
+	public ContactBuffer() {
+		this.first = new int[INITIAL_CAPACITY];
+		this.second = new int[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Records a contact.
+	 *
+	 * @param firstIndex
+	 *            Index of the entity whose handler runs first.
+	 * @param secondIndex
+	 *            Index of the other entity.
+	 */
+	public void add(final int firstIndex, final int secondIndex) {
+		if (this.size == this.first.length) {
+			int length = this.size * 2;
+			this.first = Arrays.copyOf(this.first, length);
+			this.second = Arrays.copyOf(this.second, length);
+		}
+		this.first[this.size] = firstIndex;
+		this.second[this.size] = secondIndex;
+		this.size++;
+	}
+
+	/**
+	 * Removes all contacts, keeping the storage.
+	 */
+	public void clear() {
+		this.size = 0;
+	}
+
+	/**
+	 * Getter for the number of contacts.
+	 *
+	 * @return Number of contacts in the buffer.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Getter for the first entity of a contact.
+	 *
+	 * @param k
+	 *            Position of the contact.
+	 * @return Index of the entity whose handler runs first.
+	 */
+	public int getFirst(final int k) {
+		return this.first[k];
+	}
+
+	/**
+	 * Getter for the second entity of a contact.
+	 *
+	 * @param k
+	 *            Position of the contact.
+	 * @return Index of the other entity.
+	 */
+	public int getSecond(final int k) {
+		return this.second[k];
+	}
+}
@@ -0,0 +1,113 @@
+package entity.collision;
+
+import entity.HasBounds;
+
+/**
+ * Thick line segment collision shape, for beams that are much longer than
+ * their bounding box.
+ * <p>
+ * The direction and normal are normalized once when the shape is set, so
+ * each test against a bounding box is a constant number of multiplications:
+ * the segment and the box are projected on the two box axes and on the two
+ * segment axes, and they collide unless one of those projections separates
+ * them.
+ * </p>
+ */
+public final class LineSegment {
+
+	/** X coordinate of the middle of the segment. */
+	private double centerX;
+	/** Y coordinate of the middle of the segment. */
+	private double centerY;
+	/** X component of the unit direction. */
+	private double directionX;
+	/** Y component of the unit direction. */
+	private double directionY;
+	/** Half of the segment length. */
+	private double halfLength;
+	/** Half of the segment thickness. */
+	private double halfWidth;
+	/** False if the direction could not be computed. */
+	private boolean valid;
+
+	/**
+	 * Constructor, builds a segment centred on a point and aimed at another.
+	 *
+	 * @param centerX
+	 *            X coordinate of the middle of the segment.
+	 * @param centerY
+	 *            Y coordinate of the middle of the segment.
+	 * @param towardsX
+	 *            X coordinate of a point the segment passes through.
+	 * @param towardsY
+	 *            Y coordinate of a point the segment passes through.
+	 * @param halfLength
+	 *            Half of the segment length.
+	 * @param halfWidth
+	 *            Half of the segment thickness.
+	 */
+	public LineSegment(final double centerX, final double centerY, final double towardsX,
+			final double towardsY, final double halfLength, final double halfWidth) {
+		set(centerX, centerY, towardsX, towardsY, halfLength, halfWidth);
+	}
+
+	/**
+	 * Moves the segment, so a pooled beam can reuse its shape.
+	 *
+	 * @param centerX
+	 *            X coordinate of the middle of the segment.
+	 * @param centerY
+	 *            Y coordinate of the middle of the segment.
+	 * @param towardsX
+	 *            X coordinate of a point the segment passes through.
+	 * @param towardsY
+	 *            Y coordinate of a point the segment passes through.
+	 * @param halfLength
+	 *            Half of the segment length.
+	 * @param halfWidth
+	 *            Half of the segment thickness.
+	 */
+	public void set(final double centerX, final double centerY, final double towardsX,
+			final double towardsY, final double halfLength, final double halfWidth) {
+		double dx = towardsX - centerX;
+		double dy = towardsY - centerY;
+		double length = Math.sqrt(dx * dx + dy * dy);
+
+		this.centerX = centerX;
+		this.centerY = centerY;
+		this.valid = length > 0;
+		this.directionX = this.valid ? dx / length : 0;
+		this.directionY = this.valid ? dy / length : 0;
+		this.halfLength = halfLength;
+		this.halfWidth = halfWidth;
+	}
+
+	/**
+	 * Checks if the segment crosses a bounding box.
+	 *
+	 * @param bounds
+	 *            Box to test.
+	 * @return True if the segment and the box overlap. A segment without a
+	 *         direction never does.
+	 */
+	public boolean intersects(final HasBounds bounds) {
+		if (!this.valid)
+			return false;
+		double boxHalfX = bounds.getWidth() / 2.0;
+		double boxHalfY = bounds.getHeight() / 2.0;
+		double dx = bounds.getPositionX() + boxHalfX - this.centerX;
+		double dy = bounds.getPositionY() + boxHalfY - this.centerY;
+		double ux = Math.abs(this.directionX);
+		double uy = Math.abs(this.directionY);
+
+		// Box axes.
+		if (Math.abs(dx) > boxHalfX + ux * this.halfLength + uy * this.halfWidth)
+			return false;
+		if (Math.abs(dy) > boxHalfY + uy * this.halfLength + ux * this.halfWidth)
+			return false;
+		// Segment axes: along the beam, then across it.
+		if (Math.abs(dx * this.directionX + dy * this.directionY) > this.halfLength + boxHalfX * ux + boxHalfY * uy)
+			return false;
+		return Math.abs(dy * this.directionX - dx * this.directionY) <= this.halfWidth + boxHalfX * uy + boxHalfY * ux;
+	}
+}
@@ -0,0 +1,181 @@
+package entity.collision;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+import engine.Core;
+import entity.HasBounds;
+
+/**
+ * Bounding boxes of the collision pass packed into flat {@code int} arrays,
+ * for testing one entity against many candidates at once.
+ * <p>
+ * Boxes are stored as centre and half size, by list index, so the box test
+ * is exactly the centre-distance test of {@link Collisions#overlaps}. This
+ * class is the scalar implementation; {@link #create()} returns the SIMD one
+ * when the {@code jdk.incubator.vector} module is loaded. The SIMD class is
+ * kept in the separate {@code vector} source set and is only built and put
+ * on the class path by launches run with {@code -Pvector}.
+ * </p>
+ */
+public class PackedBounds {
+
+	/** Name of the module the SIMD implementation needs. */
+	private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+	/** Centre of each box on the x-axis. */
+	protected int[] centerX = new int[64];
+	/** Centre of each box on the y-axis. */
+	protected int[] centerY = new int[64];
+	/** Half width of each box. */
+	protected int[] halfWidth = new int[64];
+	/** Half height of each box. */
+	protected int[] halfHeight = new int[64];
+
+	/**
+	 * Constructor, use {@link #create()} to get the fastest implementation.
+	 */
+	protected PackedBounds() {
+	}
+
+	/**
+	 * Creates the SIMD implementation if the vector module is loaded, the
+	 * scalar one otherwise.
+	 *
+	 * @return Packed bounds.
+	 */
+	public static PackedBounds create() {
+		if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+			try {
+				// Loaded by name so this class never links against the module.
+				return (PackedBounds) Class.forName("entity.collision.VectorPackedBounds")
+						.getDeclaredConstructor().newInstance();
+			} catch (ReflectiveOperationException | LinkageError e) {
+				Logger logger = Core.getLogger();
+				logger.warning("Vector narrowphase unavailable, using scalar: " + e);
+			}
+		}
+		return new PackedBounds();
+	}
+
+	/**
+	 * Checks if this implementation uses SIMD instructions.
+	 *
+	 * @return True for the vector implementation.
+	 */
+	public boolean isVectorized() {
+		return false;
+	}
+
+	/**
+	 * Packs the boxes of this tick's entities.
+	 *
+	 * @param entities
+	 *            Entities of the collision pass, by list index.
+	 */
+	public void pack(final List<? extends HasBounds> entities) {
+		int size = entities.size();
+		if (this.centerX.length < size) {
+			int length = Math.max(size, this.centerX.length * 2);
+			this.centerX = new int[length];
+			this.centerY = new int[length];
+			this.halfWidth = new int[length];
+			this.halfHeight = new int[length];
+		}
+		for (int i = 0; i < size; i++) {
+			HasBounds e = entities.get(i);
+			this.halfWidth[i] = e.getWidth() / 2;
+			this.halfHeight[i] = e.getHeight() / 2;
+			this.centerX[i] = e.getPositionX() + this.halfWidth[i];
+			this.centerY[i] = e.getPositionY() + this.halfHeight[i];
+		}
+	}
+
+	/**
+	 * Keeps the candidates whose box overlaps the box of the probe, in order.
+	 *
+	 * @param probe
+	 *            List index of the tested entity.
+	 * @param candidates
+	 *            List indices to test against the probe.
+	 * @param count
+	 *            Number of candidates.
+	 * @param hits
+	 *            Receives the overlapping candidates; may be the candidate
+	 *            array itself.
+	 * @return Number of overlapping candidates.
+	 */
+	public int filter(final int probe, final int[] candidates, final int count, final int[] hits) {
+		return filterScalar(probe, candidates, 0, count, hits, 0);
+	}
+
+	/**
+	 * Keeps the boxes of a run of unpacked entities, given by their upper
+	 * left corner and size, that overlap the box of the probe, in order.
+	 * Used for entities stored as arrays, like bullets, which are tested
+	 * against the probe in one wide batch instead of through the grid.
+	 *
+	 * @param probe
+	 *            List index of the tested entity.
+	 * @param x
+	 *            Position in the x-axis of each box.
+	 * @param y
+	 *            Position in the y-axis of each box.
+	 * @param width
+	 *            Width of each box.
+	 * @param height
+	 *            Height of each box.
+	 * @param count
+	 *            Number of boxes, from the start of the arrays.
+	 * @param hits
+	 *            Receives the positions of the overlapping boxes.
+	 * @return Number of overlapping boxes.
+	 */
+	public int filterBoxes(final int probe, final int[] x, final int[] y, final int[] width,
+			final int[] height, final int count, final int[] hits) {
+		return filterBoxesScalar(probe, x, y, width, height, 0, count, hits, 0);
+	}
+
+	/**
+	 * Scalar box test of a range of unpacked boxes.
+	 *
+	 * @return Number of hits written, starting at {@code written}.
+	 */
+	protected final int filterBoxesScalar(final int probe, final int[] x, final int[] y,
+			final int[] width, final int[] height, final int from, final int to, final int[] hits,
+			final int written) {
+		int px = this.centerX[probe];
+		int py = this.centerY[probe];
+		int pw = this.halfWidth[probe];
+		int ph = this.halfHeight[probe];
+		int n = written;
+		for (int k = from; k < to; k++) {
+			int hw = width[k] / 2;
+			int hh = height[k] / 2;
+			if (Math.abs(px - x[k] - hw) < pw + hw && Math.abs(py - y[k] - hh) < ph + hh)
+				hits[n++] = k;
+		}
+		return n;
+	}
+
+	/**
+	 * Scalar box test of a range of candidates.
+	 *
+	 * @return Number of hits written, starting at {@code written}.
+	 */
+	protected final int filterScalar(final int probe, final int[] candidates, final int from,
+			final int to, final int[] hits, final int written) {
+		int px = this.centerX[probe];
+		int py = this.centerY[probe];
+		int pw = this.halfWidth[probe];
+		int ph = this.halfHeight[probe];
+		int n = written;
+		for (int k = from; k < to; k++) {
+			int j = candidates[k];
+			if (Math.abs(px - this.centerX[j]) < pw + this.halfWidth[j]
+					&& Math.abs(py - this.centerY[j]) < ph + this.halfHeight[j])
+				hits[n++] = j;
+		}
+		return n;
+	}
+}
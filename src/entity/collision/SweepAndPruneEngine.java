@@ -0,0 +1,218 @@
+package entity.collision;
+
+import java.util.Arrays;
+import java.util.List;
+
+import entity.Entity;
+
+/**
+ * Sort-and-sweep broadphase along the x-axis.
+ * <p>
+ * Colliding entities are kept in a list sorted by their left edge, which is
+ * carried over from one tick to the next. Entities only move a few pixels per
+ * tick, so the list is almost sorted already and an insertion sort restores
+ * it in close to linear time. A sweep over the sorted list then pairs every
+ * entity with the following ones until their left edge passes its right
+ * edge, keeping the pairs whose layers interact and whose rows overlap.
+ * </p>
+ * <p>
+ * Entities are matched to their place in the previous order through
+ * {@link Entity#getCollisionIndex()}, so no lookup table is needed.
+ * </p>
+ */
+public final class SweepAndPruneEngine implements CollisionEngine {
+
+	/** Colliding entities, sorted by left edge. */
+	private Entity[] order = new Entity[64];
+	/** List index of each entity of {@link #order}. */
+	private int[] orderIndex = new int[64];
+	/** Number of entities in {@link #order}. */
+	private int orderSize;
+
+	/** Left edge of each entity, by list index. */
+	private int[] minX = new int[64];
+	/** Right edge of each entity, exclusive. */
+	private int[] maxX = new int[64];
+	/** Top edge of each entity. */
+	private int[] minY = new int[64];
+	/** Bottom edge of each entity, exclusive. */
+	private int[] maxY = new int[64];
+	/** Layer ordinal of each entity, or -1 if it does not collide. */
+	private int[] layer = new int[64];
+	/** Interaction mask of each entity's layer. */
+	private int[] mask = new int[64];
+	/** True for the entities already carried over from the last order. */
+	private boolean[] placed = new boolean[64];
+
+	/** Lower list index of each pair found by the sweep. */
+	private int[] pairFirst = new int[64];
+	/** Higher list index of each pair found by the sweep. */
+	private int[] pairSecond = new int[64];
+	/** Number of pairs found by the sweep. */
+	private int pairs;
+	/** First candidate of each entity in {@link #candidates}, plus an end marker. */
+	private int[] candidateStart = new int[65];
+	/** Write cursor of each entity while the candidates are grouped. */
+	private int[] cursor = new int[64];
+	/** Candidates of all entities, grouped by queried entity. */
+	private int[] candidates = new int[64];
+	/** First candidate of the last query. */
+	private int queryStart;
+	/** Pair tests handed out since the last reset. */
+	private long pairTests;
+
+	@Override
+	public void build(final List<? extends Entity> entities) {
+		int size = entities.size();
+		ensureCapacity(size);
+
+		for (int i = 0; i < size; i++) {
+			Entity e = entities.get(i);
+			e.setCollisionIndex(i);
+			CollisionLayer collisionLayer = e.getCollisionLayer();
+			this.layer[i] = collisionLayer == null ? -1 : collisionLayer.ordinal();
+			this.mask[i] = collisionLayer == null ? 0 : collisionLayer.getMask();
+			this.minX[i] = e.getPositionX();
+			this.maxX[i] = e.getPositionX() + Math.max(1, e.getWidth());
+			this.minY[i] = e.getPositionY();
+			this.maxY[i] = e.getPositionY() + Math.max(1, e.getHeight());
+			this.placed[i] = false;
+		}
+
+		// Keep last tick's order for the entities still here.
+		int kept = 0;
+		for (int k = 0; k < this.orderSize; k++) {
+			Entity e = this.order[k];
+			int index = e.getCollisionIndex();
+			if (index >= 0 && index < size && entities.get(index) == e
+					&& this.layer[index] >= 0 && !this.placed[index]) {
+				this.placed[index] = true;
+				this.order[kept] = e;
+				this.orderIndex[kept] = index;
+				kept++;
+			}
+		}
+		for (int i = 0; i < size; i++) {
+			if (this.layer[i] >= 0 && !this.placed[i]) {
+				this.order[kept] = entities.get(i);
+				this.orderIndex[kept] = i;
+				kept++;
+			}
+		}
+		if (kept < this.orderSize)
+			Arrays.fill(this.order, kept, this.orderSize, null);
+		this.orderSize = kept;
+
+		insertionSort();
+		sweep();
+		groupPairs(size);
+	}
+
+	/**
+	 * Sorts the order by left edge. Nearly linear when little has moved.
+	 */
+	private void insertionSort() {
+		for (int k = 1; k < this.orderSize; k++) {
+			Entity e = this.order[k];
+			int index = this.orderIndex[k];
+			int key = this.minX[index];
+			int m = k - 1;
+			while (m >= 0 && this.minX[this.orderIndex[m]] > key) {
+				this.order[m + 1] = this.order[m];
+				this.orderIndex[m + 1] = this.orderIndex[m];
+				m--;
+			}
+			this.order[m + 1] = e;
+			this.orderIndex[m + 1] = index;
+		}
+	}
+
+	/**
+	 * Pairs every entity with the following ones that start before it ends.
+	 */
+	private void sweep() {
+		this.pairs = 0;
+		for (int p = 0; p < this.orderSize; p++) {
+			int i = this.orderIndex[p];
+			for (int q = p + 1; q < this.orderSize; q++) {
+				int j = this.orderIndex[q];
+				if (this.minX[j] >= this.maxX[i])
+					break;
+				if ((this.mask[i] & (1 << this.layer[j])) == 0)
+					continue;
+				if (this.minY[j] >= this.maxY[i] || this.minY[i] >= this.maxY[j])
+					continue;
+				if (this.pairs == this.pairFirst.length) {
+					this.pairFirst = Arrays.copyOf(this.pairFirst, this.pairs * 2);
+					this.pairSecond = Arrays.copyOf(this.pairSecond, this.pairs * 2);
+				}
+				this.pairFirst[this.pairs] = Math.min(i, j);
+				this.pairSecond[this.pairs] = Math.max(i, j);
+				this.pairs++;
+			}
+		}
+	}
+
+	/**
+	 * Groups the pairs by their lower index, higher indices in ascending order.
+	 */
+	private void groupPairs(final int size) {
+		Arrays.fill(this.candidateStart, 0, size + 1, 0);
+		for (int k = 0; k < this.pairs; k++)
+			this.candidateStart[this.pairFirst[k] + 1]++;
+		for (int i = 0; i < size; i++)
+			this.candidateStart[i + 1] += this.candidateStart[i];
+
+		if (this.candidates.length < this.pairs)
+			this.candidates = new int[Math.max(this.pairs, this.candidates.length * 2)];
+		System.arraycopy(this.candidateStart, 0, this.cursor, 0, size);
+		for (int k = 0; k < this.pairs; k++)
+			this.candidates[this.cursor[this.pairFirst[k]]++] = this.pairSecond[k];
+		for (int i = 0; i < size; i++)
+			if (this.candidateStart[i + 1] - this.candidateStart[i] > 1)
+				Arrays.sort(this.candidates, this.candidateStart[i], this.candidateStart[i + 1]);
+	}
+
+	@Override
+	public int queryCandidates(final int index) {
+		this.queryStart = this.candidateStart[index];
+		int count = this.candidateStart[index + 1] - this.queryStart;
+		this.pairTests += count;
+		return count;
+	}
+
+	@Override
+	public int getCandidate(final int k) {
+		return this.candidates[this.queryStart + k];
+	}
+
+	@Override
+	public long getPairTests() {
+		return this.pairTests;
+	}
+
+	@Override
+	public void resetPairTests() {
+		this.pairTests = 0;
+	}
+
+	/**
+	 * Grows the per-entity buffers so they can hold the given entity count.
+	 */
+	private void ensureCapacity(final int capacity) {
+		if (this.layer.length >= capacity)
+			return;
+		int length = Math.max(capacity, this.layer.length * 2);
+		this.order = Arrays.copyOf(this.order, length);
+		this.orderIndex = Arrays.copyOf(this.orderIndex, length);
+		this.minX = new int[length];
+		this.maxX = new int[length];
+		this.minY = new int[length];
+		this.maxY = new int[length];
+		this.layer = new int[length];
+		this.mask = new int[length];
+		this.placed = new boolean[length];
+		this.candidateStart = new int[length + 1];
+		this.cursor = new int[length];
+	}
+}
@@ -0,0 +1,255 @@
+package entity.collision;
+
+import java.util.Arrays;
+import java.util.List;
+
+import entity.Entity;
+
+/**
+ * Uniform-grid broadphase for the collision pass.
+ * <p>
+ * The play field is cut into square cells. Every entity is registered in all
+ * cells its bounding box touches, so two entities can only overlap if they
+ * share at least one cell. Candidates for an entity are therefore taken from
+ * its own cells only, instead of from the whole entity list.
+ * </p>
+ * <p>
+ * Each cell keeps one bucket per {@link CollisionLayer}, and a query only
+ * reads the buckets of layers the queried entity interacts with. Pairs that
+ * have no collision handler are never handed out, and a layer is skipped
+ * entirely once no entity of it comes later in the list.
+ * </p>
+ * <p>
+ * Candidates are always returned as indices greater than the queried index,
+ * in ascending order. Walking the list with {@link #queryCandidates(int)}
+ * visits colliding pairs in exactly the same order as the nested
+ * {@code i < j} loop it replaces.
+ * </p>
+ * <p>
+ * All buffers are plain {@code int} arrays that only grow, so a rebuild does
+ * not allocate once the grid has seen its peak entity count.
+ * </p>
+ */
+public final class UniformGrid implements CollisionEngine {
+
+	/** Edge length of one cell, in pixels. Close to the size of a ship. */
+	public static final int CELL_SIZE = 32;
+	/** Interaction mask of each layer, by ordinal. */
+	private static final int[] MASKS = new int[CollisionLayer.COUNT];
+
+	static {
+		for (CollisionLayer l : CollisionLayer.values())
+			MASKS[l.ordinal()] = l.getMask();
+	}
+
+	/** Number of cell columns. */
+	private final int columns;
+	/** Number of cell rows. */
+	private final int rows;
+	/** Number of cells in one layer. */
+	private final int cells;
+
+	/** First entry of each layer bucket of each cell, plus an end marker. */
+	private final int[] cellStart;
+	/** Write cursor of each bucket while the grid is being filled. */
+	private final int[] cellCursor;
+	/** Entity indices, grouped by layer and cell. */
+	private int[] cellEntries;
+	/** Highest entity index of each layer, or -1 if the layer is empty. */
+	private final int[] lastIndexOfLayer;
+
+	/** First cell column covered by each entity. */
+	private int[] minColumn;
+	/** Last cell column covered by each entity. */
+	private int[] maxColumn;
+	/** First cell row covered by each entity. */
+	private int[] minRow;
+	/** Last cell row covered by each entity. */
+	private int[] maxRow;
+	/** Layer ordinal of each entity, or -1 if it does not collide. */
+	private int[] layer;
+	/** Last query each entity was collected by, to skip duplicates. */
+	private int[] visitStamp;
+	/** Current query number. */
+	private int queryStamp;
+
+	/** Candidates found by the last query. */
+	private int[] candidates;
+	/** Number of entities in the grid. */
+	private int size;
+	/** Pair tests handed out since the last reset. */
+	private long pairTests;
+
+	/**
+	 * Constructor, sizes the grid to cover the play field.
+	 *
+	 * @param width
+	 *            Width of the play field, in pixels.
+	 * @param height
+	 *            Height of the play field, in pixels.
+	 */
+	public UniformGrid(final int width, final int height) {
+		this.columns = Math.max(1, (width + CELL_SIZE - 1) / CELL_SIZE);
+		this.rows = Math.max(1, (height + CELL_SIZE - 1) / CELL_SIZE);
+		this.cells = this.columns * this.rows;
+		this.cellStart = new int[CollisionLayer.COUNT * this.cells + 1];
+		this.cellCursor = new int[CollisionLayer.COUNT * this.cells];
+		this.cellEntries = new int[64];
+		this.lastIndexOfLayer = new int[CollisionLayer.COUNT];
+		ensureCapacity(64);
+	}
+
+	/**
+	 * Registers every entity of the list in the cells it touches, under its
+	 * collision layer. Entities outside the play field are clamped into the
+	 * border cells; entities without a layer are left out.
+	 *
+	 * @param entities
+	 *            Entities to test this tick. Indices into this list are used
+	 *            by {@link #queryCandidates(int)}.
+	 */
+	@Override
+	public void build(final List<? extends Entity> entities) {
+		this.size = entities.size();
+		ensureCapacity(this.size);
+		Arrays.fill(this.cellStart, 0);
+		Arrays.fill(this.lastIndexOfLayer, -1);
+
+		int entries = 0;
+		for (int i = 0; i < this.size; i++) {
+			Entity e = entities.get(i);
+			CollisionLayer collisionLayer = e.getCollisionLayer();
+			this.visitStamp[i] = 0;
+			if (collisionLayer == null) {
+				this.layer[i] = -1;
+				continue;
+			}
+			this.layer[i] = collisionLayer.ordinal();
+			this.lastIndexOfLayer[this.layer[i]] = i;
+
+			int x = e.getPositionX();
+			int y = e.getPositionY();
+			this.minColumn[i] = clamp(Math.floorDiv(x, CELL_SIZE), this.columns);
+			this.maxColumn[i] = clamp(Math.floorDiv(x + Math.max(1, e.getWidth()) - 1, CELL_SIZE), this.columns);
+			this.minRow[i] = clamp(Math.floorDiv(y, CELL_SIZE), this.rows);
+			this.maxRow[i] = clamp(Math.floorDiv(y + Math.max(1, e.getHeight()) - 1, CELL_SIZE), this.rows);
+
+			int base = this.layer[i] * this.cells;
+			for (int r = this.minRow[i]; r <= this.maxRow[i]; r++)
+				for (int c = this.minColumn[i]; c <= this.maxColumn[i]; c++) {
+					this.cellStart[base + r * this.columns + c + 1]++;
+					entries++;
+				}
+		}
+
+		for (int cell = 0; cell < this.cellCursor.length; cell++) {
+			this.cellStart[cell + 1] += this.cellStart[cell];
+			this.cellCursor[cell] = this.cellStart[cell];
+		}
+
+		if (this.cellEntries.length < entries)
+			this.cellEntries = new int[Math.max(entries, this.cellEntries.length * 2)];
+
+		for (int i = 0; i < this.size; i++) {
+			if (this.layer[i] < 0)
+				continue;
+			int base = this.layer[i] * this.cells;
+			for (int r = this.minRow[i]; r <= this.maxRow[i]; r++)
+				for (int c = this.minColumn[i]; c <= this.maxColumn[i]; c++)
+					this.cellEntries[this.cellCursor[base + r * this.columns + c]++] = i;
+		}
+
+		this.queryStamp = 0;
+	}
+
+	/**
+	 * Collects the entities that share a cell with the given one, come after
+	 * it in the list and belong to a layer it interacts with.
+	 *
+	 * @param index
+	 *            Index of the queried entity.
+	 * @return Number of candidates, readable through {@link #getCandidate(int)}.
+	 */
+	@Override
+	public int queryCandidates(final int index) {
+		if (this.layer[index] < 0)
+			return 0;
+		int stamp = ++this.queryStamp;
+		int count = 0;
+		int mask = MASKS[this.layer[index]];
+
+		for (int l = 0; l < CollisionLayer.COUNT; l++) {
+			if ((mask & (1 << l)) == 0 || this.lastIndexOfLayer[l] <= index)
+				continue;
+			int base = l * this.cells;
+			for (int r = this.minRow[index]; r <= this.maxRow[index]; r++)
+				for (int c = this.minColumn[index]; c <= this.maxColumn[index]; c++) {
+					int cell = base + r * this.columns + c;
+					for (int k = this.cellStart[cell]; k < this.cellStart[cell + 1]; k++) {
+						int other = this.cellEntries[k];
+						if (other > index && this.visitStamp[other] != stamp) {
+							this.visitStamp[other] = stamp;
+							this.candidates[count++] = other;
+						}
+					}
+				}
+		}
+
+		Arrays.sort(this.candidates, 0, count);
+		this.pairTests += count;
+		return count;
+	}
+
+	/**
+	 * Getter for a candidate of the last query.
+	 *
+	 * @param k
+	 *            Position in the candidate list.
+	 * @return Index of the candidate entity.
+	 */
+	@Override
+	public int getCandidate(final int k) {
+		return this.candidates[k];
+	}
+
+	/**
+	 * Getter for the number of pair tests handed out since the last reset.
+	 *
+	 * @return Pair tests.
+	 */
+	@Override
+	public long getPairTests() {
+		return this.pairTests;
+	}
+
+	/**
+	 * Resets the pair test counter.
+	 */
+	@Override
+	public void resetPairTests() {
+		this.pairTests = 0;
+	}
+
+	/**
+	 * Grows the per-entity buffers so they can hold the given entity count.
+	 */
+	private void ensureCapacity(final int capacity) {
+		if (this.candidates != null && this.candidates.length >= capacity)
+			return;
+		int length = Math.max(capacity, this.candidates == null ? 0 : this.candidates.length * 2);
+		this.minColumn = new int[length];
+		this.maxColumn = new int[length];
+		this.minRow = new int[length];
+		this.maxRow = new int[length];
+		this.layer = new int[length];
+		this.visitStamp = new int[length];
+		this.candidates = new int[length];
+	}
+
+	/**
+	 * Clamps a cell coordinate into the grid.
+	 */
+	private static int clamp(final int cell, final int cells) {
+		return cell < 0 ? 0 : (cell >= cells ? cells - 1 : cell);
+	}
+}
@@ -1,12 +1,16 @@
 package entity.pattern;
 
 import engine.Cooldown;
-import entity.BossBullet;
 
 import java.awt.*;
 
 public class BasicBackgroundPattern extends BossPattern {
 
+	/** Time between two bullets, in milliseconds. */
+	public static final int SHOOT_INTERVAL = 400;
+	/** Speed of the bullets, in pixels per update. */
+	public static final int BULLET_SPEED = 2;
+
 	protected Cooldown shootCooldown;
 
 	protected final int screenWidth;
@@ -14,8 +18,7 @@ public class BasicBackgroundPattern extends BossPattern {
 	public BasicBackgroundPattern(int screenWidth) {
 		super(new Point(0,0));
 		this.screenWidth = screenWidth;
-		int shootCooldownMilli = 400;
-		this.shootCooldown = new Cooldown(shootCooldownMilli);
+		this.shootCooldown = new Cooldown(SHOOT_INTERVAL);
 	}
 
 	@Override
@@ -23,8 +26,7 @@ public class BasicBackgroundPattern extends BossPattern {
 		if (this.shootCooldown.checkFinished()) {
 			this.shootCooldown.reset();
 			int randomX = (int) (Math.random() * screenWidth);
-			BossBullet bullet = new BossBullet(randomX, 1, 0, 2,6,10, Color.yellow);
-			bullets.add(bullet);
+			bullets.addBossBullet(randomX, 1, 0, BULLET_SPEED,6,10, Color.yellow);
 		}
 	}
 
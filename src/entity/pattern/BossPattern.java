@@ -1,35 +1,54 @@
 package entity.pattern;
 
 import engine.Cooldown;
-import entity.Bullet;
-import entity.HasBounds;
+import entity.BulletStore;
+import entity.LaserBullet;
 
 import java.awt.*;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 public abstract class BossPattern implements IBossPattern {
 	protected Point bossPosition;
 	protected Point velocity;
 	protected Point acceleration;
 	protected Cooldown shootCooldown;
-	protected Set<Bullet> bullets;
+	/** Bullets fired since the game last collected them. */
+	protected final BulletStore bullets;
+	/** Lasers fired since the game last collected them. */
+	protected final List<LaserBullet> lasers;
 
 	public BossPattern(Point position) {
 		this.bossPosition = position;
-		this.bullets = new HashSet<Bullet>();
+		this.bullets = new BulletStore(16);
+		this.lasers = new ArrayList<LaserBullet>();
 	}
 
 	public void setCooldown(Cooldown cooldown) { this.shootCooldown=cooldown; }
 	public Point getBossPosition() { return this.bossPosition; }
-	public Set<Bullet> getBullets(){
-		if (this.bullets.isEmpty()) {
-			return java.util.Collections.emptySet();
-		}
-		Set<Bullet> returnBullets = this.bullets;
-		this.bullets = new HashSet<Bullet>();
-		return returnBullets;
+
+	/**
+	 * Hands the bullets fired since the last call over to the game.
+	 *
+	 * @param target
+	 *            Store receiving the bullets.
+	 */
+	public void moveBulletsTo(BulletStore target) {
+		this.bullets.moveTo(target);
+	}
+
+	/**
+	 * Hands the lasers fired since the last call over to the game.
+	 *
+	 * @param target
+	 *            Collection receiving the lasers.
+	 */
+	public void moveLasersTo(Collection<LaserBullet> target) {
+		if (this.lasers.isEmpty()) return;
+		target.addAll(this.lasers);
+		this.lasers.clear();
 	}
 
-	public void setTarget(HasBounds target) { /* Default: do nothing */ }
+	public void setTarget(int target) { /* Default: do nothing */ }
 }
@@ -1,6 +1,8 @@
 package entity.pattern;
 
 import engine.Core;
+import engine.GameClock;
+import entity.EntityRegistry;
 import entity.GameConstant;
 import entity.HasBounds;
 
@@ -12,7 +14,8 @@ public class DashPattern extends BossPattern {
     protected Logger logger;
     private boolean isDashing = false;
     private boolean isShowingPath = false;
-    private HasBounds target;
+    /** Handle of the ship to dash at. */
+    private int target;
     private HasBounds boss;
     private double dashDirectionX;
     private double dashDirectionY;
@@ -21,19 +24,27 @@ public class DashPattern extends BossPattern {
     private static final int DASH_SPEED = 10;
     private boolean dashSkillInitialized = false;
 
-    public DashPattern(HasBounds boss, HasBounds target) {
+    public DashPattern(HasBounds boss, int target) {
         super(new Point(boss.getPositionX(), boss.getPositionY()));
         this.target = target;
         this.boss = boss;
         this.logger = Core.getLogger();
 
         // Initialize when pattern starts
-        if (!dashSkillInitialized) {
-            isShowingPath = true;
-            pathShowStartTime = System.currentTimeMillis();
-            dashSkillInitialized = true;
-            logger.info("OMEGA : Dash skill initiated");
-        }
+        restart();
+        logger.info("OMEGA : Dash skill initiated");
+    }
+
+    /**
+     * Starts the dash over from the boss' current position, so the pattern
+     * can be reused for the next dash.
+     */
+    public void restart() {
+        this.bossPosition.setLocation(boss.getPositionX(), boss.getPositionY());
+        isDashing = false;
+        isShowingPath = true;
+        pathShowStartTime = GameClock.current().millis();
+        dashSkillInitialized = true;
     }
 
     @Override
@@ -46,9 +57,16 @@ public class DashPattern extends BossPattern {
 
         // Check time if showing path
         if (isShowingPath) {
-            long elapsedTime = System.currentTimeMillis() - pathShowStartTime;
+            long elapsedTime = GameClock.current().millis() - pathShowStartTime;
 
             if (elapsedTime >= PATH_SHOW_DURATION) {
+                HasBounds target = EntityRegistry.getInstance().get(this.target);
+                if (target == null) {
+                    logger.warning("OMEGA : Target gone, aborting dash");
+                    isShowingPath = false;
+                    return;
+                }
+
                 // Calculate dash direction after 2 seconds
                 int dx = target.getPositionX() - this.bossPosition.x;
                 int dy = target.getPositionY() - this.bossPosition.y;
@@ -116,7 +134,7 @@ public class DashPattern extends BossPattern {
     }
 
     @Override
-    public void setTarget(HasBounds target) {
+    public void setTarget(int target) {
         this.target = target;
     }
 
@@ -137,7 +155,8 @@ public class DashPattern extends BossPattern {
      * Calculate dash end point (for visualization)
      */
     public int[] getDashEndPoint(int bossWidth, int bossHeight) {
-        if (isShowingPath) {
+        HasBounds target = EntityRegistry.getInstance().get(this.target);
+        if (isShowingPath && target != null) {
             // Return player position when showing path
             return new int[]{
                     target.getPositionX() + target.getWidth() / 2,
@@ -39,6 +39,16 @@ public class DiagonalPattern extends BossPattern {
 
     }
 
+    /**
+     * Starts the pattern over from the boss' current position, so it can be
+     * reused after a dash.
+     */
+    public void restart() {
+        this.bossPosition.setLocation(bossBound.getPositionX(), bossBound.getPositionY());
+        this.isRight = true;
+        this.isDown = true;
+    }
+
     @Override
     public void move() {
         int dx = isRight ? horizontalSpeed : -horizontalSpeed;
@@ -74,12 +84,7 @@ public class DiagonalPattern extends BossPattern {
     }
 
     @Override
-    public Point getBossPosition() {
-        return new Point(this.bossPosition.x, this.bossPosition.y);
-    }
-
-    @Override
-    public void setTarget(HasBounds target) {
+    public void setTarget(int target) {
         // No target needed for this pattern
     }
 }
\ No newline at end of file
@@ -51,12 +51,7 @@ public class HorizontalPattern extends BossPattern {
     }
 
     @Override
-    public Point getBossPosition() {
-        return new Point(this.bossPosition.x, this.bossPosition.y);
-    }
-
-    @Override
-    public void setTarget(HasBounds target) {
+    public void setTarget(int target) {
         // No target needed for this pattern
     }
 }
\ No newline at end of file
@@ -1,12 +1,16 @@
 package entity.pattern;
 
-import entity.HasBounds;
-
 import java.awt.*;
 
 public interface IBossPattern {
 	void attack();
 	void move();
 	Point getBossPosition();
-	void setTarget(HasBounds target);
+	/**
+	 * Sets the entity the pattern aims at.
+	 *
+	 * @param target
+	 *            Handle of the target, from the {@link entity.EntityRegistry}.
+	 */
+	void setTarget(int target);
 }
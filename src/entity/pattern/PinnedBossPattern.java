@@ -1,15 +1,22 @@
 package entity.pattern;
 
 import engine.Cooldown;
-import entity.BossBullet;
-import entity.Bullet;
+import entity.BulletStore;
 import entity.HasBounds;
 
 import java.awt.*;
-import java.util.Set;
 
 public class PinnedBossPattern extends BossPattern {
 
+	/** Horizontal speeds of the bullets of one volley. */
+	private static final int[] SPREAD = {0, 1, -1, 2, -2};
+	/** Bullets of one volley. */
+	public static final int VOLLEY = SPREAD.length;
+	/** Time between two volleys, in milliseconds. */
+	public static final int SHOOT_INTERVAL = 5000;
+	/** Vertical speed of the bullets, in pixels per update. */
+	public static final int BULLET_SPEED = 4;
+
 	protected Cooldown shootCooldown;
 	protected HasBounds boss;
 
@@ -28,8 +35,7 @@ public class PinnedBossPattern extends BossPattern {
 		this.boss = boss;
 		this.screenWidth=screenWidth;
 		this.screenHeight=screenHeight;
-		int shootCooldownMilli = 5000;
-		this.shootCooldown= new Cooldown(shootCooldownMilli);
+		this.shootCooldown= new Cooldown(SHOOT_INTERVAL);
 		backGroundPattern = new BasicBackgroundPattern(screenWidth);
 	}
 
@@ -38,10 +44,8 @@ public class PinnedBossPattern extends BossPattern {
 		backGroundPattern.attack();
 		if(this.shootCooldown.checkFinished()){
 			this.shootCooldown.reset();
-			int[] arr = {0,1,-1,2,-2};
-			for (int i : arr){
-				BossBullet bullet = new BossBullet(this.boss.getPositionX() + this.boss.getWidth()/ 2, this.boss.getPositionY() + boss.getHeight(),i,4,6,10,Color.yellow);
-				bullets.add(bullet);
+			for (int i : SPREAD){
+				bullets.addBossBullet(this.boss.getPositionX() + this.boss.getWidth()/ 2, this.boss.getPositionY() + boss.getHeight(),i,BULLET_SPEED,6,10,Color.yellow);
 			}
 		}
 	}
@@ -52,8 +56,8 @@ public class PinnedBossPattern extends BossPattern {
 	}
 
 	@Override
-	public Set<Bullet> getBullets(){
-		this.bullets.addAll(backGroundPattern.getBullets());
-		return bullets;
+	public void moveBulletsTo(BulletStore target){
+		backGroundPattern.moveBulletsTo(this.bullets);
+		super.moveBulletsTo(target);
 	}
 }
@@ -1,29 +1,34 @@
 package entity.pattern;
 
 import engine.Cooldown;
-import entity.Bullet;
+import entity.EntityRegistry;
 import entity.HasBounds;
 import entity.LaserBullet;
+import entity.pool.Pools;
 
 import java.awt.*;
 
 public class TimeGapAttackPattern extends BossPattern {
 
-	private final int shootCooldownMilli = 400;
-	private final int chargeCooldownMilli = 200;
-	private final int remainCooldownMilli = 1000;
+	/** Time between two lasers, in milliseconds. */
+	public static final int SHOOT_INTERVAL = 400;
+	/** Time a laser charges before it hits, in milliseconds. */
+	public static final int CHARGE_TIME = 200;
+	/** Time a laser stays once charged, in milliseconds. */
+	public static final int REMAIN_TIME = 1000;
 	private final int movingSmoothRatio = 10;
 	private Cooldown shootCooldown;
 	private HasBounds boss;
-	private HasBounds target;
-	private Point targetPosition;
-	private Bullet bullet;
+	/** Handle of the ship the lasers aim at. */
+	private int target;
+	private final Point targetPosition = new Point();
+	private LaserBullet bullet;
 	private boolean isUpdated=false;
 
 	private final int screenWidth;
 	private final int screenHeight;
 
-	public TimeGapAttackPattern(HasBounds boss, HasBounds target, int screenWidth, int screenHeight) {
+	public TimeGapAttackPattern(HasBounds boss, int target, int screenWidth, int screenHeight) {
 		super(new Point(boss.getPositionX(), boss.getPositionY()));
 		this.boss = boss;
 		this.target = target;
@@ -34,11 +39,14 @@ public class TimeGapAttackPattern extends BossPattern {
 	@Override
 	public void attack() {
 		if(this.shootCooldown==null){
-			this.shootCooldown = new Cooldown(shootCooldownMilli);
+			this.shootCooldown = new Cooldown(SHOOT_INTERVAL);
 			shootCooldown.reset();
 		}
 		if(!isUpdated){
-			this.targetPosition = new Point(target.getPositionX()+target.getWidth()/2,target.getPositionY()+target.getHeight()/2);
+			// A dead target keeps the lasers on its last position.
+			HasBounds target = EntityRegistry.getInstance().get(this.target);
+			if (target != null)
+				this.targetPosition.setLocation(target.getPositionX()+target.getWidth()/2,target.getPositionY()+target.getHeight()/2);
 			isUpdated=true;
 		}
 		if(this.shootCooldown.checkFinished()){
@@ -46,9 +54,8 @@ public class TimeGapAttackPattern extends BossPattern {
 			this.isUpdated=false;
 			int randomX = (int) (Math.random() * screenWidth);
 			int randomY = (int) (Math.random() * screenHeight);
-			Point initBulletPosition = new Point(randomX,randomY);
-			this.bullet = new LaserBullet(initBulletPosition, targetPosition, chargeCooldownMilli, remainCooldownMilli);
-			this.bullets.add(bullet);
+			this.bullet = Pools.laser(randomX, randomY, targetPosition.x, targetPosition.y, CHARGE_TIME, REMAIN_TIME);
+			this.lasers.add(bullet);
 		}
 	}
 
@@ -71,7 +78,7 @@ public class TimeGapAttackPattern extends BossPattern {
 	}
 
 	@Override
-	public void setTarget(HasBounds target){
+	public void setTarget(int target){
 		this.target = target;
 	}
 }
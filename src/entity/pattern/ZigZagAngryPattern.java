@@ -1,17 +1,22 @@
 package entity.pattern;
 
 import engine.Cooldown;
-import entity.BossBullet;
 import entity.HasBounds;
 
 import java.awt.*;
 
 public class ZigZagAngryPattern extends ZigZagPattern {
 
+	/** Bullets of one volley, one on each side of the boss. */
+	public static final int VOLLEY = 2;
+	/** Time between two volleys, in milliseconds. */
+	public static final int SHOOT_INTERVAL = 300;
+	/** Speed of the bullets, in pixels per update. */
+	public static final int BULLET_SPEED = 5;
+
 	public ZigZagAngryPattern(HasBounds boss, int screenWidth, int screenHeight) {
 		super(boss, screenWidth, screenHeight);
-		int shootCooldownMilli = 300;
-		shootCooldown = new Cooldown(shootCooldownMilli);
+		shootCooldown = new Cooldown(SHOOT_INTERVAL);
 	}
 
 	@Override
@@ -19,10 +24,8 @@ public class ZigZagAngryPattern extends ZigZagPattern {
 		if (this.shootCooldown.checkFinished()) {
 			this.shootCooldown.reset();
 //            if (!(this.getPositionX() == 0 || this.getPositionX() == 400)){
-			BossBullet bullet1 = new BossBullet(boss.getPositionX() + boss.getWidth() / 2 - 3 + 70, boss.getPositionY(), 0, 5,6,10, Color.blue);
-			BossBullet bullet2 = new BossBullet(boss.getPositionX() + boss.getWidth() / 2 - 3 - 70, boss.getPositionY(), 0, 5,6,10,Color.blue);
-			bullets.add(bullet1);
-			bullets.add(bullet2);
+			bullets.addBossBullet(boss.getPositionX() + boss.getWidth() / 2 - 3 + 70, boss.getPositionY(), 0, BULLET_SPEED,6,10, Color.blue);
+			bullets.addBossBullet(boss.getPositionX() + boss.getWidth() / 2 - 3 - 70, boss.getPositionY(), 0, BULLET_SPEED,6,10,Color.blue);
 //            }
 		}
 	}
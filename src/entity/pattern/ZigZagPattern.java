@@ -5,10 +5,12 @@ import entity.HasBounds;
 
 public class ZigZagPattern extends PinnedBossPattern {
 
+	/** Time between two volleys, in milliseconds. */
+	public static final int SHOOT_INTERVAL = 2000;
+
 	public ZigZagPattern(HasBounds boss, int screenWidth, int screenHeight) {
 		super(boss, screenWidth, screenHeight);
-		int shootCooldownMilli = 2000;
-		shootCooldown = new Cooldown(shootCooldownMilli);
+		shootCooldown = new Cooldown(SHOOT_INTERVAL);
 	}
 
 	@Override
@@ -0,0 +1,170 @@
+package entity.pool;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of recyclable objects.
+ * <p>
+ * Idle objects are kept on an array stack, so taking and returning one is a
+ * push or a pop. The reset hook runs on every returned object, before it is
+ * stored, so pooled objects never hold on to the state of their last use.
+ * </p>
+ * <p>
+ * The pool keeps at most {@code capacity} idle objects; anything returned
+ * past that is left to the garbage collector. {@link #trim()} additionally
+ * shrinks the idle stack down to what the highest demand since the last
+ * trim would need, so a short burst does not keep memory for good.
+ * </p>
+ *
+ * @param <T>
+ *            Type of the pooled objects.
+ */
+public final class Pool<T> {
+
+	/** Creates a new object when the pool is empty. */
+	private final Supplier<? extends T> factory;
+	/** Clears an object when it comes back to the pool. */
+	private final Consumer<? super T> reset;
+	/** Maximum number of idle objects kept. */
+	private final int capacity;
+
+	/** Idle objects, on top of the stack at {@code free[idle - 1]}. */
+	private Object[] free;
+	/** Number of idle objects. */
+	private int idle;
+	/** Objects handed out and not yet returned. */
+	private int inUse;
+	/** Highest number of objects in use since the last trim. */
+	private int highWaterMark;
+
+	/** Requests served from the idle stack. */
+	private long hits;
+	/** Requests that found the idle stack empty. */
+	private long misses;
+	/** Objects created by the factory, on demand or by prewarming. */
+	private long allocations;
+	/** Returned objects dropped because the pool was full. */
+	private long discards;
+
+	/**
+	 * Constructor, creates an empty pool.
+	 *
+	 * @param factory
+	 *            Creates an object when none is idle.
+	 * @param reset
+	 *            Clears an object when it is returned, or null if objects
+	 *            need no clearing.
+	 * @param capacity
+	 *            Maximum number of idle objects kept.
+	 */
+	public Pool(final Supplier<? extends T> factory, final Consumer<? super T> reset,
+				final int capacity) {
+		if (capacity < 0)
+			throw new IllegalArgumentException("Negative pool capacity: " + capacity);
+		this.factory = factory;
+		this.reset = reset;
+		this.capacity = capacity;
+		this.free = new Object[Math.min(capacity, 16)];
+	}
+
+	/**
+	 * Takes an idle object, or creates one if there is none.
+	 *
+	 * @return Object ready to be set up by the caller.
+	 */
+	@SuppressWarnings("unchecked")
+	public T acquire() {
+		T object;
+		if (this.idle > 0) {
+			object = (T) this.free[--this.idle];
+			this.free[this.idle] = null;
+			this.hits++;
+		} else {
+			object = this.factory.get();
+			this.misses++;
+			this.allocations++;
+		}
+		if (++this.inUse > this.highWaterMark)
+			this.highWaterMark = this.inUse;
+		return object;
+	}
+
+	/**
+	 * Creates idle objects until the given number is available, up to the
+	 * capacity, so the next requests are served without allocating.
+	 *
+	 * @param count
+	 *            Number of idle objects wanted.
+	 */
+	public void prewarm(final int count) {
+		int target = Math.min(count, this.capacity);
+		if (this.free.length < target)
+			this.free = Arrays.copyOf(this.free, target);
+		while (this.idle < target) {
+			this.free[this.idle++] = this.factory.get();
+			this.allocations++;
+		}
+	}
+
+	/**
+	 * Returns an object to the pool. The object must not be used by the
+	 * caller afterwards.
+	 *
+	 * @param object
+	 *            Object to recycle.
+	 */
+	public void release(final T object) {
+		if (this.inUse > 0)
+			this.inUse--;
+		if (this.reset != null)
+			this.reset.accept(object);
+		if (this.idle == this.capacity) {
+			this.discards++;
+			return;
+		}
+		if (this.idle == this.free.length)
+			this.free = Arrays.copyOf(this.free, Math.min(this.capacity, this.free.length * 2 + 1));
+		this.free[this.idle++] = object;
+	}
+
+	/**
+	 * Drops the idle objects the highest demand since the last trim would not
+	 * have needed, then starts a new measuring window.
+	 */
+	public void trim() {
+		int keep = Math.max(0, this.highWaterMark - this.inUse);
+		while (this.idle > keep)
+			this.free[--this.idle] = null;
+		if (this.free.length > 16 && this.idle < this.free.length / 4)
+			this.free = Arrays.copyOf(this.free, Math.max(16, this.idle * 2));
+		this.highWaterMark = this.inUse;
+	}
+
+	/**
+	 * Resets the hit, miss, allocation and discard counters.
+	 */
+	public void resetCounters() {
+		this.hits = 0;
+		this.misses = 0;
+		this.allocations = 0;
+		this.discards = 0;
+	}
+
+	public int getCapacity() { return this.capacity; }
+	public int getIdle() { return this.idle; }
+	public int getInUse() { return this.inUse; }
+	public int getHighWaterMark() { return this.highWaterMark; }
+	public long getHits() { return this.hits; }
+	public long getMisses() { return this.misses; }
+	public long getAllocations() { return this.allocations; }
+	public long getDiscards() { return this.discards; }
+
+	@Override
+	public String toString() {
+		return "idle=" + this.idle + " inUse=" + this.inUse + " highWater=" + this.highWaterMark
+				+ " hits=" + this.hits + " misses=" + this.misses
+				+ " allocations=" + this.allocations + " discards=" + this.discards;
+	}
+}
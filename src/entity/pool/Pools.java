@@ -0,0 +1,129 @@
+package entity.pool;
+
+import entity.DropItem;
+import entity.DropItem.ItemType;
+import entity.EnemyShip;
+import entity.LaserBullet;
+
+import java.awt.Point;
+
+/**
+ * Shared pools of the short-lived entities, with helpers that take an object
+ * and set it up like the matching constructor would.
+ */
+public final class Pools {
+
+	/** Items dropped by destroyed enemies. */
+	public static final Pool<DropItem> ITEMS = new Pool<DropItem>(
+			() -> new DropItem(0, 0, 0, ItemType.Heal), DropItem::clearRemovalMark, 256);
+	/** Lasers fired by the final boss. */
+	public static final Pool<LaserBullet> LASERS = new Pool<LaserBullet>(
+			() -> new LaserBullet(new Point(), new Point(), 0, 0), LaserBullet::clearRemovalMark, 32);
+	/** Red and blue bonus ships. */
+	public static final Pool<EnemyShip> SPECIAL_SHIPS = new Pool<EnemyShip>(
+			() -> new EnemyShip(EnemyShip.SpecialType.RED, EnemyShip.Direction.RIGHT, 0),
+			EnemyShip::clearRemovalMark, 4);
+
+	/**
+	 * Constructor, not called.
+	 */
+	private Pools() {
+
+	}
+
+	/**
+	 * Takes an item from the pool.
+	 *
+	 * @param positionX
+	 *            Requested position of the item center in the X axis.
+	 * @param positionY
+	 *            Requested position of the item in the Y axis.
+	 * @param speed
+	 *            Requested speed of the item, positive is down.
+	 * @param itemType
+	 *            Requested item type.
+	 * @param source
+	 *            Handle of the enemy dropping the item.
+	 * @return Requested item.
+	 */
+	public static DropItem item(final int positionX, final int positionY, final int speed,
+								final ItemType itemType, final int source) {
+		DropItem dropItem = ITEMS.acquire();
+		dropItem.setPositionX(positionX - dropItem.getWidth() / 2);
+		dropItem.setPositionY(positionY);
+		dropItem.setSpeed(speed);
+		dropItem.setItemType(itemType);
+		dropItem.setSource(source);
+		return dropItem;
+	}
+
+	/**
+	 * Takes a laser from the pool and aims it.
+	 *
+	 * @param startX
+	 *            X coordinate the beam is aimed from.
+	 * @param startY
+	 *            Y coordinate the beam is aimed from.
+	 * @param targetX
+	 *            X coordinate the beam passes through.
+	 * @param targetY
+	 *            Y coordinate the beam passes through.
+	 * @param chargeMilli
+	 *            Time before the laser turns red.
+	 * @param remainMilli
+	 *            Time the red laser stays on.
+	 * @return Requested laser.
+	 */
+	public static LaserBullet laser(final int startX, final int startY, final int targetX,
+									final int targetY, final int chargeMilli, final int remainMilli) {
+		LaserBullet laser = LASERS.acquire();
+		laser.fire(startX, startY, targetX, targetY, chargeMilli, remainMilli);
+		return laser;
+	}
+
+	/**
+	 * Takes a bonus ship from the pool, at its starting position.
+	 *
+	 * @param type
+	 *            Special type of the ship.
+	 * @param direction
+	 *            Initial direction of the ship.
+	 * @param speed
+	 *            Lateral speed of the ship.
+	 * @return Requested ship.
+	 */
+	public static EnemyShip specialShip(final EnemyShip.SpecialType type,
+										final EnemyShip.Direction direction, final int speed) {
+		EnemyShip ship = SPECIAL_SHIPS.acquire();
+		ship.respawnSpecial(type, direction, speed);
+		return ship;
+	}
+
+	/**
+	 * Resets the counters of every shared pool.
+	 */
+	public static void resetCounters() {
+		ITEMS.resetCounters();
+		LASERS.resetCounters();
+		SPECIAL_SHIPS.resetCounters();
+	}
+
+	/**
+	 * Getter for the objects the shared pools had to create on demand since
+	 * their counters were reset.
+	 *
+	 * @return Sum of the misses of every shared pool.
+	 */
+	public static long getMisses() {
+		return ITEMS.getMisses() + LASERS.getMisses() + SPECIAL_SHIPS.getMisses();
+	}
+
+	/**
+	 * Shrinks every shared pool to the demand seen since the last call.
+	 */
+	public static void trimAll() {
+		ITEMS.trim();
+		LASERS.trim();
+		SPECIAL_SHIPS.trim();
+	}
+}
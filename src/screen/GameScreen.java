@@ -2,7 +2,13 @@ package screen;
 
 import engine.Cooldown;
 import engine.DTO.HUDInfoDTO;
+import engine.DTO.RenderSnapshotDTO;
+import engine.FrameProfiler;
+import engine.FrameSkipper;
+import engine.GameClock;
 import engine.GameState;
+import engine.ItemHUDManager;
+import engine.TripleBuffer;
 import engine.level.Level;
 import entity.GameConstant;
 import entity.GameModel;
@@ -25,6 +31,15 @@ public class GameScreen extends Screen {
     /** MVC Components */
     private GameModel model;   // Model
     private GameView view;     // View
+    /** Snapshots of the Model handed to the View, one per update. */
+    private final TripleBuffer<RenderSnapshotDTO> frames =
+            new TripleBuffer<RenderSnapshotDTO>(RenderSnapshotDTO::new);
+    /** Thread drawing the snapshots, or null if they are drawn by the game loop. */
+    private RenderThread renderThread;
+    /** Times the input phase, and is switched on and off with F3. */
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
+    /** If the profiler key was down on the last update. */
+    private boolean profilerKeyDown;
 
     /**
      * Constructor, establishes the properties of the screen.
@@ -47,6 +62,8 @@ public class GameScreen extends Screen {
                         final Level level, final boolean bonusLife, final int maxLives,
                         final int width, final int height, final int fps) {
         super(width, height, fps);
+        setRenderRate(GameConstant.RENDER_FPS);
+        setFrameSkip(GameConstant.MAX_FRAME_SKIP, GameConstant.MIN_RENDER_FPS);
         this.currentLevel = level;
         this.bonusLife = bonusLife;
         this.maxLives = maxLives;
@@ -65,7 +82,7 @@ public class GameScreen extends Screen {
                 this.bonusLife, this.maxLives,
                 this.width, GameConstant.ITEMS_SEPARATION_LINE_HEIGHT
         );
-        this.view = new GameView(this.model,this.drawManager);
+        this.view = new GameView(this.drawManager);
 
         // Initialize Model
         this.model.initialize();
@@ -79,7 +96,23 @@ public class GameScreen extends Screen {
      */
     @Override
     public final int run() {
-        super.run();
+        if (GameConstant.RENDER_THREAD) {
+            this.renderThread = new RenderThread(this.frames, this.view, this.renderRate, this.fps,
+                    new FrameSkipper(this.maxFrameSkip, this.minRenderRate), this::isSimulationBehind);
+            this.renderThread.start();
+        }
+        try {
+            super.run();
+        } finally {
+            if (this.renderThread != null) {
+                this.renderThread.shutdown();
+                this.logger.fine("Render thread pacing: " + this.renderThread.getFramePacer()
+                        + " " + this.renderThread.getFrameSkipper());
+                this.renderThread = null;
+            }
+            // Screens after this one run on real time again.
+            GameClock.use(GameClock.WALL);
+        }
 
         int finalScore = this.model.calculateFinalScore();
         this.logger.info("Screen cleared with a score of " + finalScore);
@@ -93,6 +126,14 @@ public class GameScreen extends Screen {
     @Override
     protected final void update() {
         super.update();
+        this.model.beginTick();
+
+        // F3 switches the profiler overlay on and off
+        boolean profilerKey = inputManager.isKeyDown(java.awt.event.KeyEvent.VK_F3);
+        if (profilerKey && !this.profilerKeyDown) {
+            this.profiler.toggle();
+        }
+        this.profilerKeyDown = profilerKey;
 
         // Input Handling
         if (this.inputDelay.checkFinished() && !this.model.isLevelFinished()) {
@@ -102,9 +143,11 @@ public class GameScreen extends Screen {
             }
 
 			// Handle W,A,S,D and arrow keys to move Player 1 & 2
+			long start = this.profiler.begin();
 			handlePlayerMovementInput();
 			// Handle keyboard input to activate player skills
 			handlePlayerSkillInput();
+			this.profiler.end(FrameProfiler.Phase.INPUT, start);
 
             // Update game world (Model)
             this.model.updateGameWorld();
@@ -115,9 +158,8 @@ public class GameScreen extends Screen {
             this.model.updateElapsedTime();
         }
 
-        // Create DTO and render via View
-        HUDInfoDTO hudInfo = createHUDInfoDTO();
-        this.view.render(hudInfo);
+        // Hand the updated Model over to the View
+        publishFrame();
 
         // Game Over / Level Finish check
         if (this.model.isGameOver() && !this.model.isLevelFinished()) {
@@ -126,9 +168,34 @@ public class GameScreen extends Screen {
 
         if (this.model.isLevelFinished() && this.model.getScreenFinishedCooldown().checkFinished()) {
             this.model.processLevelCompletion();
+            this.model.releasePooledEntities();
             this.isRunning = false;
         }
     }
+    /**
+     * Renders the latest snapshot via the View, between the last two
+     * updates, unless the render thread does it.
+     */
+    @Override
+    protected final void render(final double alpha) {
+        if (this.renderThread == null) {
+            this.view.render(this.frames.acquire(), alpha);
+        }
+    }
+
+    /**
+     * Copies the Model and the HUD data into a snapshot and publishes it
+     * for the View. Never waits for the View.
+     */
+    private void publishFrame() {
+        RenderSnapshotDTO snapshot = this.frames.getBack();
+        this.model.captureFrame(snapshot);
+        updateHUDInfoDTO(snapshot.getHud());
+        ItemHUDManager.getInstance().captureItems(snapshot);
+        snapshot.stamp(this.model.getTick(), System.nanoTime());
+        this.frames.publish();
+    }
+
 	private void handlePlayerMovementInput(){
 		// Player 1 Input
 		if (model.getLivesP1() > 0 && model.getShip() != null && !model.getShip().isDestroyed()) {
@@ -162,10 +229,10 @@ public class GameScreen extends Screen {
 	private void handlePlayerSkillInput() { /* TODO: Implement skill input handling */ }
 
     /**
-     * Builds the DTO that passes data from Model to View.
+     * Fills the DTO that passes data from Model to View.
      */
-    private HUDInfoDTO createHUDInfoDTO() {
-        return new HUDInfoDTO(
+    private HUDInfoDTO updateHUDInfoDTO(final HUDInfoDTO hudInfo) {
+        return hudInfo.update(
                 getWidth(),
                 getHeight(),
                 model.getScoreP1(),
@@ -1,10 +1,10 @@
 package screen;
 
 import engine.DrawManager;
+import engine.FrameProfiler;
 import engine.DTO.HUDInfoDTO;
-import entity.DropItem;
-import entity.GameModel;
-import entity.LaserBullet;
+import engine.DTO.RenderSnapshotDTO;
+import engine.renderer.EntityRenderer;
 import entity.GameConstant;
 
 /**
@@ -12,34 +12,65 @@ import entity.GameConstant;
  * ----------
  * - View layer (the V in MVC)
  * - Does not depend on the Controller (GameScreen) or any Screen objects
- * - Receives HUD data from HUDInfoDTO
- *   and directly gets the list of entities to render from the Model
+ * - Draws render snapshots filled by the Model, never the Model itself,
+ *   so it can run on its own thread while the Model is updated
  */
 public class GameView {
 
-    private final GameModel model;
     private final DrawManager drawManager;
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
 
-    public GameView(GameModel model, DrawManager drawManager) {
-        this.model = model;
+    public GameView(DrawManager drawManager) {
         this.drawManager = drawManager;
     }
 
-    public void render(final HUDInfoDTO dto) {
+    /**
+     * Draws a frame.
+     *
+     * @param snapshot
+     *            Snapshot of the update to draw.
+     * @param alpha
+     *            Fraction of an update elapsed since the snapshot's update.
+     *            Moving entities are drawn that far between their last two
+     *            positions.
+     */
+    public void render(final RenderSnapshotDTO snapshot, final double alpha) {
+        long start = profiler.begin();
+        HUDInfoDTO dto = snapshot.getHud();
 
         /** frame initialize */
         drawManager.initDrawing(dto.getWidth(), dto.getHeight());
 
         /** Entity Rendering */
-        if (model.getEntitiesToRender() != null) {
-            for (var e : model.getEntitiesToRender()) {
-	            if (e instanceof DropItem) {
-		            drawManager.getItemRenderer().render((DropItem) e);
-		            continue;
-	            }
-				drawManager.getEntityRenderer().drawEntity(e);
+        EntityRenderer entityRenderer = drawManager.getEntityRenderer();
+        for (int i = 0; i < snapshot.size(); i++) {
+            switch (snapshot.getKind(i)) {
+                case SPRITE:
+                    entityRenderer.drawSprite(snapshot.getSprite(i), snapshot.getColor(i), alpha,
+                            snapshot.getPreviousX(i), snapshot.getPreviousY(i),
+                            snapshot.getX(i), snapshot.getY(i));
+                    break;
+                case ITEM:
+                    drawManager.getItemRenderer().render(snapshot.getItemType(i),
+                            interpolate(snapshot.getPreviousX(i), snapshot.getX(i), alpha),
+                            interpolate(snapshot.getPreviousY(i), snapshot.getY(i), alpha));
+                    break;
+                case LASER:
+                    entityRenderer.drawLaser(snapshot.getColor(i), snapshot.getTargetX(i),
+                            snapshot.getTargetY(i), snapshot.getX(i), snapshot.getY(i));
+                    break;
+                case DASH_PATH:
+                    entityRenderer.drawDashPathTowards(snapshot.getX(i), snapshot.getY(i),
+                            snapshot.getTargetX(i), snapshot.getTargetY(i));
+                    break;
             }
-
+        }
+        // Bullets move by their speed every update, so they were one speed behind before it.
+        double behind = 1.0 - alpha;
+        for (int k = 0; k < snapshot.getBulletCount(); k++) {
+            entityRenderer.drawSprite(snapshot.getBulletSprite(k), snapshot.getBulletColor(k),
+                    snapshot.getBulletX(k) - (int) Math.round(snapshot.getBulletDx(k) * behind),
+                    snapshot.getBulletY(k) - (int) Math.round(snapshot.getBulletDy(k) * behind));
         }
 
         drawManager.getHUDRenderer().drawScore(dto.getWidth(), dto.getScoreP1(), 25);
@@ -48,7 +79,7 @@ public class GameView {
         drawManager.getHUDRenderer().drawLivesP1(dto.getLivesP1());
         drawManager.getHUDRenderer().drawLivesP2(dto.getLivesP2());
         drawManager.getHUDRenderer().drawTime(GameConstant.ITEMS_SEPARATION_LINE_HEIGHT, dto.getElapsedTimeMillis());
-        drawManager.getHUDRenderer().drawItemsHUD(dto.getWidth(), dto.getHeight());
+        drawManager.getHUDRenderer().drawItemsHUD(dto.getWidth(), dto.getHeight(), snapshot);
         drawManager.getHUDRenderer().drawLevel(GameConstant.ITEMS_SEPARATION_LINE_HEIGHT, dto.getLevelName());
 
         /** draw Line */
@@ -56,33 +87,43 @@ public class GameView {
         drawManager.getUIRenderer().drawHorizontalLine(dto.getWidth(), GameConstant.ITEMS_SEPARATION_LINE_HEIGHT);
 
         /** achievement popup */
-        if (dto.getAchievementText() != null && !model.getAchievementPopupCooldown().checkFinished()) {
+        if (snapshot.isAchievementPopup()) {
             drawManager.getHUDRenderer().drawAchievementPopup(dto.getWidth(), dto.getAchievementText());
         }
 
         /** health popup */
-        if (dto.getHealthPopupText() != null && !model.getHealthPopupCooldown().checkFinished()) {
+        if (snapshot.isHealthPopup()) {
             drawManager.getHUDRenderer().drawHealthPopup(dto.getWidth(), dto.getHealthPopupText());
         }
 
         /** countdown */
-        if (!model.isInputDelayFinished()) {
-            int countdown = (int) ((GameModel.INPUT_DELAY
-                    - (System.currentTimeMillis() - model.getGameStartTime())) / 1000);
-
+        if (snapshot.getCountdown() >= 0) {
             drawManager.getUIRenderer().drawCountDown(
                     dto.getWidth(),
                     dto.getHeight(),
                     dto.getLevel(),
-                    countdown,
-                    model.isBonusLife()
+                    snapshot.getCountdown(),
+                    snapshot.isBonusLife()
             );
 
             drawManager.getUIRenderer().drawHorizontalLine(dto.getWidth(), dto.getHeight() / 2 - dto.getHeight() / 12);
             drawManager.getUIRenderer().drawHorizontalLine(dto.getWidth(), dto.getHeight() / 2 + dto.getHeight() / 12);
         }
 
+        /** profiler overlay */
+        profiler.end(FrameProfiler.Phase.RENDER, start);
+        if (profiler.isEnabled()) {
+            drawManager.getHUDRenderer().drawProfiler(profiler, GameConstant.STAT_SEPARATION_LINE_HEIGHT + 5);
+        }
+
         /** frame complete */
         drawManager.completeDrawing();
     }
+
+    /**
+     * Position between two positions, a fraction of the way.
+     */
+    private static int interpolate(final int from, final int to, final double alpha) {
+        return from + (int) Math.round((to - from) * alpha);
+    }
 }
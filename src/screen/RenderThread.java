@@ -0,0 +1,138 @@
+package screen;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import engine.Core;
+import engine.FramePacer;
+import engine.FrameSkipper;
+import engine.TripleBuffer;
+import engine.DTO.RenderSnapshotDTO;
+
+/**
+ * Draws the game on its own thread, so drawing update N overlaps simulating
+ * update N + 1.
+ * <p>
+ * The thread draws the latest snapshot published by the game screen at a
+ * fixed frame rate, never touching the model. It takes snapshots through a
+ * {@link TripleBuffer}, so the game thread never waits for it.
+ * </p>
+ * <p>
+ * While the game thread is behind real time, the thread skips frames within
+ * the limits of a {@link FrameSkipper}, leaving the processor to the
+ * updates.
+ * </p>
+ */
+final class RenderThread extends Thread {
+
+	/** Snapshots published by the game thread. */
+	private final TripleBuffer<RenderSnapshotDTO> frames;
+	/** View drawing the snapshots. */
+	private final GameView view;
+	/** Schedule of the frames, with its jitter statistics. */
+	private final FramePacer framePacer;
+	/** Frames skipped and drawn. */
+	private final FrameSkipper frameSkipper;
+	/** Tells if the game thread is behind real time. */
+	private final BooleanSupplier simulationBehind;
+	/** Nanoseconds between two updates. */
+	private final long tickNanos;
+	/** Application logger. */
+	private final Logger logger;
+	/** Cleared to stop the thread. */
+	private volatile boolean running = true;
+
+	/**
+	 * Constructor, sets up the thread without starting it.
+	 *
+	 * @param frames
+	 *            Snapshots published by the game thread.
+	 * @param view
+	 *            View drawing the snapshots.
+	 * @param renderRate
+	 *            Frames drawn per second.
+	 * @param updateRate
+	 *            Updates simulated per second.
+	 * @param frameSkipper
+	 *            Limits of the frames skipped while the game thread is behind.
+	 * @param simulationBehind
+	 *            Tells if the game thread is behind real time.
+	 */
+	RenderThread(final TripleBuffer<RenderSnapshotDTO> frames, final GameView view,
+				 final int renderRate, final int updateRate, final FrameSkipper frameSkipper,
+				 final BooleanSupplier simulationBehind) {
+		super("render");
+		setDaemon(true);
+		this.frames = frames;
+		this.view = view;
+		this.framePacer = new FramePacer(renderRate);
+		this.frameSkipper = frameSkipper;
+		this.simulationBehind = simulationBehind;
+		this.tickNanos = TimeUnit.SECONDS.toNanos(1) / updateRate;
+		this.logger = Core.getLogger();
+	}
+
+	/**
+	 * Draws frames until {@link #shutdown()} is called. Each frame shows the
+	 * latest snapshot, between its last two positions by the time elapsed
+	 * since it was published.
+	 */
+	@Override
+	public void run() {
+		this.framePacer.reset();
+		this.frameSkipper.reset(System.nanoTime());
+		try {
+			while (this.running) {
+				long now = System.nanoTime();
+				if (!this.frameSkipper.shouldSkip(this.simulationBehind.getAsBoolean(), now)) {
+					RenderSnapshotDTO snapshot = this.frames.acquire();
+					if (snapshot.getTick() > 0) {
+						double alpha = (double) (System.nanoTime() - snapshot.getPublishedNanos()) / this.tickNanos;
+						this.view.render(snapshot, Math.min(1.0, alpha));
+					}
+					this.frameSkipper.frameRendered(now);
+				}
+
+				this.framePacer.frameDone(System.nanoTime());
+				if (!this.framePacer.awaitFrame())
+					break;
+			}
+		} catch (RuntimeException e) {
+			this.logger.log(Level.SEVERE, "Render thread stopped.", e);
+		}
+	}
+
+	/**
+	 * Stops the thread and waits for its last frame to be drawn, so the
+	 * next screen has the draw manager to itself.
+	 */
+	void shutdown() {
+		this.running = false;
+		try {
+			join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Getter for the frame schedule of the thread, for diagnostics.
+	 *
+	 * @return Frame pacer of the thread.
+	 */
+	FramePacer getFramePacer() {
+		return this.framePacer;
+	}
+
+	/**
+	 * Getter for the frames skipped and drawn by the thread, for
+	 * diagnostics.
+	 *
+	 * @return Frame skipper of the thread.
+	 */
+	FrameSkipper getFrameSkipper() {
+		return this.frameSkipper;
+	}
+}
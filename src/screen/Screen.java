@@ -1,12 +1,13 @@
 package screen;
 
 import java.awt.Insets;
-import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import engine.Cooldown;
 import engine.Core;
 import engine.DrawManager;
+import engine.FramePacer;
+import engine.FrameSkipper;
 import engine.InputManager;
 
 /**
@@ -18,6 +19,10 @@ import engine.InputManager;
 public class Screen {
 	/** Milliseconds until the screen accepts user input. */
 	private static final int INPUT_DELAY = 1000;
+	/** Nanoseconds in a second. */
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+	/** Most updates run to catch up before a frame is drawn. */
+	private static final int MAX_SUB_STEPS = 5;
 
 	/** Draw Manager instance. */
 	protected DrawManager drawManager;
@@ -30,12 +35,24 @@ public class Screen {
 	protected int width;
 	/** Screen height. */
 	protected int height;
-	/** Frames per second shown on the screen. */
+	/** Updates per second, rate at which the screen is simulated. */
 	protected int fps;
+	/** Frames per second, rate at which {@link #render(double)} is called. */
+	protected int renderRate;
 	/** Screen insets. */
 	protected Insets insets;
 	/** Time until the screen accepts user input. */
 	protected Cooldown inputDelay;
+	/** Schedule of the frames of the last run, with its jitter statistics. */
+	protected FramePacer framePacer;
+	/** Most frames skipped in a row while the updates are behind. */
+	protected int maxFrameSkip;
+	/** Frames per second drawn at least while frames are skipped. */
+	protected int minRenderRate;
+	/** Frames skipped and drawn in the last run. */
+	protected FrameSkipper frameSkipper;
+	/** If the updates were behind real time at the end of the last loop. */
+	private volatile boolean simulationBehind;
 
 	/** If the screen is running. */
 	protected boolean isRunning;
@@ -51,11 +68,16 @@ public class Screen {
 	 *            Screen height.
 	 * @param fps
 	 *            Frames per second, frame rate at which the game is run.
+	 *            Also the rate at which the screen is drawn, until
+	 *            {@link #setRenderRate(int)} is called.
 	 */
 	public Screen(final int width, final int height, final int fps) {
 		this.width = width;
 		this.height = height;
 		this.fps = fps;
+		this.renderRate = fps;
+		this.maxFrameSkip = 0;
+		this.minRenderRate = 1;
 
 		this.drawManager = Core.getDrawManager();
 		this.inputManager = Core.getInputManager();
@@ -74,36 +96,157 @@ public class Screen {
 
 	/**
 	 * Activates the screen.
+	 * <p>
+	 * The screen is updated at a fixed rate of {@link #fps} updates per
+	 * second, measured with {@link System#nanoTime()}. Time left over after
+	 * the last whole update is kept for the next loop, so the update rate
+	 * does not drift with the time spent drawing. When the loop falls
+	 * behind, it runs up to {@value #MAX_SUB_STEPS} updates in a row to
+	 * catch up, and drops the time it still could not make up.
+	 * </p>
+	 * <p>
+	 * {@link #render(double)} is called at most {@link #renderRate} times per
+	 * second, with the fraction of an update elapsed since the last one, on
+	 * the absolute schedule of a {@link FramePacer}. The loop waits for the
+	 * next update or frame with the pacer's park-then-spin wait.
+	 * </p>
+	 * <p>
+	 * Once {@link #setFrameSkip(int, int)} is called, a frame that is due
+	 * while the updates are still behind is skipped, and the loop goes on
+	 * updating, within the limits of a {@link FrameSkipper}. The time that
+	 * could not be made up is then only dropped when a frame has to be
+	 * drawn anyway.
+	 * </p>
 	 * 
 	 * @return Next screen code.
 	 */
 	public int run() {
 		this.isRunning = true;
 
+		final long tickNanos = NANOS_PER_SECOND / this.fps;
+		this.framePacer = new FramePacer(this.renderRate);
+		this.frameSkipper = new FrameSkipper(this.maxFrameSkip, this.minRenderRate);
+		long previous = System.nanoTime();
+		long accumulator = tickNanos;
+
 		while (this.isRunning) {
-			long time = System.currentTimeMillis();
+			long now = System.nanoTime();
+			accumulator += now - previous;
+			previous = now;
 
-			update();
+			int steps = 0;
+			while (accumulator >= tickNanos && steps < MAX_SUB_STEPS && this.isRunning) {
+				update();
+				accumulator -= tickNanos;
+				steps++;
+			}
+			boolean behind = accumulator >= tickNanos;
+			this.simulationBehind = behind;
 
-			time = (1000 / this.fps) - (System.currentTimeMillis() - time);
-			if (time > 0) {
-				try {
-					TimeUnit.MILLISECONDS.sleep(time);
-				} catch (InterruptedException e) {
-					return 0;
+			now = System.nanoTime();
+			if (this.isRunning && this.framePacer.isFrameDue(now)) {
+				if (!this.frameSkipper.shouldSkip(behind, now)) {
+					// Too far behind: give up on the time that could not be simulated.
+					if (behind)
+						accumulator = 0;
+					render((double) accumulator / tickNanos);
+					this.framePacer.frameDone(now);
+					this.frameSkipper.frameRendered(now);
 				}
+			} else if (behind && !this.frameSkipper.isEnabled()) {
+				accumulator = 0;
 			}
+
+			long nextTick = previous + tickNanos - accumulator;
+			if (!FramePacer.awaitUntil(Math.min(nextTick, this.framePacer.getNextFrame())))
+				return 0;
 		}
 
+		this.logger.fine("Frame pacing of " + getClass().getSimpleName() + ": " + this.framePacer
+				+ " " + this.frameSkipper);
 		return 0;
 	}
 
 	/**
-	 * Updates the elements on screen and checks for events.
+	 * Updates the elements on screen and checks for events. Called at the
+	 * fixed update rate.
 	 */
 	protected void update() {
 	}
 
+	/**
+	 * Draws the screen. Screens that draw from {@link #update()} leave this
+	 * empty.
+	 *
+	 * @param alpha
+	 *            Fraction of an update elapsed since the last update, from 0
+	 *            inclusive to 1 exclusive, for drawing moving entities
+	 *            between their last two positions.
+	 */
+	protected void render(final double alpha) {
+	}
+
+	/**
+	 * Getter for the frame schedule of the current or last run, for
+	 * diagnostics.
+	 *
+	 * @return Frame pacer, or null before the first run.
+	 */
+	public FramePacer getFramePacer() {
+		return this.framePacer;
+	}
+
+	/**
+	 * Setter for the rate at which {@link #render(double)} is called,
+	 * independently of the update rate.
+	 *
+	 * @param renderRate
+	 *            Frames per second.
+	 */
+	public final void setRenderRate(final int renderRate) {
+		if (renderRate <= 0)
+			throw new IllegalArgumentException("Render rate must be positive: " + renderRate);
+		this.renderRate = renderRate;
+	}
+
+	/**
+	 * Lets the loop skip drawing frames while the updates are behind real
+	 * time.
+	 *
+	 * @param maxFrameSkip
+	 *            Most frames skipped in a row, 0 to draw every frame.
+	 * @param minRenderRate
+	 *            Frames per second drawn at least, however far behind the
+	 *            updates are.
+	 */
+	public final void setFrameSkip(final int maxFrameSkip, final int minRenderRate) {
+		if (maxFrameSkip < 0 || minRenderRate <= 0)
+			throw new IllegalArgumentException("Invalid frame skip: " + maxFrameSkip + " frames, "
+					+ minRenderRate + " frames per second");
+		this.maxFrameSkip = maxFrameSkip;
+		this.minRenderRate = minRenderRate;
+	}
+
+	/**
+	 * Getter for the frames skipped and drawn in the current or last run,
+	 * for diagnostics.
+	 *
+	 * @return Frame skipper, or null before the first run.
+	 */
+	public FrameSkipper getFrameSkipper() {
+		return this.frameSkipper;
+	}
+
+	/**
+	 * Checks if the updates were behind real time at the end of the last
+	 * loop. Safe to call from any thread.
+	 *
+	 * @return True if the loop is catching up.
+	 */
+	public final boolean isSimulationBehind() {
+		return this.simulationBehind;
+	}
+
 	/**
 	 * Getter for screen width.
 	 * 
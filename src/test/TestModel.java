@@ -4,9 +4,7 @@ import entity.*;
 
 import java.awt.*;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 public class TestModel {
 	// Add Entity you want.
@@ -16,7 +14,7 @@ public class TestModel {
 	private Ship player;
 	private final int width;
 	private final int height;
-	private Set<Bullet> bullets;
+	private BulletStore bullets;
 
 	private static final int TOP_BOUNDARY = 0;
 
@@ -24,16 +22,14 @@ public class TestModel {
 		this.width = width;
 		this.height = height;
 		this.player = new Ship(this.width/2, height-20, Color.GREEN);
-		this.entity = new OmegaBoss(Color.blue, player);
-		this.bullets = new HashSet<>();
+		this.entity = new OmegaBoss(Color.blue, EntityRegistry.getInstance().register(player));
+		this.bullets = new BulletStore();
 	}
 
 	public void update(){
 		updateEntity();
 
-		for (Bullet bullet : bullets) {
-			bullet.update();
-		}
+		bullets.update();
 
 		checkBulletCollisions();
 
@@ -48,10 +44,13 @@ public class TestModel {
 		List<Entity> renderList = new ArrayList<>();
 		renderList.add(entity);
 		renderList.add(player);
-		renderList.addAll(bullets);  // 총알도 포함
 		return renderList;
 	}
 
+	public BulletStore getBullets(){
+		return bullets;
+	}
+
 	public boolean playerAvailable(){
 		return player != null;
 	}
@@ -92,35 +91,23 @@ public class TestModel {
 	}
 
 	private void checkBulletCollisions() {
-		Set<Bullet> recyclable = new HashSet<>();
-
-		for (Bullet bullet : bullets) {
-			if (bullet.getSpeed() < 0) {
-				if (!entity.isDestroyed() && checkCollision(bullet, entity)) {
-					entity.takeDamage(6);
-					if (entity.getHealPoint() <= 0) {
-						entity.destroy();
-					}
-					recyclable.add(bullet);
+		int k = 0;
+		while (k < bullets.size()) {
+			Bullet bullet = bullets.get(k);
+			if (bullet.getSpeed() < 0 && !entity.isDestroyed() && checkCollision(bullet, entity)) {
+				entity.takeDamage(6);
+				if (entity.getHealPoint() <= 0) {
+					entity.destroy();
 				}
+				bullets.remove(k);
+			} else {
+				k++;
 			}
 		}
-
-		bullets.removeAll(recyclable);
-		BulletPool.recycle(recyclable);
 	}
 
 	private void cleanBullets() {
-		Set<Bullet> recyclable = new HashSet<>();
-
-		for (Bullet bullet : bullets) {
-			if (bullet.getPositionY() < TOP_BOUNDARY || bullet.getPositionY() > height) {
-				recyclable.add(bullet);
-			}
-		}
-
-		bullets.removeAll(recyclable);
-		BulletPool.recycle(recyclable);
+		bullets.cull(Integer.MIN_VALUE, TOP_BOUNDARY, Integer.MAX_VALUE, height);
 	}
 
 	private boolean checkCollision(final Entity a, final Entity b) {
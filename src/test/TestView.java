@@ -34,6 +34,8 @@ public class TestView {
 				drawManager.getEntityRenderer().drawEntity(entity, entity.getPositionX(), entity.getPositionY());
 			}
 		}
+		// Bullets are drawn from their store, which has no entity per bullet.
+		drawManager.getEntityRenderer().drawBullets(model.getBullets());
 		drawManager.completeDrawing();
 	}
 }
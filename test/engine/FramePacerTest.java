@@ -0,0 +1,61 @@
+package engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the absolute schedule and jitter statistics of the frame pacer.
+ */
+class FramePacerTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void testLateFrameDoesNotShiftSchedule() {
+        FramePacer pacer = new FramePacer(100);
+        long start = pacer.getNextFrame();
+
+        pacer.frameDone(start);
+        assertEquals(start + 10 * MS, pacer.getNextFrame());
+        pacer.frameDone(start + 14 * MS);
+        assertEquals(start + 20 * MS, pacer.getNextFrame(), "A late frame keeps the next one on time.");
+        assertEquals(0, pacer.getResyncs());
+    }
+
+    @Test
+    void testScheduleRestartsWhenAPeriodBehind() {
+        FramePacer pacer = new FramePacer(100);
+        long start = pacer.getNextFrame();
+
+        pacer.frameDone(start + 35 * MS);
+        assertEquals(start + 45 * MS, pacer.getNextFrame(), "No burst of frames to catch up.");
+        assertEquals(1, pacer.getResyncs());
+    }
+
+    @Test
+    void testJitterPercentiles() {
+        FramePacer pacer = new FramePacer(100);
+        long now = pacer.getNextFrame();
+        pacer.frameDone(now);
+        for (int i = 0; i < 99; i++) {
+            now += 10 * MS;
+            pacer.frameDone(now);
+        }
+        now += 15 * MS;
+        pacer.frameDone(now);
+
+        assertEquals(100, pacer.getRecorded());
+        assertEquals(FramePacer.BIN_NANOS, pacer.getJitterP50(), "On-time frames fall in the first bin.");
+        assertEquals(FramePacer.BIN_NANOS, pacer.getJitterP99());
+        assertEquals(5 * MS + FramePacer.BIN_NANOS, pacer.getJitterPercentile(100));
+        assertEquals(5 * MS, pacer.getMaxJitter());
+    }
+
+    @Test
+    void testAwaitUntilReachesDeadline() {
+        long deadline = System.nanoTime() + 2 * MS;
+        assertTrue(FramePacer.awaitUntil(deadline));
+        assertTrue(System.nanoTime() - deadline >= 0);
+    }
+}
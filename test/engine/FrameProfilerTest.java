@@ -0,0 +1,63 @@
+package engine;
+
+import engine.level.Level;
+import entity.GameModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the frame phase timings behind the profiler overlay.
+ */
+class FrameProfilerTest {
+
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
+
+    @AfterEach
+    void tearDown() {
+        profiler.setEnabled(false);
+        GameClock.use(GameClock.WALL);
+    }
+
+    @Test
+    void testDisabledProfilerRecordsNothing() {
+        profiler.setEnabled(false);
+        long start = profiler.begin();
+        assertEquals(0, start);
+        profiler.end(FrameProfiler.Phase.INPUT, start);
+        assertEquals(0, profiler.getRecorded(FrameProfiler.Phase.INPUT));
+        assertEquals(0, profiler.getMax(FrameProfiler.Phase.INPUT));
+    }
+
+    @Test
+    void testPercentilesCoverTheWindow() {
+        profiler.setEnabled(true);
+        for (int k = 0; k < FrameProfiler.WINDOW + 10; k++) {
+            long start = profiler.begin();
+            long next = profiler.lap(FrameProfiler.Phase.ENTITIES, start);
+            assertTrue(next >= start);
+            profiler.end(FrameProfiler.Phase.COLLISIONS, next);
+        }
+        assertEquals(FrameProfiler.WINDOW, profiler.getRecorded(FrameProfiler.Phase.ENTITIES));
+        long p50 = profiler.getP50(FrameProfiler.Phase.ENTITIES);
+        long p95 = profiler.getP95(FrameProfiler.Phase.ENTITIES);
+        long max = profiler.getMax(FrameProfiler.Phase.ENTITIES);
+        assertTrue(p50 <= p95 && p95 <= max);
+
+        profiler.setEnabled(false);
+        assertEquals(0, profiler.getRecorded(FrameProfiler.Phase.ENTITIES), "Disabling clears the window.");
+    }
+
+    @Test
+    void testEntityCountIsTheCollisionPass() {
+        GameModel model = new GameModel(new GameState(1, 0, 3, 3, 0, 0, 0),
+                new Level(1, 8, 4, 60, 2000), false, 3, 448, 560);
+        model.initialize();
+        profiler.setEnabled(true);
+        model.beginTick();
+        model.updateGameWorld();
+        // Both ships at least take part in the collision pass.
+        assertTrue(profiler.getCount(FrameProfiler.Counter.ENTITIES) >= 2);
+    }
+}
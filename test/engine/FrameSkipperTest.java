@@ -0,0 +1,53 @@
+package engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the limits on skipping frames while the updates catch up.
+ */
+class FrameSkipperTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void testFramesAreOnlySkippedWhileBehind() {
+        FrameSkipper skipper = new FrameSkipper(3, 10);
+        skipper.reset(0);
+        assertFalse(skipper.shouldSkip(false, MS));
+        assertTrue(skipper.shouldSkip(true, 2 * MS));
+        assertEquals(1, skipper.getSkipped());
+    }
+
+    @Test
+    void testSkipsInARowAreCapped() {
+        FrameSkipper skipper = new FrameSkipper(3, 10);
+        skipper.reset(0);
+        for (int k = 1; k <= 3; k++)
+            assertTrue(skipper.shouldSkip(true, k * MS));
+        assertFalse(skipper.shouldSkip(true, 4 * MS), "The fourth frame in a row is drawn.");
+        assertEquals(1, skipper.getForced());
+
+        skipper.frameRendered(4 * MS);
+        assertTrue(skipper.shouldSkip(true, 5 * MS), "Drawing a frame starts a new run.");
+        assertEquals(1, skipper.getRendered());
+        assertEquals(4, skipper.getSkipped());
+    }
+
+    @Test
+    void testMinimumRenderRateIsKept() {
+        FrameSkipper skipper = new FrameSkipper(100, 10);
+        skipper.reset(0);
+        assertTrue(skipper.shouldSkip(true, 50 * MS));
+        assertFalse(skipper.shouldSkip(true, 100 * MS), "10 frames per second: one at least every 100 ms.");
+    }
+
+    @Test
+    void testNoSkippingWhenDisabled() {
+        FrameSkipper skipper = new FrameSkipper(0, 10);
+        skipper.reset(0);
+        assertFalse(skipper.isEnabled());
+        assertFalse(skipper.shouldSkip(true, MS));
+    }
+}
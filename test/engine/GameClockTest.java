@@ -0,0 +1,51 @@
+package engine;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests timers running on a tick-driven game clock.
+ */
+class GameClockTest {
+
+    @AfterEach
+    void tearDown() {
+        GameClock.use(GameClock.WALL);
+    }
+
+    @Test
+    void testTickClockAdvancesByUpdates() {
+        TickClock clock = new TickClock(50);
+        assertEquals(0, clock.millis());
+        for (int i = 0; i < 75; i++) clock.advance();
+        assertEquals(75, clock.getTicks());
+        assertEquals(1500, clock.millis());
+    }
+
+    @Test
+    void testCooldownFollowsCurrentClock() {
+        TickClock clock = new TickClock(10);
+        GameClock.use(clock);
+        Cooldown cooldown = new Cooldown(500);
+        assertTrue(cooldown.checkFinished(), "A cooldown never reset is finished.");
+
+        cooldown.reset();
+        for (int i = 0; i < 5; i++) clock.advance();
+        assertFalse(cooldown.checkFinished(), "Time only passes when the clock is advanced.");
+        clock.advance();
+        assertTrue(cooldown.checkFinished());
+    }
+
+    @Test
+    void testGameTimerMeasuresGameTime() {
+        TickClock clock = new TickClock(100);
+        GameTimer timer = new GameTimer(clock);
+        timer.start();
+        for (int i = 0; i < 250; i++) clock.advance();
+        timer.stop();
+        for (int i = 0; i < 100; i++) clock.advance();
+        assertEquals(2500, timer.getElapsedTime());
+    }
+}
@@ -0,0 +1,73 @@
+package engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the timer wheel counting game updates.
+ */
+class SchedulerTest {
+
+    @Test
+    void testTimersFireOnTheirUpdateAtEveryLevel() {
+        Scheduler scheduler = new Scheduler();
+        long[] delays = {1, 63, 64, 65, 4095, 4096, 4097, 300_000, (1L << 24) + 10};
+        long[] firedAt = new long[delays.length];
+        for (int k = 0; k < delays.length; k++) {
+            final int index = k;
+            scheduler.schedule(new Scheduler.Timer(() -> firedAt[index] = scheduler.getTick()), delays[k]);
+        }
+        assertEquals(delays.length, scheduler.getPending());
+
+        long last = delays[delays.length - 1];
+        for (long t = 0; t < last; t++)
+            scheduler.advance();
+
+        for (int k = 0; k < delays.length; k++)
+            assertEquals(delays[k], firedAt[k], "Timer of delay " + delays[k]);
+        assertEquals(0, scheduler.getPending());
+    }
+
+    @Test
+    void testCancelledTimerDoesNotFire() {
+        Scheduler scheduler = new Scheduler();
+        int[] fired = new int[1];
+        Scheduler.Timer timer = new Scheduler.Timer(() -> fired[0]++);
+        scheduler.schedule(timer, 100);
+        scheduler.cancel(timer);
+        assertFalse(timer.isPending());
+        for (int t = 0; t < 200; t++)
+            scheduler.advance();
+        assertEquals(0, fired[0]);
+    }
+
+    @Test
+    void testTimerRearmedFromItsActionRepeats() {
+        Scheduler scheduler = new Scheduler();
+        int[] fired = new int[1];
+        Scheduler.Timer[] timer = new Scheduler.Timer[1];
+        timer[0] = new Scheduler.Timer(() -> {
+            fired[0]++;
+            scheduler.schedule(timer[0], 10);
+        });
+        scheduler.schedule(timer[0], 10);
+        for (int t = 0; t < 1000; t++)
+            scheduler.advance();
+        assertEquals(100, fired[0]);
+        assertTrue(timer[0].isPending());
+    }
+
+    @Test
+    void testRescheduledTimerMovesToItsNewDeadline() {
+        Scheduler scheduler = new Scheduler();
+        Scheduler.Timer timer = new Scheduler.Timer();
+        scheduler.schedule(timer, 5000);
+        scheduler.schedule(timer, 3);
+        assertEquals(1, scheduler.getPending());
+        for (int t = 0; t < 3; t++)
+            scheduler.advance();
+        assertFalse(timer.isPending());
+        assertEquals(3, timer.getDeadline());
+    }
+}
@@ -0,0 +1,56 @@
+package engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the lock-free hand-off of the triple buffer.
+ */
+class TripleBufferTest {
+
+    @Test
+    void testReaderGetsLatestPublishedValue() {
+        TripleBuffer<int[]> buffer = new TripleBuffer<int[]>(() -> new int[1]);
+        int[] initial = buffer.acquire();
+        assertFalse(buffer.hasFresh());
+
+        buffer.getBack()[0] = 1;
+        buffer.publish();
+        buffer.getBack()[0] = 2;
+        buffer.publish();
+
+        assertTrue(buffer.hasFresh());
+        int[] front = buffer.acquire();
+        assertEquals(2, front[0], "Only the latest publication is read.");
+        assertNotSame(initial, front);
+        assertSame(front, buffer.acquire(), "Without a new publication the front value is kept.");
+        assertNotSame(front, buffer.getBack(), "The writer never fills the value being read.");
+    }
+
+    @Test
+    void testConcurrentReaderNeverSeesTornValue() throws InterruptedException {
+        TripleBuffer<int[]> buffer = new TripleBuffer<int[]>(() -> new int[2]);
+        AtomicInteger torn = new AtomicInteger();
+        Thread reader = new Thread(() -> {
+            int last = 0;
+            while (last < 100_000) {
+                int[] value = buffer.acquire();
+                if (value[0] != value[1] || value[0] < last) torn.incrementAndGet();
+                last = value[0];
+            }
+        });
+        reader.start();
+        for (int i = 1; i <= 100_000; i++) {
+            int[] back = buffer.getBack();
+            back[0] = i;
+            back[1] = i;
+            buffer.publish();
+        }
+        reader.join(10_000);
+        assertFalse(reader.isAlive(), "The reader should see the last publication.");
+        assertEquals(0, torn.get());
+    }
+}
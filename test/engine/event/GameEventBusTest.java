@@ -0,0 +1,51 @@
+package engine.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the per-update gameplay event queue.
+ */
+class GameEventBusTest {
+
+    @Test
+    void testEventsAreHeldUntilDrained() {
+        GameEventBus bus = new GameEventBus(4);
+        List<String> seen = new ArrayList<>();
+        bus.subscribe((event, player, value) -> seen.add(event + ":" + player + ":" + value));
+
+        bus.beginTick(7);
+        bus.publish(GameEvent.SHOT_FIRED, 1, 0);
+        bus.publish(GameEvent.ENEMY_DESTROYED, 2, 30);
+        assertTrue(seen.isEmpty(), "Subscribers are only called by drain.");
+        assertEquals(7, bus.getTick(1));
+
+        bus.drain();
+        assertEquals(List.of("SHOT_FIRED:1:0", "ENEMY_DESTROYED:2:30"), seen);
+        assertEquals(0, bus.size());
+    }
+
+    @Test
+    void testRingGrowsWithoutLosingOrder() {
+        GameEventBus bus = new GameEventBus(4);
+        int[] values = new int[20];
+        int[] count = new int[1];
+        bus.subscribe((event, player, value) -> values[count[0]++] = value);
+
+        bus.publish(GameEvent.SHIP_HIT, 1, -1);
+        bus.drain();
+        count[0] = 0;
+        for (int k = 0; k < values.length; k++)
+            bus.publish(GameEvent.SHIP_HIT, 1, k);
+        assertTrue(bus.getCapacity() >= values.length);
+        bus.drain();
+
+        assertEquals(values.length, count[0]);
+        for (int k = 0; k < values.length; k++)
+            assertEquals(k, values[k]);
+    }
+}
@@ -0,0 +1,142 @@
+package entity;
+
+import entity.collision.CollisionLayer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the struct-of-arrays bullet storage and its slot views.
+ */
+class BulletStoreTest {
+
+    @BeforeEach
+    void setUp() {
+        ShopItem.resetAllItems();
+    }
+
+    @Test
+    void testAddCentersBulletAndPicksLayer() {
+        BulletStore store = new BulletStore();
+        int up = store.add(100, 200, -5);
+        int down = store.add(100, 200, 5);
+        int boss = store.addBossBullet(10, 20, 1, 4, 6, 10, Color.YELLOW);
+
+        assertEquals(100 - BulletStore.BULLET_WIDTH / 2, store.getPositionX(up));
+        assertEquals(CollisionLayer.PLAYER_BULLET, store.get(up).getCollisionLayer());
+        assertEquals(CollisionLayer.ENEMY_BULLET, store.get(down).getCollisionLayer());
+        assertEquals(CollisionLayer.BOSS_BULLET, store.get(boss).getCollisionLayer());
+        assertEquals(Color.YELLOW, store.get(boss).getColor(), "View should show the slot's color.");
+    }
+
+    @Test
+    void testUpdateMovesEveryBullet() {
+        BulletStore store = new BulletStore(1);
+        store.add(50, 100, -5);
+        store.addBossBullet(10, 20, 2, 4, 6, 10, Color.YELLOW);
+        store.update();
+
+        assertEquals(95, store.getPositionY(0));
+        assertEquals(12, store.getPositionX(1));
+        assertEquals(24, store.getPositionY(1));
+    }
+
+    @Test
+    void testRemoveMovesLastBulletIntoSlot() {
+        BulletStore store = new BulletStore();
+        for (int i = 0; i < 4; i++)
+            store.add(100 * i, 100, -5);
+        Bullet view = store.get(1);
+
+        store.remove(1);
+
+        assertEquals(3, store.size());
+        assertEquals(300 - BulletStore.BULLET_WIDTH / 2, view.getPositionX(),
+                "The slot should now hold the former last bullet.");
+    }
+
+    @Test
+    void testRemoveMarkedKeepsMarksWithTheirBullets() {
+        BulletStore store = new BulletStore();
+        for (int i = 0; i < 5; i++)
+            store.add(100 * i, 100, -5);
+        // Slot 1 and the last slot are used up; the last one is moved first.
+        store.get(1).markForRemoval();
+        store.get(4).markForRemoval();
+
+        store.removeMarked();
+
+        assertEquals(3, store.size());
+        for (int k = 0; k < store.size(); k++) {
+            assertFalse(store.get(k).isMarkedForRemoval());
+            int x = store.getPositionX(k) + BulletStore.BULLET_WIDTH / 2;
+            assertTrue(x == 0 || x == 200 || x == 300, "Unexpected bullet left at x " + x);
+        }
+    }
+
+    @Test
+    void testCullRemovesBulletsOutsideArea() {
+        BulletStore store = new BulletStore();
+        store.add(100, -1, -5);
+        store.add(100, 0, -5);
+        store.add(100, 600, 5);
+        store.add(100, 601, 5);
+
+        store.cull(Integer.MIN_VALUE, 0, Integer.MAX_VALUE, 600);
+
+        assertEquals(2, store.size(), "Bullets on the border are kept.");
+    }
+
+    @Test
+    void testMoveToEmptiesSource() {
+        BulletStore pattern = new BulletStore(2);
+        BulletStore game = new BulletStore();
+        game.add(1, 1, 5);
+        for (int i = 0; i < 3; i++)
+            pattern.addBossBullet(i, 0, 0, 2, 6, 10, Color.BLUE);
+
+        pattern.moveTo(game);
+
+        assertTrue(pattern.isEmpty());
+        assertEquals(4, game.size());
+        assertEquals(Color.BLUE, game.getColor(3));
+    }
+
+    @Test
+    void testPenetrationAndOwner() {
+        ShopItem.setPenetrationLevel(1);
+        BulletStore store = new BulletStore();
+        int slot = store.add(100, 100, -5);
+        store.setOwner(slot, 2);
+        Bullet bullet = store.get(slot);
+
+        assertEquals(2, bullet.getOwner());
+        assertTrue(bullet.canPenetration());
+        assertTrue(bullet.penetration(), "First hit is absorbed by the penetration.");
+        assertFalse(bullet.penetration(), "Second hit uses the bullet up.");
+    }
+
+    @Test
+    void testTenThousandBulletsPerTick() {
+        Random random = new Random(7);
+        BulletStore store = new BulletStore();
+        int culled = 0;
+        for (int tick = 0; tick < 300; tick++) {
+            // Refill what left the field, as steady fire would.
+            while (store.size() < 10000)
+                store.add(random.nextInt(1228), 40 + random.nextInt(600), random.nextBoolean() ? -5 : 5);
+            store.update();
+            store.cull(Integer.MIN_VALUE, 40, Integer.MAX_VALUE, 700);
+            culled += 10000 - store.size();
+            for (int k = 0; k < store.size(); k++) {
+                int y = store.getPositionY(k);
+                assertTrue(y >= 40 && y <= 700, "Bullet " + k + " at y=" + y + " should have been culled.");
+            }
+        }
+        assertTrue(culled > 0, "Bullets should leave the field over 300 ticks.");
+    }
+}
@@ -0,0 +1,96 @@
+package entity;
+
+import engine.level.Level;
+import entity.collision.Collisions;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the formation-aware hit test.
+ */
+class EnemyShipFormationModelTest {
+
+    private static final int SCREEN_WIDTH = 448;
+
+    /** Every live ship hit by the bounds, scanning the whole formation. */
+    private static List<EnemyShip> fullScan(final EnemyShipFormationModel formation, final HasBounds bounds) {
+        List<EnemyShip> hits = new ArrayList<>();
+        for (EnemyShip enemyShip : formation)
+            if (!enemyShip.isDestroyed() && Collisions.overlaps(bounds, enemyShip))
+                hits.add(enemyShip);
+        return hits;
+    }
+
+    /** Every live ship hit by the bounds, through the column index. */
+    private static List<EnemyShip> hitTestAll(final EnemyShipFormationModel formation, final HasBounds bounds) {
+        List<EnemyShip> hits = new ArrayList<>();
+        for (EnemyShip e = formation.hitTest(bounds); e != null; e = formation.hitTest(bounds, e))
+            hits.add(e);
+        return hits;
+    }
+
+    /** Sweeps bullet-sized and ship-sized bounds over the formation area. */
+    private static void assertMatchesFullScan(final EnemyShipFormationModel formation) {
+        for (int y = 60; y < 400; y += 3)
+            for (int x = -20; x < SCREEN_WIDTH; x += 3) {
+                Entity bullet = new Entity(x, y, 6, 10, Color.WHITE);
+                Entity ship = new Entity(x, y, 26, 16, Color.WHITE);
+                assertEquals(fullScan(formation, bullet), hitTestAll(formation, bullet),
+                        "Bullet at (" + x + "," + y + ")");
+                assertEquals(fullScan(formation, ship), hitTestAll(formation, ship),
+                        "Ship at (" + x + "," + y + ")");
+            }
+    }
+
+    @Test
+    void testHitTestMatchesFullScan() {
+        EnemyShipFormationModel formation = new EnemyShipFormationModel(new Level(1, 5, 4, 60, 2000), SCREEN_WIDTH);
+        assertMatchesFullScan(formation);
+    }
+
+    @Test
+    void testHitTestAfterColumnsRemovedAndMoved() {
+        EnemyShipFormationModel formation = new EnemyShipFormationModel(new Level(1, 5, 4, 60, 2000), SCREEN_WIDTH);
+
+        // Empty the first and a middle column, and let explosions finish.
+        for (int column : new int[] {0, 2})
+            for (EnemyShip enemyShip : new ArrayList<>(formation.getEnemyShips().get(column)))
+                formation.destroy(enemyShip);
+        formation.getEnemyShips().get(0).clear();
+        formation.getEnemyShips().get(2).clear();
+        formation.update();
+        formation.moveAllShips(13, 7);
+        formation.setPosition(formation.getPositionX() + 13, formation.getPositionY() + 7);
+
+        assertEquals(3, formation.getEnemyShips().size(), "Empty columns should be removed.");
+        assertMatchesFullScan(formation);
+    }
+
+    @Test
+    void testDestroyedShipsAreSkipped() {
+        EnemyShipFormationModel formation = new EnemyShipFormationModel(new Level(1, 3, 3, 60, 2000), SCREEN_WIDTH);
+        EnemyShip target = formation.getEnemyShips().get(1).get(1);
+        Entity bullet = new Entity(target.getPositionX() + 8, target.getPositionY() + 2, 6, 10, Color.WHITE);
+
+        assertSame(target, formation.hitTest(bullet));
+        formation.destroy(target);
+        assertNull(formation.hitTest(bullet), "A destroyed ship should no longer be hit.");
+    }
+
+    @Test
+    void testHitTestAfterPushBack() {
+        EnemyShipFormationModel formation = new EnemyShipFormationModel(new Level(1, 5, 4, 60, 2000), SCREEN_WIDTH);
+        // A destroyed ship is left in place while the live ones are pushed.
+        formation.destroy(formation.getEnemyShips().get(1).get(0));
+
+        formation.pushBack(20);
+        formation.pushBack(20);
+
+        assertMatchesFullScan(formation);
+    }
+}
@@ -0,0 +1,83 @@
+package entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the generational handles of the entity registry.
+ */
+class EntityRegistryTest {
+
+    private static Entity entity() {
+        return new Entity(0, 0, 10, 10, Color.WHITE);
+    }
+
+    @Test
+    void testHandleResolvesToItsEntity() {
+        EntityRegistry registry = new EntityRegistry(2);
+        Entity first = entity();
+        Entity second = entity();
+
+        int a = registry.register(first);
+        int b = registry.register(second);
+
+        assertNotEquals(EntityRegistry.NONE, a);
+        assertNotEquals(a, b);
+        assertSame(first, registry.get(a));
+        assertSame(second, registry.get(b));
+        assertEquals(a, first.getHandle());
+        assertNull(registry.get(EntityRegistry.NONE), "NONE never resolves.");
+    }
+
+    @Test
+    void testReleasedHandleStaysDeadAfterSlotReuse() {
+        EntityRegistry registry = new EntityRegistry(1);
+        Entity first = entity();
+        int stale = registry.register(first);
+        registry.release(stale);
+
+        Entity second = entity();
+        int fresh = registry.register(second);
+
+        assertNull(registry.get(stale), "A released handle should resolve to nothing.");
+        assertFalse(registry.isAlive(stale));
+        assertSame(second, registry.get(fresh));
+        assertEquals(EntityRegistry.NONE, first.getHandle());
+        assertEquals(stale & ((1 << EntityRegistry.INDEX_BITS) - 1),
+                fresh & ((1 << EntityRegistry.INDEX_BITS) - 1), "The slot should be reused.");
+    }
+
+    @Test
+    void testTypedLookupAndClear() {
+        EntityRegistry registry = new EntityRegistry();
+        Ship ship = new Ship(0, 0, Color.GREEN);
+        int handle = registry.register(ship);
+
+        assertSame(ship, registry.get(handle, Ship.class));
+        assertNull(registry.get(handle, EnemyShip.class), "Another type should not resolve.");
+        assertEquals(handle, registry.register(ship), "Registering twice keeps the handle.");
+
+        registry.clear();
+
+        assertEquals(0, registry.size());
+        assertNull(registry.get(handle, Ship.class));
+    }
+
+    @Test
+    void testRegistryGrows() {
+        EntityRegistry registry = new EntityRegistry(1);
+        int[] handles = new int[100];
+        Entity[] entities = new Entity[100];
+        for (int i = 0; i < handles.length; i++) {
+            entities[i] = entity();
+            handles[i] = registry.register(entities[i]);
+        }
+
+        for (int i = 0; i < handles.length; i++)
+            assertSame(entities[i], registry.get(handles[i]));
+        assertEquals(100, registry.size());
+    }
+}
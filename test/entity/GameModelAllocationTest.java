@@ -0,0 +1,86 @@
+package entity;
+
+import engine.DTO.RenderSnapshotDTO;
+import engine.GameClock;
+import engine.GameState;
+import engine.level.Level;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that a game tick does not allocate once the game is running, so the
+ * garbage collector has no reason to pause in the middle of a level.
+ */
+class GameModelAllocationTest {
+
+    private static final int WIDTH = 448;
+    private static final int HEIGHT = 560;
+    private static final int WARMUP_TICKS = 2000;
+    private static final int MEASURED_TICKS = 4000;
+    /**
+     * Allowance for the rare events of the measured ticks, a bit over a
+     * minute of game time, like logging a kill or a bonus ship's arrival.
+     */
+    private static final long MAX_BYTES = 32 * 1024;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final RenderSnapshotDTO snapshot = new RenderSnapshotDTO();
+
+    @BeforeEach
+    void setUp() {
+        ShopItem.resetAllItems();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ShopItem.resetAllItems();
+        GameClock.use(GameClock.WALL);
+    }
+
+    /** Runs one tick the way GameScreen.update() does, without drawing. */
+    private void tick(final GameModel model, final int tick) {
+        // Cooldowns follow the model's clock, so ships keep shooting without sleeping.
+        model.beginTick();
+        model.playerMove(1, tick % 300 < 150 ? "LEFT" : "RIGHT");
+        model.playerMove(2, tick % 300 < 150 ? "RIGHT" : "LEFT");
+        model.playerFire(1);
+        model.playerFire(2);
+        model.updateGameWorld();
+        model.updateElapsedTime();
+        model.captureFrame(this.snapshot);
+        this.snapshot.getHud().update(WIDTH, HEIGHT, model.getScoreP1(), model.getScoreP2(), model.getCoin(),
+                model.getLivesP1(), model.getLivesP2(), model.getLevel(), model.getElapsedTime(),
+                model.getCurrentLevel().getLevelName(), model.getAchievementText(),
+                model.getHealthPopupText());
+    }
+
+    @Test
+    void testSteadyStateTickDoesNotAllocate() {
+        if (!this.threads.isThreadAllocatedMemorySupported()) return;
+        this.threads.setThreadAllocatedMemoryEnabled(true);
+
+        GameModel model = new GameModel(new GameState(1, 0, 3, 3, 0, 0, 0),
+                new Level(1, 8, 4, 60, 2000), false, 3, WIDTH, HEIGHT);
+        // Unlocking an achievement saves a file, depending on what earlier runs left on disk.
+        model.setAchievementListener((event, player, value) -> { });
+        model.initialize();
+        model.startTimer();
+        for (int i = 0; i < WARMUP_TICKS; i++)
+            tick(model, i);
+
+        long thread = Thread.currentThread().threadId();
+        long before = this.threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < MEASURED_TICKS; i++)
+            tick(model, WARMUP_TICKS + i);
+        long allocated = this.threads.getThreadAllocatedBytes(thread) - before;
+
+        assertTrue(allocated < MAX_BYTES, "Ticks allocated " + allocated + " bytes over "
+                + MEASURED_TICKS + " ticks.");
+    }
+}
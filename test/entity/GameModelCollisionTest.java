@@ -0,0 +1,44 @@
+package entity;
+
+import engine.GameClock;
+import engine.GameState;
+import engine.level.Level;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests contacts of the collision pass that are not handed out by the
+ * collision engine.
+ */
+class GameModelCollisionTest {
+
+    @AfterEach
+    void tearDown() {
+        GameClock.use(GameClock.WALL);
+    }
+
+    @Test
+    void testBossBulletsHitThePlayersOutsideTheGrid() {
+        GameModel model = new GameModel(new GameState(1, 0, 3, 3, 0, 0, 0),
+                new Level(1, 8, 4, 60, 2000), false, 3, 448, 560);
+        model.initialize();
+        Ship ship = model.getShip();
+        BulletStore bossBullets = model.getBossBullets();
+        // Many bullets far from the ships, so the batch spans several vectors.
+        for (int k = 0; k < 40; k++)
+            bossBullets.addBossBullet(10 * k, 200, 0, 0, 6, 10, Color.YELLOW);
+        bossBullets.addBossBullet(ship.getPositionX() + ship.getWidth() / 2,
+                ship.getPositionY() + ship.getHeight() / 2, 0, 0, 6, 10, Color.YELLOW);
+        int lives = model.getLivesP1();
+
+        model.beginTick();
+        model.updateGameWorld();
+
+        assertEquals(lives - 1, model.getLivesP1(), "The bullet on the ship should hit it.");
+        assertEquals(40, bossBullets.size(), "Only the bullet that hit should be removed.");
+    }
+}
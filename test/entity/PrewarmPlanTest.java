@@ -0,0 +1,81 @@
+package entity;
+
+import engine.level.Level;
+import entity.pool.Pools;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that prewarming covers the estimated demand of a level.
+ */
+class PrewarmPlanTest {
+
+    private static final int FIELD_HEIGHT = 650;
+
+    @AfterEach
+    void tearDown() {
+        ShopItem.resetAllItems();
+    }
+
+    @Test
+    void testDemandUpToThePlanDoesNotAllocate() {
+        PrewarmPlan plan = PrewarmPlan.forLevel(new Level(1, 5, 4, 60, 2000), FIELD_HEIGHT);
+        BulletStore bullets = new BulletStore(1);
+        BulletStore bossBullets = new BulletStore(1);
+        plan.apply(bullets, bossBullets);
+        Pools.resetCounters();
+
+        for (int k = 0; k < plan.getBullets(); k++)
+            bullets.add(100, 300, -6);
+        List<LaserBullet> lasers = new ArrayList<LaserBullet>();
+        for (int k = 0; k < plan.getLasers(); k++)
+            lasers.add(Pools.LASERS.acquire());
+
+        assertEquals(0, bullets.getGrowths(), "The reserved store should not grow.");
+        assertEquals(0, Pools.LASERS.getMisses(), "Prewarmed lasers should all be hits.");
+        for (LaserBullet laser : lasers)
+            Pools.LASERS.release(laser);
+    }
+
+    @Test
+    void testBulletEstimateGrowsWithMultiShot() {
+        Level level = new Level(1, 5, 4, 60, 2000);
+        int single = PrewarmPlan.forLevel(level, FIELD_HEIGHT).getBullets();
+
+        ShopItem.setMultiShotLevel(2);
+        int multi = PrewarmPlan.forLevel(level, FIELD_HEIGHT).getBullets();
+
+        assertTrue(multi > single, "More bullets per shot should need a bigger store.");
+    }
+
+    @Test
+    void testLevelWithoutBossNeedsNoBossBullets() {
+        PrewarmPlan plan = PrewarmPlan.forLevel(new Level(1, 5, 4, 60, 2000), FIELD_HEIGHT);
+
+        assertEquals(0, plan.getBossBullets());
+        assertEquals(0, plan.getLasers());
+        assertEquals(0, plan.getItems(), "A level without item drops should not prewarm items.");
+    }
+
+    @Test
+    void testFinalBossNeedsFollowItsPatterns() {
+        Map<String, Object> map = new HashMap<String, Object>();
+        map.put("level", 5);
+        map.put("bossId", "finalBoss");
+        Level level = new Level(map);
+
+        PrewarmPlan plan = PrewarmPlan.forLevel(level, FIELD_HEIGHT);
+        // Lasers fired every 400 ms, charging for 200 ms and staying for 1000 ms.
+        assertEquals(4, plan.getLasers());
+        assertTrue(plan.getBossBullets() > 0);
+        assertTrue(PrewarmPlan.forLevel(level, FIELD_HEIGHT * 2).getBossBullets() > plan.getBossBullets(),
+                "Bullets stay on a taller field longer, so more are on screen at once.");
+    }
+}
@@ -5,8 +5,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.awt.Color;
-import java.util.HashSet;
-import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -140,21 +138,21 @@ class ShipTest {
     void testShoot_Success() {
         // --- 1. Arrange ---
         Ship ship = new Ship(100, 100, Color.GREEN);
-        Set<Bullet> bullets = new HashSet<>();
+        BulletStore bullets = new BulletStore();
 
         // --- 2. Act ---
         boolean shot = ship.shoot(bullets);
 
         // --- 3. Assert ---
         assertTrue(shot, "Should be successful in shooting.");
-        assertEquals(1, bullets.size(), "A bullet should be added to the set.");
+        assertEquals(1, bullets.size(), "A bullet should be added to the store.");
     }
 
     @Test
     void testShoot_Cooldown() {
         // --- 1. Arrange ---
         Ship ship = new Ship(100, 100, Color.GREEN);
-        Set<Bullet> bullets = new HashSet<>();
+        BulletStore bullets = new BulletStore();
         ship.shoot(bullets); // First shot (success)
         assertEquals(1, bullets.size());
 
@@ -170,7 +168,7 @@ class ShipTest {
     void testShoot_AfterCooldown() throws InterruptedException {
         // --- 1. Arrange ---
         Ship ship = new Ship(100, 100, Color.GREEN);
-        Set<Bullet> bullets = new HashSet<>();
+        BulletStore bullets = new BulletStore();
         ship.shoot(bullets); // First shot (success)
 
         // --- 2. Act ---
@@ -179,6 +177,6 @@ class ShipTest {
 
         // --- 3. Assert ---
         assertTrue(shot2, "Should be able to shoot again after cooldown.");
-        assertEquals(2, bullets.size(), "The second bullet should be added to the set.");
+        assertEquals(2, bullets.size(), "The second bullet should be added to the store.");
     }
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+package entity.collision;
+
+import entity.Entity;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that every broadphase reports the same pairs in the same order over
+ * a moving scene.
+ */
+class CollisionEngineTest {
+
+    private static final int WIDTH = 1228;
+    private static final int HEIGHT = 700;
+
+    /** Entity on a given layer that moves by a fixed step every tick. */
+    private static final class Mover extends Entity {
+        private final CollisionLayer layer;
+        private final int stepX;
+        private final int stepY;
+
+        Mover(final int x, final int y, final int w, final int h, final CollisionLayer layer,
+              final int stepX, final int stepY) {
+            super(x, y, w, h, Color.WHITE);
+            this.layer = layer;
+            this.stepX = stepX;
+            this.stepY = stepY;
+        }
+
+        @Override
+        public CollisionLayer getCollisionLayer() {
+            return layer;
+        }
+
+        void step() {
+            setPositionX(getPositionX() + stepX);
+            setPositionY(getPositionY() + stepY);
+        }
+    }
+
+    /** A formation, two players and a stream of bullets, like a wave. */
+    private static final class Scene {
+        private final Random random;
+        private final List<Mover> players = new ArrayList<>();
+        private final List<Mover> enemies = new ArrayList<>();
+        private final List<Mover> bullets = new ArrayList<>();
+        private final int bulletCount;
+        private int tick;
+
+        Scene(final int columns, final int rows, final int bulletCount, final long seed) {
+            this.random = new Random(seed);
+            this.bulletCount = bulletCount;
+            players.add(new Mover(300, 620, 26, 16, CollisionLayer.PLAYER, 0, 0));
+            players.add(new Mover(700, 620, 26, 16, CollisionLayer.PLAYER, 0, 0));
+            for (int c = 0; c < columns; c++)
+                for (int r = 0; r < rows; r++)
+                    enemies.add(new Mover(20 + c * 40, 100 + r * 40, 24, 16, CollisionLayer.ENEMY, 0, 0));
+            while (bullets.size() < bulletCount)
+                bullets.add(newBullet());
+        }
+
+        private Mover newBullet() {
+            boolean player = random.nextBoolean();
+            return new Mover(random.nextInt(WIDTH), 60 + random.nextInt(HEIGHT - 60), 6, 10,
+                    player ? CollisionLayer.PLAYER_BULLET : CollisionLayer.ENEMY_BULLET,
+                    0, player ? -5 : 5);
+        }
+
+        /** Moves everything and replaces the bullets that left the field. */
+        void step() {
+            tick++;
+            int formationStep = (tick / 40) % 2 == 0 ? 8 : -8;
+            for (Mover enemy : enemies)
+                enemy.setPositionX(enemy.getPositionX() + (tick % 10 == 0 ? formationStep : 0));
+            players.get(0).setPositionX(300 + (tick * 3) % 400);
+            for (int i = 0; i < bullets.size(); i++) {
+                bullets.get(i).step();
+                int y = bullets.get(i).getPositionY();
+                if (y < 40 || y > HEIGHT)
+                    bullets.set(i, newBullet());
+            }
+        }
+
+        /** Entity list in the order the game builds it. */
+        List<Entity> entities() {
+            List<Entity> list = new ArrayList<>(players);
+            list.addAll(enemies);
+            list.addAll(bullets);
+            return list;
+        }
+    }
+
+    /** Colliding pairs reported by an engine, narrowphase included. */
+    private static List<Long> pairs(final CollisionEngine engine, final List<Entity> entities) {
+        List<Long> pairs = new ArrayList<>();
+        engine.build(entities);
+        for (int i = 0; i < entities.size(); i++) {
+            int candidates = engine.queryCandidates(i);
+            for (int k = 0; k < candidates; k++) {
+                int j = engine.getCandidate(k);
+                if (Collisions.overlaps(entities.get(i), entities.get(j)))
+                    pairs.add(((long) i << 32) | j);
+            }
+        }
+        return pairs;
+    }
+
+    @Test
+    void testEnginesAgreeOverMovingScene() {
+        CollisionEngine bruteForce = CollisionEngine.Type.BRUTE_FORCE.create(WIDTH, HEIGHT);
+        CollisionEngine grid = CollisionEngine.Type.GRID.create(WIDTH, HEIGHT);
+        CollisionEngine sweep = CollisionEngine.Type.SWEEP_AND_PRUNE.create(WIDTH, HEIGHT);
+        Scene scene = new Scene(8, 5, 600, 1);
+        int collisions = 0;
+        for (int tick = 0; tick < 120; tick++) {
+            List<Entity> entities = scene.entities();
+            List<Long> expected = pairs(bruteForce, entities);
+            assertEquals(expected, pairs(grid, entities), "Grid at tick " + tick);
+            assertEquals(expected, pairs(sweep, entities), "Sweep and prune at tick " + tick);
+            collisions += expected.size();
+            scene.step();
+        }
+        assertTrue(collisions > 0, "The scene should produce some collisions.");
+    }
+}
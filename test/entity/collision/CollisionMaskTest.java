@@ -0,0 +1,118 @@
+package entity.collision;
+
+import entity.Entity;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the bit-packed sprite masks against a per-pixel check.
+ */
+class CollisionMaskTest {
+
+    /** Ring-shaped sprite, as large as the final boss, hollow in the middle. */
+    private static boolean[][] ring(final int w, final int h) {
+        boolean[][] sprite = new boolean[w][h];
+        for (int x = 0; x < w; x++)
+            for (int y = 0; y < h; y++)
+                sprite[x][y] = x < 3 || y < 3 || x >= w - 3 || y >= h - 3;
+        return sprite;
+    }
+
+    /** Random sprite with about half the pixels set. */
+    private static boolean[][] noise(final int w, final int h, final Random random) {
+        boolean[][] sprite = new boolean[w][h];
+        for (int x = 0; x < w; x++)
+            for (int y = 0; y < h; y++)
+                sprite[x][y] = random.nextBoolean();
+        return sprite;
+    }
+
+    /** Reference test, one screen pixel at a time. */
+    private static boolean perPixel(final Entity a, final CollisionMask maskA,
+                                    final Entity b, final CollisionMask maskB) {
+        for (int y = Math.max(a.getPositionY(), b.getPositionY());
+             y < Math.min(a.getPositionY() + a.getHeight(), b.getPositionY() + b.getHeight()); y++)
+            for (int x = Math.max(a.getPositionX(), b.getPositionX());
+                 x < Math.min(a.getPositionX() + a.getWidth(), b.getPositionX() + b.getWidth()); x++) {
+                boolean solidA = maskA == null || maskA.isSolid(x - a.getPositionX(), y - a.getPositionY());
+                boolean solidB = maskB == null || maskB.isSolid(x - b.getPositionX(), y - b.getPositionY());
+                if (solidA && solidB)
+                    return true;
+            }
+        return false;
+    }
+
+    @Test
+    void testMaskIsDrawnSize() {
+        CollisionMask mask = CollisionMask.fromSprite(ring(50, 40), CollisionMask.SCALE);
+        assertEquals(100, mask.getWidth());
+        assertEquals(80, mask.getHeight());
+        assertTrue(mask.isSolid(0, 0));
+        assertTrue(mask.isSolid(5, 40));
+        assertFalse(mask.isSolid(6, 40), "Sprite pixel 3 starts at screen pixel 6.");
+        assertTrue(mask.isSolid(99, 79));
+    }
+
+    @Test
+    void testEmptySpriteHasNoMask() {
+        assertNull(CollisionMask.fromSprite(new boolean[3][5], CollisionMask.SCALE),
+                "A sprite that failed to load should keep the bounding box.");
+    }
+
+    @Test
+    void testBulletInsideHollowBossMisses() {
+        CollisionMask boss = CollisionMask.fromSprite(ring(50, 40), CollisionMask.SCALE);
+        Entity bossBounds = new Entity(100, 50, 100, 80, Color.RED);
+        Entity bullet = new Entity(140, 80, 6, 10, Color.WHITE);
+        assertTrue(Collisions.overlaps(bossBounds, bullet), "Boxes overlap.");
+        assertFalse(CollisionMask.overlap(bossBounds, boss, bullet, null), "Bullet is in the hollow part.");
+
+        Entity edgeBullet = new Entity(196, 80, 6, 10, Color.WHITE);
+        assertTrue(CollisionMask.overlap(bossBounds, boss, edgeBullet, null), "Bullet touches the right edge.");
+    }
+
+    @Test
+    void testMatchesPerPixelCheck() {
+        Random random = new Random(7);
+        for (int n = 0; n < 2000; n++) {
+            int wa = 1 + random.nextInt(50);
+            int ha = 1 + random.nextInt(40);
+            int wb = 1 + random.nextInt(50);
+            int hb = 1 + random.nextInt(40);
+            CollisionMask maskA = CollisionMask.fromSprite(noise(wa, ha, random), CollisionMask.SCALE);
+            CollisionMask maskB = random.nextInt(4) == 0 ? null
+                    : CollisionMask.fromSprite(noise(wb, hb, random), CollisionMask.SCALE);
+            Entity a = new Entity(random.nextInt(120), random.nextInt(100), wa * 2, ha * 2, Color.WHITE);
+            Entity b = new Entity(random.nextInt(120), random.nextInt(100), wb * 2, hb * 2, Color.WHITE);
+            assertEquals(perPixel(a, maskA, b, maskB), CollisionMask.overlap(a, maskA, b, maskB),
+                    "Pair " + n);
+        }
+    }
+
+    @Test
+    void testMaskRejectsBulletsInTheHollow() {
+        CollisionMask boss = CollisionMask.fromSprite(ring(50, 40), CollisionMask.SCALE);
+        CollisionMask shot = CollisionMask.fromSprite(new boolean[][] {
+                {false, true, true, true, false}, {true, true, true, true, true}, {false, true, true, true, false}},
+                CollisionMask.SCALE);
+        Random random = new Random(3);
+        Entity bossBounds = new Entity(200, 100, 100, 80, Color.RED);
+
+        int boxHits = 0;
+        int maskHits = 0;
+        for (int i = 0; i < 4096; i++) {
+            Entity bullet = new Entity(190 + random.nextInt(120), 90 + random.nextInt(100), 6, 10, Color.WHITE);
+            if (Collisions.overlaps(bossBounds, bullet)) {
+                boxHits++;
+                if (CollisionMask.overlap(bossBounds, boss, bullet, shot))
+                    maskHits++;
+            }
+        }
+        assertTrue(maskHits > 0, "Bullets on the ring should still hit.");
+        assertTrue(maskHits < boxHits, "Mask should reject bullets in the hollow of the boss.");
+    }
+}
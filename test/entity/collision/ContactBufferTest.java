@@ -0,0 +1,32 @@
+package entity.collision;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the contact buffer used between detection and resolution.
+ */
+class ContactBufferTest {
+
+    @Test
+    void testContactsKeepDetectionOrderWhileGrowing() {
+        ContactBuffer contacts = new ContactBuffer();
+        for (int i = 0; i < 1000; i++)
+            contacts.add(i, i + 1);
+
+        assertEquals(1000, contacts.size());
+        for (int k = 0; k < contacts.size(); k++) {
+            assertEquals(k, contacts.getFirst(k));
+            assertEquals(k + 1, contacts.getSecond(k));
+        }
+    }
+
+    @Test
+    void testClearKeepsNothing() {
+        ContactBuffer contacts = new ContactBuffer();
+        contacts.add(0, 1);
+        contacts.clear();
+        assertEquals(0, contacts.size());
+    }
+}
@@ -0,0 +1,76 @@
+package entity.collision;
+
+import entity.Entity;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the beam shape against a sampled distance check.
+ */
+class LineSegmentTest {
+
+    /** True if some sampled point of the box lies within the beam. */
+    private static boolean sampled(final double cx, final double cy, final double tx, final double ty,
+                                   final double halfLength, final double halfWidth, final Entity box) {
+        double len = Math.hypot(tx - cx, ty - cy);
+        double ux = (tx - cx) / len;
+        double uy = (ty - cy) / len;
+        for (double x = box.getPositionX(); x <= box.getPositionX() + box.getWidth(); x += 0.25)
+            for (double y = box.getPositionY(); y <= box.getPositionY() + box.getHeight(); y += 0.25) {
+                double along = (x - cx) * ux + (y - cy) * uy;
+                double across = (y - cy) * ux - (x - cx) * uy;
+                if (Math.abs(along) <= halfLength && Math.abs(across) <= halfWidth)
+                    return true;
+            }
+        return false;
+    }
+
+    @Test
+    void testDiagonalBeamThroughShip() {
+        LineSegment beam = new LineSegment(200, 300, 0, 100, 2000, 1);
+        assertTrue(beam.intersects(new Entity(287, 380, 26, 16, Color.GREEN)), "Ship on the diagonal.");
+        assertFalse(beam.intersects(new Entity(330, 380, 26, 16, Color.GREEN)), "Ship beside the diagonal.");
+        assertTrue(beam.intersects(new Entity(-1200, -1095, 26, 16, Color.GREEN)), "Far along the beam.");
+    }
+
+    @Test
+    void testShortSegmentEndsStopHits() {
+        LineSegment segment = new LineSegment(100, 100, 200, 100, 20, 1);
+        assertTrue(segment.intersects(new Entity(115, 95, 10, 10, Color.GREEN)));
+        assertFalse(segment.intersects(new Entity(125, 95, 10, 10, Color.GREEN)), "Past the end of the segment.");
+    }
+
+    @Test
+    void testSameStartAndTargetNeverHits() {
+        LineSegment beam = new LineSegment(50, 50, 50, 50, 2000, 1);
+        assertFalse(beam.intersects(new Entity(40, 40, 26, 16, Color.GREEN)));
+    }
+
+    @Test
+    void testMatchesSampledCheck() {
+        Random random = new Random(11);
+        for (int n = 0; n < 3000; n++) {
+            double cx = random.nextInt(200);
+            double cy = random.nextInt(200);
+            double tx = cx + random.nextInt(200) - 100;
+            double ty = cy + random.nextInt(200) - 100;
+            if (tx == cx && ty == cy) continue;
+            double halfLength = 5 + random.nextInt(60);
+            Entity box = new Entity(random.nextInt(200), random.nextInt(200),
+                    1 + random.nextInt(30), 1 + random.nextInt(30), Color.GREEN);
+            LineSegment segment = new LineSegment(cx, cy, tx, ty, halfLength, 2);
+
+            boolean expected = sampled(cx, cy, tx, ty, halfLength, 2, box);
+            boolean actual = segment.intersects(box);
+            // Sampling can only miss touching contacts, never invent one.
+            if (expected) assertTrue(actual, "Segment " + n + " should hit.");
+            if (!actual) assertFalse(expected, "Segment " + n + " should miss.");
+            if (actual && !expected)
+                assertTrue(sampled(cx, cy, tx, ty, halfLength + 0.5, 2.5, box), "Segment " + n + " barely touches.");
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package entity.collision;
+
+import entity.Entity;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the scalar and SIMD packed box narrowphase against the scalar
+ * centre-distance test on a bullet-hell scene.
+ */
+class PackedBoundsTest {
+
+    /** Two ships, a formation, then boss bullets crowding the lower field. */
+    private static List<Entity> bulletHell(final int bossBullets, final long seed) {
+        Random random = new Random(seed);
+        List<Entity> entities = new ArrayList<>();
+        entities.add(new Entity(300, 620, 26, 16, Color.GREEN));
+        entities.add(new Entity(700, 620, 26, 16, Color.GREEN));
+        for (int c = 0; c < 10; c++)
+            for (int r = 0; r < 6; r++)
+                entities.add(new Entity(20 + c * 40, 100 + r * 40, 24, 16, Color.WHITE));
+        for (int i = 0; i < bossBullets; i++)
+            entities.add(new Entity(random.nextInt(1228), 80 + random.nextInt(620), 6, 10, Color.YELLOW));
+        return entities;
+    }
+
+    /** Every index from the first boss bullet on. */
+    private static int[] bulletIndices(final List<Entity> entities) {
+        int[] indices = new int[entities.size() - 62];
+        for (int k = 0; k < indices.length; k++)
+            indices[k] = 62 + k;
+        return indices;
+    }
+
+    @Test
+    void testFilterMatchesOverlaps() {
+        for (PackedBounds bounds : new PackedBounds[] {new PackedBounds(), PackedBounds.create()}) {
+            List<Entity> entities = bulletHell(3000, 5);
+            bounds.pack(entities);
+            int[] candidates = bulletIndices(entities);
+            int[] hits = new int[candidates.length];
+            for (int probe = 0; probe < 62; probe++) {
+                List<Integer> expected = new ArrayList<>();
+                for (int j : candidates)
+                    if (Collisions.overlaps(entities.get(probe), entities.get(j)))
+                        expected.add(j);
+                int count = bounds.filter(probe, candidates, candidates.length, hits);
+                List<Integer> actual = new ArrayList<>();
+                for (int k = 0; k < count; k++)
+                    actual.add(hits[k]);
+                assertEquals(expected, actual, "Probe " + probe + ", vectorized " + bounds.isVectorized());
+            }
+        }
+    }
+
+    @Test
+    void testFilterBoxesMatchesOverlaps() {
+        for (PackedBounds bounds : new PackedBounds[] {new PackedBounds(), PackedBounds.create()}) {
+            List<Entity> entities = bulletHell(3000, 11);
+            bounds.pack(entities);
+            // The bullets as a store keeps them: corner and size arrays.
+            int n = entities.size() - 62;
+            int[] x = new int[n], y = new int[n], w = new int[n], h = new int[n];
+            for (int k = 0; k < n; k++) {
+                Entity e = entities.get(62 + k);
+                x[k] = e.getPositionX();
+                y[k] = e.getPositionY();
+                w[k] = e.getWidth();
+                h[k] = e.getHeight();
+            }
+            int[] hits = new int[n];
+            for (int probe = 0; probe < 62; probe++) {
+                List<Integer> expected = new ArrayList<>();
+                for (int k = 0; k < n; k++)
+                    if (Collisions.overlaps(entities.get(probe), entities.get(62 + k)))
+                        expected.add(k);
+                int count = bounds.filterBoxes(probe, x, y, w, h, n, hits);
+                List<Integer> actual = new ArrayList<>();
+                for (int k = 0; k < count; k++)
+                    actual.add(hits[k]);
+                assertEquals(expected, actual, "Probe " + probe + ", vectorized " + bounds.isVectorized());
+            }
+        }
+    }
+
+    @Test
+    void testFilterInPlace() {
+        PackedBounds bounds = PackedBounds.create();
+        List<Entity> entities = bulletHell(500, 9);
+        bounds.pack(entities);
+        int[] candidates = bulletIndices(entities);
+        int[] copy = candidates.clone();
+        int[] hits = new int[candidates.length];
+        int expected = bounds.filter(0, copy, copy.length, hits);
+        int actual = bounds.filter(0, candidates, candidates.length, candidates);
+        assertEquals(expected, actual);
+        for (int k = 0; k < actual; k++)
+            assertEquals(hits[k], candidates[k]);
+    }
+}
@@ -0,0 +1,156 @@
+package entity.collision;
+
+import entity.Entity;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the uniform-grid broadphase against the full pairwise scan, and
+ * checks that it needs fewer pair tests per tick.
+ */
+class UniformGridTest {
+
+    /** Play field of the tests, close to the default window. */
+    private static final int WIDTH = 1228;
+    private static final int HEIGHT = 700;
+
+    /** Plain entity placed on a given collision layer. */
+    private static Entity entity(final int x, final int y, final int w, final int h,
+                                 final CollisionLayer layer) {
+        return new Entity(x, y, w, h, Color.WHITE) {
+            @Override
+            public CollisionLayer getCollisionLayer() {
+                return layer;
+            }
+        };
+    }
+
+    /**
+     * Builds a field of bullet-sized and ship-sized entities on random
+     * layers, with a few of them outside the play field and a few without a
+     * layer at all.
+     */
+    private static List<Entity> randomEntities(final int count, final long seed) {
+        Random random = new Random(seed);
+        CollisionLayer[] layers = CollisionLayer.values();
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            boolean ship = random.nextInt(10) == 0;
+            int w = ship ? 26 : 6;
+            int h = ship ? 16 : 10;
+            int x = random.nextInt(WIDTH + 80) - 40;
+            int y = random.nextInt(HEIGHT + 80) - 40;
+            int l = random.nextInt(layers.length + 1);
+            entities.add(entity(x, y, w, h, l == layers.length ? null : layers[l]));
+        }
+        return entities;
+    }
+
+    /** True if the pair has a collision handler, as the layer matrix says. */
+    private static boolean interacts(final Entity a, final Entity b) {
+        return a.getCollisionLayer() != null && b.getCollisionLayer() != null
+                && a.getCollisionLayer().interactsWith(b.getCollisionLayer());
+    }
+
+    /** Same test GameModel uses on each candidate pair. */
+    private static boolean overlaps(final Entity a, final Entity b) {
+        int distanceX = Math.abs((a.getPositionX() + a.getWidth() / 2) - (b.getPositionX() + b.getWidth() / 2));
+        int distanceY = Math.abs((a.getPositionY() + a.getHeight() / 2) - (b.getPositionY() + b.getHeight() / 2));
+        return distanceX < a.getWidth() / 2 + b.getWidth() / 2
+                && distanceY < a.getHeight() / 2 + b.getHeight() / 2;
+    }
+
+    /**
+     * Interacting colliding pairs in the order the nested i &lt; j loop
+     * reports them.
+     */
+    private static List<Long> bruteForcePairs(final List<Entity> entities) {
+        List<Long> pairs = new ArrayList<>();
+        for (int i = 0; i < entities.size(); i++)
+            for (int j = i + 1; j < entities.size(); j++)
+                if (interacts(entities.get(i), entities.get(j))
+                        && overlaps(entities.get(i), entities.get(j)))
+                    pairs.add(((long) i << 32) | j);
+        return pairs;
+    }
+
+    /** Colliding pairs in the order the grid reports them. */
+    private static List<Long> gridPairs(final UniformGrid grid, final List<Entity> entities) {
+        List<Long> pairs = new ArrayList<>();
+        grid.build(entities);
+        for (int i = 0; i < entities.size(); i++) {
+            int candidates = grid.queryCandidates(i);
+            for (int k = 0; k < candidates; k++) {
+                int j = grid.getCandidate(k);
+                if (overlaps(entities.get(i), entities.get(j)))
+                    pairs.add(((long) i << 32) | j);
+            }
+        }
+        return pairs;
+    }
+
+    @Test
+    void testSamePairsInSameOrderAsBruteForce() {
+        UniformGrid grid = new UniformGrid(WIDTH, HEIGHT);
+        for (long seed = 1; seed <= 5; seed++) {
+            List<Entity> entities = randomEntities(800, seed);
+            assertEquals(bruteForcePairs(entities), gridPairs(grid, entities),
+                    "Grid must report exactly the pairs of the full scan, in order.");
+        }
+    }
+
+    @Test
+    void testLargeEntitySpanningManyCells() {
+        // A boss-sized entity must still meet a bullet in any cell it covers.
+        List<Entity> entities = new ArrayList<>();
+        entities.add(entity(300, 80, 100, 80, CollisionLayer.BOSS));
+        entities.add(entity(390, 150, 6, 10, CollisionLayer.PLAYER_BULLET));
+        UniformGrid grid = new UniformGrid(WIDTH, HEIGHT);
+        assertEquals(1, gridPairs(grid, entities).size(), "Bullet at the boss corner should be found.");
+    }
+
+    @Test
+    void testNonInteractingLayersNeverPaired() {
+        // Overlapping enemies, bullets and items have no handler between them.
+        List<Entity> entities = new ArrayList<>();
+        entities.add(entity(100, 100, 24, 16, CollisionLayer.ENEMY));
+        entities.add(entity(104, 100, 24, 16, CollisionLayer.ENEMY));
+        entities.add(entity(110, 104, 6, 10, CollisionLayer.ENEMY_BULLET));
+        entities.add(entity(110, 104, 6, 10, CollisionLayer.PLAYER_BULLET));
+        entities.add(entity(108, 102, 10, 10, CollisionLayer.ITEM));
+        entities.add(entity(108, 102, 10, 10, null));
+        UniformGrid grid = new UniformGrid(WIDTH, HEIGHT);
+        grid.resetPairTests();
+
+        assertEquals(List.of(3L, (1L << 32) | 3), gridPairs(grid, entities),
+                "Only the player bullet should be paired, with both enemies.");
+        assertEquals(2, grid.getPairTests(), "No other pair should even be tested.");
+    }
+
+    @Test
+    void testPairTestsPerTick() {
+        UniformGrid grid = new UniformGrid(WIDTH, HEIGHT);
+        for (int count : new int[] {50, 500, 5000}) {
+            List<Entity> entities = randomEntities(count, count);
+            long bruteForce = (long) count * (count - 1) / 2;
+            long interacting = 0;
+            for (int i = 0; i < count; i++)
+                for (int j = i + 1; j < count; j++)
+                    if (interacts(entities.get(i), entities.get(j)))
+                        interacting++;
+
+            grid.resetPairTests();
+            gridPairs(grid, entities);
+            long gridTests = grid.getPairTests();
+
+            assertTrue(interacting < bruteForce, "Layer matrix should rule out part of the pairs.");
+            assertTrue(gridTests < interacting, "Grid should need fewer pair tests than the filtered scan.");
+        }
+    }
+}
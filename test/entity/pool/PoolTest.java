@@ -0,0 +1,152 @@
+package entity.pool;
+
+import engine.GameClock;
+import engine.TickClock;
+import engine.GameState;
+import engine.level.Level;
+import entity.DropItem;
+import entity.EntityRegistry;
+import entity.GameModel;
+import entity.LaserBullet;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the bounded object pool and its counters.
+ */
+class PoolTest {
+
+    /** Mutable object standing in for a pooled entity. */
+    private static final class Box {
+        int value;
+    }
+
+    private static Pool<Box> pool(final int capacity) {
+        return new Pool<Box>(Box::new, box -> box.value = 0, capacity);
+    }
+
+    @Test
+    void testReleasedObjectIsReusedAndReset() {
+        Pool<Box> pool = pool(4);
+        Box first = pool.acquire();
+        first.value = 42;
+        pool.release(first);
+
+        Box second = pool.acquire();
+
+        assertSame(first, second, "A released object should be handed out again.");
+        assertEquals(0, second.value, "The reset hook should have cleared it.");
+        assertEquals(1, pool.getHits());
+        assertEquals(1, pool.getMisses());
+        assertEquals(1, pool.getAllocations());
+    }
+
+    @Test
+    void testCapacityBoundsIdleObjects() {
+        Pool<Box> pool = pool(2);
+        List<Box> boxes = new ArrayList<>();
+        for (int i = 0; i < 5; i++)
+            boxes.add(pool.acquire());
+        for (Box box : boxes)
+            pool.release(box);
+
+        assertEquals(2, pool.getIdle());
+        assertEquals(3, pool.getDiscards());
+        assertEquals(0, pool.getInUse());
+    }
+
+    @Test
+    void testTrimShrinksToHighWaterMark() {
+        Pool<Box> pool = pool(64);
+        List<Box> boxes = new ArrayList<>();
+        // A burst of 40, then steady use of 3 per window.
+        for (int i = 0; i < 40; i++)
+            boxes.add(pool.acquire());
+        for (Box box : boxes)
+            pool.release(box);
+        pool.trim();
+        assertEquals(40, pool.getIdle(), "The burst is still the peak of this window.");
+
+        boxes.clear();
+        for (int i = 0; i < 3; i++)
+            boxes.add(pool.acquire());
+        for (Box box : boxes)
+            pool.release(box);
+        pool.trim();
+
+        assertEquals(3, pool.getIdle(), "Idle objects should shrink to the last window's peak.");
+        assertEquals(40, pool.getAllocations(), "Steady use should not allocate.");
+    }
+
+    @Test
+    void testSharedPoolsSetUpObjects() {
+        int before = Pools.ITEMS.getInUse();
+        DropItem item = Pools.item(100, 50, 2, DropItem.ItemType.Shield, EntityRegistry.NONE);
+        assertEquals(100 - item.getWidth() / 2, item.getPositionX());
+        assertEquals(DropItem.ItemType.Shield, item.getItemType());
+        assertEquals(before + 1, Pools.ITEMS.getInUse());
+        item.markForRemoval();
+        Pools.ITEMS.release(item);
+        assertFalse(item.isMarkedForRemoval(), "Items should come back without their removal mark.");
+    }
+
+    @Test
+    void testPooledLaserRunsOnTheClockOfEachLevel() {
+        try {
+            for (int level = 0; level < 2; level++) {
+                // Every level installs a fresh clock, as GameModel.initialize does.
+                TickClock clock = new TickClock(60);
+                GameClock.use(clock);
+                LaserBullet laser = Pools.laser(0, 0, 10, 10, 100, 100);
+
+                int ticks = 0;
+                laser.update();
+                while (!laser.isActive() && ticks < 600) {
+                    clock.advance();
+                    laser.update();
+                    ticks++;
+                }
+                assertTrue(laser.isActive(), "Laser of level " + level + " turns red.");
+                while (!laser.shouldBeRemoved() && ticks < 600) {
+                    clock.advance();
+                    laser.update();
+                    ticks++;
+                }
+                assertTrue(laser.shouldBeRemoved(), "Laser of level " + level + " expires.");
+                Pools.LASERS.release(laser);
+            }
+        } finally {
+            GameClock.use(GameClock.WALL);
+        }
+    }
+
+    @Test
+    void testLevelEndReturnsLiveEntitiesToThePools() {
+        try {
+            GameModel model = new GameModel(new GameState(1, 0, 3, 3, 0, 0, 0),
+                    new Level(1, 8, 4, 60, 2000), false, 3, 448, 560);
+            model.setAchievementListener((event, player, value) -> { });
+            model.initialize();
+            int items = Pools.ITEMS.getInUse();
+            int lasers = Pools.LASERS.getInUse();
+            int ships = Pools.SPECIAL_SHIPS.getInUse();
+            // Still falling and still firing when the level ends.
+            model.getDropItems().add(Pools.item(100, 50, 2, DropItem.ItemType.Shield, EntityRegistry.NONE));
+            model.getBossLasers().add(Pools.laser(0, 0, 10, 10, 100, 100));
+
+            model.releasePooledEntities();
+
+            assertTrue(model.getDropItems().isEmpty());
+            assertTrue(model.getBossLasers().isEmpty());
+            assertEquals(items, Pools.ITEMS.getInUse(), "The falling item should be back in its pool.");
+            assertEquals(lasers, Pools.LASERS.getInUse(), "The laser should be back in its pool.");
+            assertEquals(ships - 2, Pools.SPECIAL_SHIPS.getInUse(), "Both bonus ships should be back in their pool.");
+        } finally {
+            GameClock.use(GameClock.WALL);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package entity.collision;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD implementation of {@link PackedBounds}. One probe is tested against a
+ * full vector of unpacked boxes per step, 8 lanes with AVX2 and 16 with
+ * AVX-512, read with plain contiguous loads; the last partial vector falls
+ * back to the scalar loop.
+ * <p>
+ * Candidate lists keep the scalar {@link #filter} loop. Reading them with
+ * gathers, while filtering the list in place as the collision pass does,
+ * crashed the C2 compiled code of JDK 21.0.1 with a SIGSEGV.
+ * </p>
+ * <p>
+ * Only created through {@link PackedBounds#create()}, which checks that the
+ * incubator module is present. Compiled on its own against that module, so
+ * the default build never warns about incubating modules.
+ * </p>
+ */
+final class VectorPackedBounds extends PackedBounds {
+
+	/** Widest integer vector shape of this machine. */
+	private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+	@Override
+	public boolean isVectorized() {
+		return true;
+	}
+
+	@Override
+	public int filterBoxes(final int probe, final int[] x, final int[] y, final int[] width,
+			final int[] height, final int count, final int[] hits) {
+		int lanes = SPECIES.length();
+		int px = this.centerX[probe];
+		int py = this.centerY[probe];
+		int pw = this.halfWidth[probe];
+		int ph = this.halfHeight[probe];
+		int n = 0;
+		int k = 0;
+
+		for (; k + lanes <= count; k += lanes) {
+			// Sizes are never negative, so a shift halves them like the scalar division.
+			IntVector hw = IntVector.fromArray(SPECIES, width, k).lanewise(VectorOperators.ASHR, 1);
+			IntVector cx = IntVector.fromArray(SPECIES, x, k).add(hw);
+			VectorMask<Integer> overlap = cx.sub(px).lanewise(VectorOperators.ABS).lt(hw.add(pw));
+			if (!overlap.anyTrue())
+				continue;
+			IntVector hh = IntVector.fromArray(SPECIES, height, k).lanewise(VectorOperators.ASHR, 1);
+			IntVector cy = IntVector.fromArray(SPECIES, y, k).add(hh);
+			overlap = overlap.and(cy.sub(py).lanewise(VectorOperators.ABS).lt(hh.add(ph)));
+
+			long bits = overlap.toLong();
+			while (bits != 0) {
+				hits[n++] = k + Long.numberOfTrailingZeros(bits);
+				bits &= bits - 1;
+			}
+		}
+		return filterBoxesScalar(probe, x, y, width, height, k, count, hits, n);
+	}
+}